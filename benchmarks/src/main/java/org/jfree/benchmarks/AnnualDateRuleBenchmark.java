@@ -0,0 +1,127 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * AnnualDateRuleBenchmark.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.daydate.Day;
+import org.jfree.daydate.WeekdayRange;
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.CachedAnnualDateRule;
+import org.jfree.date.DayDate;
+import org.jfree.date.EasterSundayRule;
+import org.jfree.date.RelativeDayOfWeekRule;
+
+/**
+ * Benchmarks for evaluating Good Friday (the Friday before Easter Sunday)
+ * for a few years again and again, with and without a 
+ * {@link CachedAnnualDateRule}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnualDateRuleBenchmark {
+
+    /** Good Friday, calculated each time. */
+    private final AnnualDateRule goodFriday = new RelativeDayOfWeekRule(
+            new EasterSundayRule(), Day.FRIDAY.toInt(), WeekdayRange.LAST);
+
+    /** Good Friday, cached. */
+    private final AnnualDateRule cachedGoodFriday = new CachedAnnualDateRule(
+            this.goodFriday);
+
+    /** The next year. */
+    private int year;
+
+    /**
+     * Returns the next year in the range 2000 to 2029.
+     *
+     * @return The year.
+     */
+    private int nextYear() {
+        this.year = (this.year + 1) % 30;
+        return 2000 + this.year;
+    }
+
+    /**
+     * Creates the date with the rule.
+     *
+     * @return The date.
+     */
+    @Benchmark
+    public DayDate getDate() {
+        return this.goodFriday.getDate(nextYear());
+    }
+
+    /**
+     * Calculates the serial number with the rule.
+     *
+     * @return The serial number.
+     */
+    @Benchmark
+    public int getOrdinal() {
+        return this.goodFriday.getOrdinal(nextYear());
+    }
+
+    /**
+     * Looks up the serial number in the cache.
+     *
+     * @return The serial number.
+     */
+    @Benchmark
+    public int getCachedOrdinal() {
+        return this.cachedGoodFriday.getOrdinal(nextYear());
+    }
+
+}
@@ -0,0 +1,264 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * BaselineCheck.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Fail on benchmarks missing from the baseline and on 
+ *               scores with different units or modes;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compares a JMH JSON result file (written with <code>-rf json</code>)
+ * against a baseline file and exits with status 1 if any benchmark is slower
+ * than its baseline by more than the tolerance.  Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar org.jfree.benchmarks.BaselineCheck
+ *     baseline/jmh-baseline.json jmh-result.json [tolerance]
+ * </pre>
+ * The tolerance is a fraction and defaults to 0.10 (10 percent).
+ * The check also fails for a benchmark in the result file that has no
+ * baseline score (so that new benchmarks cannot go ungated), and for a
+ * benchmark whose unit or mode differs from the baseline.  Baseline
+ * benchmarks that were not run (for example, when a subset is selected with
+ * a regular expression) are reported and skipped.
+ */
+public class BaselineCheck {
+
+    /** The default tolerance. */
+    public static final double DEFAULT_TOLERANCE = 0.10;
+
+    /**
+     * Runs the check.
+     *
+     * @param args  the baseline file, the result file and (optionally) the
+     *              tolerance.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <baseline.json> "
+                    + "<result.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = DEFAULT_TOLERANCE;
+        if (args.length > 2) {
+            tolerance = Double.parseDouble(args[2]);
+        }
+        Map baseline = load(args[0]);
+        Map result = load(args[1]);
+        int regressions = 0;
+        int failures = 0;
+        Iterator iterator = result.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            String key = (String) entry.getKey();
+            Score current = (Score) entry.getValue();
+            Score base = (Score) baseline.get(key);
+            if (base == null) {
+                System.out.println("MISSING    " + key + " " + current
+                        + " (no baseline score)");
+                failures++;
+                continue;
+            }
+            if (!current.isComparable(base)) {
+                System.out.println("MISMATCH   " + key + " " + base + " ("
+                        + base.mode + ") -> " + current + " ("
+                        + current.mode + ")");
+                failures++;
+                continue;
+            }
+            double change = current.relativeChange(base);
+            String status = "OK        ";
+            if (change > tolerance) {
+                status = "REGRESSION";
+                regressions++;
+            }
+            System.out.println(status + " " + key + " " + base + " -> "
+                    + current + " (" + Math.round(change * 1000) / 10.0
+                    + "%)");
+        }
+        iterator = baseline.keySet().iterator();
+        while (iterator.hasNext()) {
+            String key = (String) iterator.next();
+            if (!result.containsKey(key)) {
+                System.out.println("NOT RUN    " + key);
+            }
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more "
+                    + "than " + Math.round(tolerance * 100) + "%.");
+        }
+        if (failures > 0) {
+            System.out.println(failures + " benchmark(s) have no comparable "
+                    + "baseline score.");
+        }
+        if ((regressions > 0) || (failures > 0)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the scores from a JMH JSON result file, keyed on the benchmark
+     * name and its parameters.
+     *
+     * @param file  the file name.
+     *
+     * @return A map of keys to {@link Score} instances.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static Map load(String file) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(file),
+                "UTF-8");
+        try {
+            JsonArray runs = JsonParser.parseReader(reader).getAsJsonArray();
+            Map result = new LinkedHashMap();
+            for (int i = 0; i < runs.size(); i++) {
+                JsonObject run = runs.get(i).getAsJsonObject();
+                StringBuffer key = new StringBuffer(
+                        run.get("benchmark").getAsString());
+                JsonElement params = run.get("params");
+                if (params != null) {
+                    Iterator it = params.getAsJsonObject().entrySet()
+                            .iterator();
+                    while (it.hasNext()) {
+                        Map.Entry p = (Map.Entry) it.next();
+                        key.append(':').append(p.getKey()).append('=')
+                                .append(((JsonElement) p.getValue())
+                                .getAsString());
+                    }
+                }
+                JsonObject metric = run.getAsJsonObject("primaryMetric");
+                result.put(key.toString(), new Score(
+                        metric.get("score").getAsDouble(),
+                        metric.get("scoreUnit").getAsString(),
+                        run.get("mode").getAsString()));
+            }
+            return result;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * A benchmark score.
+     */
+    static class Score {
+
+        /** The score. */
+        final double score;
+
+        /** The unit. */
+        final String unit;
+
+        /** The JMH mode ("thrpt", "avgt", "sample" or "ss"). */
+        final String mode;
+
+        /**
+         * Creates a new score.
+         *
+         * @param score  the score.
+         * @param unit  the unit.
+         * @param mode  the mode.
+         */
+        Score(double score, String unit, String mode) {
+            this.score = score;
+            this.unit = unit;
+            this.mode = mode;
+        }
+
+        /**
+         * Returns <code>true</code> if this score can be compared with
+         * another score, that is, if both have the same unit and mode.
+         *
+         * @param other  the other score.
+         *
+         * @return A boolean.
+         */
+        boolean isComparable(Score other) {
+            return this.unit.equals(other.unit)
+                    && this.mode.equals(other.mode);
+        }
+
+        /**
+         * Returns the relative slowdown of this score compared with a
+         * baseline score.  Positive values are slower, whatever the mode.
+         *
+         * @param base  the baseline (must have the same unit and mode).
+         *
+         * @return The relative slowdown.
+         */
+        double relativeChange(Score base) {
+            if (!isComparable(base)) {
+                throw new IllegalArgumentException("Cannot compare "
+                        + base + " (" + base.mode + ") with " + this + " ("
+                        + this.mode + ").");
+            }
+            if ("thrpt".equals(this.mode)) {
+                return base.score / this.score - 1.0;
+            }
+            return this.score / base.score - 1.0;
+        }
+
+        /**
+         * Returns a string representing the score.
+         *
+         * @return A string.
+         */
+        public String toString() {
+            return Math.round(this.score * 1000) / 1000.0 + " " + this.unit;
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * BusinessCalendarBenchmark.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.daydate.Day;
+import org.jfree.daydate.WeekdayRange;
+import org.jfree.date.AnnualDateRule;
+import org.jfree.date.BusinessCalendar;
+import org.jfree.date.DayAndMonthRule;
+import org.jfree.date.EasterSundayRule;
+import org.jfree.date.MonthConstants;
+import org.jfree.date.RelativeDayOfWeekRule;
+
+/**
+ * Benchmarks for settlement date calculations with a 
+ * {@link BusinessCalendar} over a batch of trade dates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessCalendarBenchmark {
+
+    /** The number of trades in a batch. */
+    private static final int BATCH = 1000;
+
+    /** The calendar. */
+    private BusinessCalendar calendar;
+
+    /** The serial numbers of the trade dates (2000 to 2030). */
+    private int[] trades;
+
+    /** The settlement dates. */
+    private int[] result;
+
+    /**
+     * Creates the calendar and the trade dates.
+     */
+    @Setup
+    public void setUp() {
+        final AnnualDateRule easter = new EasterSundayRule();
+        this.calendar = new BusinessCalendar(new AnnualDateRule[] {
+            new DayAndMonthRule(1, MonthConstants.JANUARY),
+            new RelativeDayOfWeekRule(easter, Day.FRIDAY.toInt(),
+                    WeekdayRange.LAST),
+            new RelativeDayOfWeekRule(easter, Day.MONDAY.toInt(),
+                    WeekdayRange.NEXT),
+            new DayAndMonthRule(25, MonthConstants.DECEMBER),
+            new DayAndMonthRule(26, MonthConstants.DECEMBER)
+        }, 1999, 2031);
+        final Random random = new Random(1L);
+        this.trades = new int[BATCH];
+        this.result = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            this.trades[i] = 36526 + random.nextInt(30 * 365);
+        }
+    }
+
+    /**
+     * Calculates a T+2 settlement date for each trade.
+     *
+     * @return The settlement dates.
+     */
+    @Benchmark
+    public int[] addBusinessDays() {
+        for (int i = 0; i < BATCH; i++) {
+            this.result[i] = this.calendar.addBusinessDays(this.trades[i], 2);
+        }
+        return this.result;
+    }
+
+    /**
+     * Calculates a T+2 settlement date for each trade by stepping through
+     * the days one at a time.
+     *
+     * @return The settlement dates.
+     */
+    @Benchmark
+    public int[] stepBusinessDays() {
+        for (int i = 0; i < BATCH; i++) {
+            int s = this.trades[i];
+            for (int n = 0; n < 2; n++) {
+                s++;
+                while (!this.calendar.isBusinessDay(s)) {
+                    s++;
+                }
+            }
+            this.result[i] = s;
+        }
+        return this.result;
+    }
+
+    /**
+     * Counts the business days from each trade date to the end of the
+     * following year.
+     *
+     * @return The counts.
+     */
+    @Benchmark
+    public int[] businessDaysBetween() {
+        for (int i = 0; i < BATCH; i++) {
+            this.result[i] = this.calendar.businessDaysBetween(
+                    this.trades[i], this.trades[i] + 500);
+        }
+        return this.result;
+    }
+
+}
@@ -0,0 +1,117 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * DateRangeCursorBenchmark.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.daydate.Day;
+import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.WeekInMonth;
+import org.jfree.date.DateRangeCursor;
+import org.jfree.date.DayDate;
+
+/**
+ * Benchmarks for generating a schedule (the third Wednesday of each month
+ * for 30 years) by stepping through {@link DayDate} objects and with a 
+ * {@link DateRangeCursor}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateRangeCursorBenchmark {
+
+    /** The first day (1-Jan-2000). */
+    private static final int START = 36526;
+
+    /** The last day (31-Dec-2029). */
+    private static final int END = 47484;
+
+    /**
+     * Steps through the range one date at a time.
+     *
+     * @return The sum of the serial numbers in the schedule.
+     */
+    @Benchmark
+    public long dates() {
+        long sum = 0;
+        DayDate d = DayDateFactory.makeDate(START);
+        while (d.getOrdinalDay() <= END) {
+            if ((d.getDayOfWeek() == Day.WEDNESDAY) 
+                    && ((d.getDayOfMonth() - 1) / 7 + 1 
+                    == WeekInMonth.THIRD.toInt())) {
+                sum += d.getOrdinalDay();
+            }
+            d = d.plusDays(1);
+        }
+        return sum;
+    }
+
+    /**
+     * Steps through the range with a cursor.
+     *
+     * @return The sum of the serial numbers in the schedule.
+     */
+    @Benchmark
+    public long cursor() {
+        long sum = 0;
+        final DateRangeCursor cursor = new DateRangeCursor(START, END);
+        cursor.setDaysOfWeek(new Day[] {Day.WEDNESDAY});
+        cursor.setWeekInMonth(WeekInMonth.THIRD);
+        while (cursor.next()) {
+            sum += cursor.getSerial();
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,141 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DayCountBenchmark.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.date.DayDate;
+import org.jfree.date.SerialDateUtilities;
+import org.jfree.date.SpreadsheetDate;
+
+/**
+ * Benchmarks for the 30/360 (ISDA) day count over a batch of date pairs,
+ * comparing the {@link DayDate} methods with the serial number methods in
+ * {@link SerialDateUtilities}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayCountBenchmark {
+
+    /** The number of date pairs in a batch. */
+    private static final int BATCH = 1000;
+
+    /** The serial numbers of the start dates (2000 to 2030). */
+    private int[] starts;
+
+    /** The serial numbers of the end dates (up to ten years later). */
+    private int[] ends;
+
+    /** The day counts. */
+    private int[] result;
+
+    /**
+     * Creates the batch of date pairs.
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(1L);
+        this.starts = new int[BATCH];
+        this.ends = new int[BATCH];
+        this.result = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            this.starts[i] = 36526 + random.nextInt(30 * 365);
+            this.ends[i] = this.starts[i] + random.nextInt(10 * 365);
+        }
+    }
+
+    /**
+     * Creates a date for each serial number and uses the date methods.
+     *
+     * @return The day counts.
+     */
+    @Benchmark
+    public int[] dates() {
+        for (int i = 0; i < BATCH; i++) {
+            this.result[i] = SerialDateUtilities.dayCount30ISDA(
+                    new SpreadsheetDate(this.starts[i]),
+                    new SpreadsheetDate(this.ends[i]));
+        }
+        return this.result;
+    }
+
+    /**
+     * Uses the serial number method for each pair.
+     *
+     * @return The day counts.
+     */
+    @Benchmark
+    public int[] serials() {
+        for (int i = 0; i < BATCH; i++) {
+            this.result[i] = SerialDateUtilities.dayCount30ISDA(
+                    this.starts[i], this.ends[i]);
+        }
+        return this.result;
+    }
+
+    /**
+     * Uses the array method for the whole batch.
+     *
+     * @return The day counts.
+     */
+    @Benchmark
+    public int[] array() {
+        SerialDateUtilities.dayCount30ISDA(this.starts, this.ends, this.result);
+        return this.result;
+    }
+
+}
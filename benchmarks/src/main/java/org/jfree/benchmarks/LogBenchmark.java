@@ -0,0 +1,205 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * LogBenchmark.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.util.AsyncLogTarget;
+import org.jfree.util.Log;
+import org.jfree.util.LogContext;
+import org.jfree.util.LogTarget;
+import org.jfree.util.PrintStreamLogTarget;
+import org.jfree.util.RollingFileLogTarget;
+
+/**
+ * Benchmarks for the cost of logging a message on the caller's thread, with
+ * a {@link PrintStreamLogTarget} writing to a file either directly or
+ * behind an {@link AsyncLogTarget}, with a {@link RollingFileLogTarget},
+ * and for debug calls on a
+ * {@link LogContext} whose debug messages are disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogBenchmark {
+
+    /** The file that receives the output. */
+    private File file;
+
+    /** The stream that writes to the file. */
+    private PrintStream out;
+
+    /** The synchronous target. */
+    private LogTarget direct;
+
+    /** An asynchronous target that waits when its buffer is full. */
+    private AsyncLogTarget asyncBlock;
+
+    /** An asynchronous target that drops messages when its buffer is full. */
+    private AsyncLogTarget asyncDrop;
+
+    /** The file that receives the output of the rolling file target. */
+    private File rollingFile;
+
+    /** A rolling file target. */
+    private RollingFileLogTarget rolling;
+
+    /** A log context with debug messages disabled. */
+    private LogContext quiet;
+
+    /** A message parameter. */
+    private String series = "Series 3";
+
+    /** Another message parameter. */
+    private Integer item = new Integer(12);
+
+    /**
+     * Opens the output file and creates the targets.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.file = File.createTempFile("jcommon-log", ".txt");
+        this.out = new PrintStream(new FileOutputStream(this.file));
+        this.direct = new PrintStreamLogTarget(this.out);
+        this.asyncBlock = new AsyncLogTarget(this.direct);
+        this.asyncDrop = new AsyncLogTarget(this.direct,
+                AsyncLogTarget.DEFAULT_CAPACITY,
+                AsyncLogTarget.OVERFLOW_DROP, 1);
+        this.rollingFile = File.createTempFile("jcommon-rolling", ".log");
+        this.rolling = new RollingFileLogTarget(this.rollingFile);
+        this.rolling.setMaxFileSize(64L * 1024L * 1024L);
+        this.quiet = Log.createContext("org.jfree.benchmarks.Quiet");
+        Log.getInstance().setContextLevel("org.jfree.benchmarks.Quiet",
+                LogTarget.WARN);
+    }
+
+    /**
+     * Stops the targets and deletes the output file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.asyncBlock.close();
+        this.asyncDrop.close();
+        this.out.close();
+        this.file.delete();
+        this.rolling.close();
+        File[] files = this.rollingFile.getParentFile().listFiles();
+        for (int i = 0; i < files.length; i++) {
+            if (files[i].getName().startsWith(this.rollingFile.getName())) {
+                files[i].delete();
+            }
+        }
+    }
+
+    /**
+     * Logs a message synchronously.
+     */
+    @Benchmark
+    public void direct() {
+        this.direct.log(LogTarget.DEBUG, "Rendering series 3 of 12");
+    }
+
+    /**
+     * Logs a message through an asynchronous target that waits for space,
+     * so the score is bounded by the speed of the background writer.
+     */
+    @Benchmark
+    public void asyncBlock() {
+        this.asyncBlock.log(LogTarget.DEBUG, "Rendering series 3 of 12");
+    }
+
+    /**
+     * Logs a message through an asynchronous target that drops messages
+     * when the background writer falls behind.
+     */
+    @Benchmark
+    public void asyncDrop() {
+        this.asyncDrop.log(LogTarget.DEBUG, "Rendering series 3 of 12");
+    }
+
+    /**
+     * Logs a message to a rolling file target, which buffers it (and rolls
+     * the file every 64 megabytes).
+     */
+    @Benchmark
+    public void rollingFile() {
+        this.rolling.log(LogTarget.DEBUG, "Rendering series 3 of 12");
+    }
+
+    /**
+     * A disabled debug call that concatenates its message.
+     */
+    @Benchmark
+    public void disabledDebugConcatenated() {
+        this.quiet.debug("Rendering " + this.series + ", item " + this.item);
+    }
+
+    /**
+     * A disabled debug call with message parameters.
+     */
+    @Benchmark
+    public void disabledDebugParameterized() {
+        this.quiet.debug("Rendering {}, item {}", this.series, this.item);
+    }
+
+}
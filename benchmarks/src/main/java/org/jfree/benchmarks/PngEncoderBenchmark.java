@@ -0,0 +1,160 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * PngEncoderBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.keypoint.PngEncoder;
+
+/**
+ * Benchmarks for {@link PngEncoder#pngEncode()} across image sizes, filters
+ * and compression levels.  The image is a synthetic bar chart: a gradient
+ * background, grid lines, anti-aliased bars and text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PngEncoderBenchmark {
+
+    /** The image size (width x height). */
+    @Param({"640x480", "1920x1080", "3840x2160"})
+    public String size;
+
+    /** The filter type (0 = none, 2 = up, 5 = adaptive). */
+    @Param({"0", "2", "5"})
+    public int filter;
+
+    /** The compression level. */
+    @Param({"1", "6", "9"})
+    public int compressionLevel;
+
+    /** The image to encode. */
+    private BufferedImage image;
+
+    /**
+     * Creates the chart image.
+     */
+    @Setup
+    public void setup() {
+        int x = this.size.indexOf('x');
+        int w = Integer.parseInt(this.size.substring(0, x));
+        int h = Integer.parseInt(this.size.substring(x + 1));
+        this.image = createChartImage(w, h);
+    }
+
+    /**
+     * Creates a synthetic chart image.
+     *
+     * @param w  the width.
+     * @param h  the height.
+     *
+     * @return The image.
+     */
+    static BufferedImage createChartImage(int w, int h) {
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setPaint(new GradientPaint(0f, 0f, Color.white, 0f, h,
+                new Color(220, 220, 240)));
+        g2.fillRect(0, 0, w, h);
+        g2.setPaint(Color.lightGray);
+        g2.setStroke(new BasicStroke(1.0f));
+        for (int y = h / 10; y < h; y += h / 10) {
+            g2.drawLine(w / 10, y, w - w / 20, y);
+        }
+        Color[] colors = {Color.red, Color.blue, Color.green.darker(),
+            Color.orange};
+        int bars = 24;
+        int barWidth = (w * 8 / 10) / bars;
+        for (int i = 0; i < bars; i++) {
+            int barHeight = (int) ((0.3 + 0.6 * Math.abs(Math.sin(i * 0.7)))
+                    * h * 0.8);
+            g2.setPaint(colors[i % colors.length]);
+            g2.fillRect(w / 10 + i * barWidth + 2, h * 9 / 10 - barHeight,
+                    barWidth - 4, barHeight);
+        }
+        g2.setPaint(Color.black);
+        g2.setFont(new Font("SansSerif", Font.PLAIN, Math.max(h / 50, 8)));
+        for (int i = 0; i < bars; i += 2) {
+            g2.drawString("Category " + i, w / 10 + i * barWidth,
+                    h * 9 / 10 + h / 30);
+        }
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Encodes the image into a byte array.
+     *
+     * @return The PNG bytes.
+     */
+    @Benchmark
+    public byte[] pngEncode() {
+        PngEncoder encoder = new PngEncoder(this.image, false, this.filter,
+                this.compressionLevel);
+        return encoder.pngEncode();
+    }
+
+}
@@ -0,0 +1,161 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * SerialUtilitiesBenchmark.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.io.SerialUtilities;
+
+/**
+ * Benchmarks for the shape and paint round trips in {@link SerialUtilities}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerialUtilitiesBenchmark {
+
+    /** The shapes to write. */
+    private Shape[] shapes;
+
+    /** The paints to write. */
+    private Paint[] paints;
+
+    /**
+     * Creates the shapes and paints.
+     */
+    @Setup
+    public void setup() {
+        GeneralPath path = new GeneralPath();
+        path.moveTo(0.0f, 0.0f);
+        for (int i = 1; i < 50; i++) {
+            path.lineTo(i * 2.0f, (float) Math.sin(i * 0.3) * 20.0f);
+        }
+        path.quadTo(110.0f, 10.0f, 120.0f, 0.0f);
+        path.curveTo(130.0f, 5.0f, 140.0f, -5.0f, 150.0f, 0.0f);
+        path.closePath();
+        this.shapes = new Shape[] {new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+            new Ellipse2D.Double(0.0, 0.0, 10.0, 5.0), path};
+        this.paints = new Paint[] {Color.red, new Color(10, 20, 30, 40),
+            new GradientPaint(0.0f, 0.0f, Color.white, 10.0f, 10.0f,
+            Color.blue)};
+    }
+
+    /**
+     * Writes and reads back the shapes.
+     *
+     * @return The shapes read.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if a class cannot be found.
+     */
+    @Benchmark
+    public Shape[] shapeRoundTrip() throws IOException,
+            ClassNotFoundException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(buffer);
+        for (int i = 0; i < this.shapes.length; i++) {
+            SerialUtilities.writeShape(this.shapes[i], out);
+        }
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        Shape[] result = new Shape[this.shapes.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = SerialUtilities.readShape(in);
+        }
+        in.close();
+        return result;
+    }
+
+    /**
+     * Writes and reads back the paints.
+     *
+     * @return The paints read.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if a class cannot be found.
+     */
+    @Benchmark
+    public Paint[] paintRoundTrip() throws IOException,
+            ClassNotFoundException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(buffer);
+        for (int i = 0; i < this.paints.length; i++) {
+            SerialUtilities.writePaint(this.paints[i], out);
+        }
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        Paint[] result = new Paint[this.paints.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = SerialUtilities.readPaint(in);
+        }
+        in.close();
+        return result;
+    }
+
+}
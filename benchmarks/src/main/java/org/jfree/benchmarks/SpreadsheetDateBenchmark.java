@@ -0,0 +1,119 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * SpreadsheetDateBenchmark.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added plusDays();
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.date.DayDate;
+import org.jfree.date.SpreadsheetDate;
+
+/**
+ * Benchmarks for {@link SpreadsheetDate} construction from a serial number,
+ * which decodes the serial into a day, month and year, and for stepping
+ * through dates with {@link DayDate#plusDays(int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpreadsheetDateBenchmark {
+
+    /** The first serial number (1-Jan-1900 is serial 2). */
+    private static final int FIRST_SERIAL = 2;
+
+    /** The number of serial numbers in the supported range (to 9999). */
+    private static final int SERIAL_RANGE = 2958465 - FIRST_SERIAL + 1;
+
+    /** The first serial number of the schedule (1-Jan-2000). */
+    private static final int SCHEDULE_START = 36526;
+
+    /** The number of days in the schedule (about 30 years). */
+    private static final int SCHEDULE_DAYS = 30 * 365;
+
+    /** The next serial number. */
+    private int serial = FIRST_SERIAL;
+
+    /** The current date in the schedule. */
+    private DayDate date = new SpreadsheetDate(SCHEDULE_START);
+
+    /**
+     * Creates a date from the next serial number, stepping through the whole
+     * supported range with a stride that touches every year.
+     *
+     * @return The date.
+     */
+    @Benchmark
+    public SpreadsheetDate createFromSerial() {
+        this.serial = FIRST_SERIAL + (this.serial - FIRST_SERIAL + 7919)
+                % SERIAL_RANGE;
+        return new SpreadsheetDate(this.serial);
+    }
+
+    /**
+     * Steps one business week forward through a 30-year schedule, starting 
+     * again at the beginning when the end is reached.
+     *
+     * @return The date.
+     */
+    @Benchmark
+    public DayDate plusDays() {
+        DayDate d = this.date.plusDays(7);
+        if (d.getOrdinalDay() >= SCHEDULE_START + SCHEDULE_DAYS) {
+            d = d.plusDays(-SCHEDULE_DAYS);
+        }
+        this.date = d;
+        return d;
+    }
+
+}
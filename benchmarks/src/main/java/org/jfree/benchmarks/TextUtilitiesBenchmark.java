@@ -0,0 +1,221 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * TextUtilitiesBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.text.CachingTextMeasurer;
+import org.jfree.text.G2TextMeasurer;
+import org.jfree.text.TextBlock;
+import org.jfree.text.TextUtilities;
+import org.jfree.ui.Size2D;
+import org.jfree.ui.TextAnchor;
+
+/**
+ * Benchmarks for the text layout and drawing methods in
+ * {@link TextUtilities}, using typical axis and legend labels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextUtilitiesBenchmark {
+
+    /** Some labels, a mix of short and wrapping ones. */
+    static final String[] LABELS = {"Q1 2024", "Revenue (USD millions)",
+        "North America and the Caribbean", "Operating expenses excluding "
+        + "depreciation and amortisation", "Europe", "Asia-Pacific region",
+        "Internationalization", "2026-10-16"};
+
+    /** The image that receives the drawing. */
+    private BufferedImage image;
+
+    /** The graphics device. */
+    private Graphics2D g2;
+
+    /** The text measurer. */
+    private G2TextMeasurer measurer;
+
+    /** The caching text measurer. */
+    private CachingTextMeasurer cachingMeasurer;
+
+    /** The font. */
+    private Font font;
+
+    /** The index of the next label. */
+    private int index;
+
+    /** A thousand labels, for the batch benchmarks. */
+    private List axisLabels;
+
+    /**
+     * Creates the graphics device.
+     */
+    @Setup
+    public void setup() {
+        this.image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.font = new Font("SansSerif", Font.PLAIN, 12);
+        this.g2.setFont(this.font);
+        this.g2.setPaint(Color.black);
+        this.measurer = new G2TextMeasurer(this.g2);
+        this.cachingMeasurer = new CachingTextMeasurer(this.g2);
+        this.axisLabels = new ArrayList();
+        for (int i = 0; i < 1000; i++) {
+            this.axisLabels.add(LABELS[i % LABELS.length] + " " + i);
+        }
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Returns the next label.
+     *
+     * @return A label.
+     */
+    private String nextLabel() {
+        this.index = (this.index + 1) % LABELS.length;
+        return LABELS[this.index];
+    }
+
+    /**
+     * Breaks a label into lines of at most 80 pixels.
+     *
+     * @return The text block.
+     */
+    @Benchmark
+    public TextBlock createTextBlock() {
+        return TextUtilities.createTextBlock(nextLabel(), this.font,
+                Color.black, 80.0f, 3, this.measurer);
+    }
+
+    /**
+     * Breaks a label into lines of at most 80 pixels, measuring with cached
+     * advances.
+     *
+     * @return The text block.
+     */
+    @Benchmark
+    public TextBlock createTextBlockCachingMeasurer() {
+        return TextUtilities.createTextBlock(nextLabel(), this.font,
+                Color.black, 80.0f, 3, this.cachingMeasurer);
+    }
+
+    /**
+     * Lays out a thousand labels one at a time, with their dimensions.
+     *
+     * @return The dimensions.
+     */
+    @Benchmark
+    public Size2D[] createTextBlocksIndividually() {
+        Size2D[] result = new Size2D[this.axisLabels.size()];
+        for (int i = 0; i < result.length; i++) {
+            TextBlock block = TextUtilities.createTextBlock(
+                    (String) this.axisLabels.get(i), this.font, Color.black,
+                    80.0f, 3, this.measurer);
+            result[i] = block.calculateDimensions(this.g2);
+        }
+        return result;
+    }
+
+    /**
+     * Lays out a thousand labels with the batch method.
+     *
+     * @return The dimensions.
+     */
+    @Benchmark
+    public Size2D[] createTextBlocksBatch() {
+        Size2D[] result = new Size2D[this.axisLabels.size()];
+        TextUtilities.createTextBlocks(this.axisLabels, this.font,
+                Color.black, 80.0f, 3, this.g2, result, null);
+        return result;
+    }
+
+    /**
+     * Draws a label rotated by 90 degrees, as for a vertical axis.
+     */
+    @Benchmark
+    public void drawRotatedString() {
+        TextUtilities.drawRotatedString(nextLabel(), this.g2, 200.0f, 200.0f,
+                TextAnchor.CENTER_RIGHT, -Math.PI / 2, TextAnchor.CENTER);
+    }
+
+    /**
+     * Calculates the bounds of a rotated label, as an axis does when it
+     * reserves space.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Shape calculateRotatedStringBounds() {
+        return TextUtilities.calculateRotatedStringBounds(nextLabel(),
+                this.g2, 200.0f, 200.0f, TextAnchor.CENTER_RIGHT,
+                -Math.PI / 2, TextAnchor.CENTER);
+    }
+
+}
@@ -0,0 +1,349 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * XmlBenchmark.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added writeBuffered();
+ * 17-Oct-2026 : Added writeEncoded() and writeUtf8();
+ *
+ */
+
+package org.jfree.benchmarks;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.geom.Point2D;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.jfree.xml.FrontendDefaultHandler;
+import org.jfree.xml.parser.AbstractXmlReadHandler;
+import org.jfree.xml.parser.RootXmlReadHandler;
+import org.jfree.xml.parser.XmlReadHandler;
+import org.jfree.xml.parser.XmlReaderException;
+import org.jfree.xml.util.ObjectFactory;
+import org.jfree.xml.util.SimpleObjectFactory;
+import org.jfree.xml.writer.RootXmlWriteHandler;
+import org.jfree.xml.writer.XMLWriter;
+import org.jfree.xml.writer.XMLWriterException;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+
+/**
+ * Benchmarks for writing a document of series paints and data points with
+ * {@link RootXmlWriteHandler} and {@link XMLWriter}, and for parsing it back
+ * through {@link RootXmlReadHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlBenchmark {
+
+    /** The number of data points in the document. */
+    @Param({"100", "1000"})
+    public int points;
+
+    /** The paints to write. */
+    private Paint[] paints;
+
+    /** The data points to write. */
+    private Point2D[] data;
+
+    /** The document bytes. */
+    private byte[] document;
+
+    /** The SAX parser factory. */
+    private SAXParserFactory parserFactory;
+
+    /** The target for the byte output benchmarks. */
+    private ByteArrayOutputStream bytes;
+
+    /**
+     * Creates the objects and the document.
+     *
+     * @throws Exception if there is a problem writing the document.
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.paints = new Paint[] {Color.red, Color.blue, Color.green,
+            new Color(10, 20, 30)};
+        this.data = new Point2D[this.points];
+        for (int i = 0; i < this.points; i++) {
+            this.data[i] = new Point2D.Double(i, Math.sin(i * 0.1) * 100.0);
+        }
+        this.document = write().getBytes("UTF-8");
+        this.parserFactory = SAXParserFactory.newInstance();
+        this.bytes = new ByteArrayOutputStream(this.document.length * 2);
+    }
+
+    /**
+     * Writes the document.
+     *
+     * @return The document.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    @Benchmark
+    public String write() throws IOException, XMLWriterException {
+        return write(false);
+    }
+
+    /**
+     * Writes the document with a buffered {@link XMLWriter}.
+     *
+     * @return The document.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    @Benchmark
+    public String writeBuffered() throws IOException, XMLWriterException {
+        return write(true);
+    }
+
+    /**
+     * Writes the document.
+     *
+     * @param buffered  the writer mode.
+     *
+     * @return The document.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    private String write(boolean buffered)
+            throws IOException, XMLWriterException {
+        StringWriter out = new StringWriter(this.points * 64);
+        writeDocument(new XMLWriter(out, "    ", buffered));
+        return out.toString();
+    }
+
+    /**
+     * Writes the document as UTF-8 bytes with an {@link XMLWriter} on a
+     * <code>BufferedWriter</code> and an <code>OutputStreamWriter</code>.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    @Benchmark
+    public int writeEncoded() throws IOException, XMLWriterException {
+        this.bytes.reset();
+        writeDocument(new XMLWriter(new BufferedWriter(
+                new OutputStreamWriter(this.bytes, "UTF-8"))));
+        return this.bytes.size();
+    }
+
+    /**
+     * Writes the document as UTF-8 bytes with an {@link XMLWriter} on the
+     * output stream.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    @Benchmark
+    public int writeUtf8() throws IOException, XMLWriterException {
+        this.bytes.reset();
+        writeDocument(new XMLWriter(this.bytes, "    "));
+        return this.bytes.size();
+    }
+
+    /**
+     * Writes the document and closes the writer.
+     *
+     * @param writer  the writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws XMLWriterException if there is a writer problem.
+     */
+    private void writeDocument(XMLWriter writer)
+            throws IOException, XMLWriterException {
+        RootXmlWriteHandler root = new DocumentWriteHandler();
+        writer.writeXmlDeclaration();
+        writer.writeTag("chart", false);
+        for (int i = 0; i < this.paints.length; i++) {
+            root.write("paint", this.paints[i], Paint.class, writer);
+        }
+        for (int i = 0; i < this.data.length; i++) {
+            root.write("point", this.data[i], Point2D.class, writer);
+        }
+        writer.writeCloseTag("chart");
+        writer.close();
+    }
+
+    /**
+     * Parses the document.
+     *
+     * @return The objects read.
+     *
+     * @throws Exception if there is a parsing problem.
+     */
+    @Benchmark
+    public Object read() throws Exception {
+        SAXParser parser = this.parserFactory.newSAXParser();
+        DocumentReadHandler handler = new DocumentReadHandler();
+        parser.parse(new ByteArrayInputStream(this.document), handler);
+        return handler.getResult();
+    }
+
+    /**
+     * A root write handler with the default mappings.
+     */
+    static class DocumentWriteHandler extends RootXmlWriteHandler {
+
+        /** The (empty) object factory. */
+        private final SimpleObjectFactory factory = new SimpleObjectFactory();
+
+        /**
+         * Returns the object factory.
+         *
+         * @return The object factory.
+         */
+        protected ObjectFactory getFactoryLoader() {
+            return this.factory;
+        }
+
+    }
+
+    /**
+     * A root read handler with the default mappings.
+     */
+    static class DocumentReadHandler extends RootXmlReadHandler {
+
+        /** The (empty) object factory. */
+        private final SimpleObjectFactory factory = new SimpleObjectFactory();
+
+        /**
+         * Creates a new handler.
+         */
+        DocumentReadHandler() {
+            addDefaultMappings();
+            setRootHandler(new ChartReadHandler());
+        }
+
+        /**
+         * Returns the object factory.
+         *
+         * @return The object factory.
+         */
+        public ObjectFactory getFactoryLoader() {
+            return this.factory;
+        }
+
+        /**
+         * Returns a new handler.
+         *
+         * @return A new handler.
+         */
+        public FrontendDefaultHandler newInstance() {
+            return new DocumentReadHandler();
+        }
+
+    }
+
+    /**
+     * Collects the paints and points below the document element.
+     */
+    static class ChartReadHandler extends AbstractXmlReadHandler {
+
+        /** The child handlers. */
+        private final List children = new ArrayList();
+
+        /**
+         * Returns a handler for a paint or point element.
+         *
+         * @param tagName  the tag name.
+         * @param atts  the attributes.
+         *
+         * @return The handler.
+         *
+         * @throws XmlReaderException if there is no handler for the tag.
+         */
+        protected XmlReadHandler getHandlerForChild(String tagName,
+                Attributes atts) throws XmlReaderException {
+            Class c = "paint".equals(tagName) ? Paint.class : Point2D.class;
+            XmlReadHandler handler = getRootHandler().createHandler(c,
+                    tagName, atts);
+            this.children.add(handler);
+            return handler;
+        }
+
+        /**
+         * Returns the objects read.
+         *
+         * @return A list of objects.
+         *
+         * @throws XmlReaderException if a child cannot be read.
+         */
+        public Object getObject() throws XmlReaderException {
+            List result = new ArrayList(this.children.size());
+            for (int i = 0; i < this.children.size(); i++) {
+                result.add(((XmlReadHandler) this.children.get(i)).getObject());
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * ColorPalette.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+/**
+ * The palette for an indexed-colour PNG image.  Colours are collected into a
+ * small open-addressing hash table of primitive ints, which maps each
+ * (default RGB) colour to its palette index.  Once the palette is complete
+ * it is only read, so it can be shared by several threads.
+ */
+final class ColorPalette {
+
+    /** The maximum number of colours in a palette. */
+    static final int MAX_COLORS = 256;
+
+    /** The number of slots in the hash table (a power of two). */
+    private static final int TABLE_SIZE = 1024;
+
+    /** The colours in the hash table. */
+    private final int[] keys = new int[TABLE_SIZE];
+
+    /** The palette index + 1 for each slot in the hash table (0 = empty). */
+    private final int[] slots = new int[TABLE_SIZE];
+
+    /** The colours, in palette order. */
+    private final int[] colors = new int[MAX_COLORS];
+
+    /** The number of colours. */
+    private int size;
+
+    /** The most recently looked up colour. */
+    private int lastColor;
+
+    /** The index of the most recently looked up colour (-1 if none). */
+    private int lastIndex = -1;
+
+    /**
+     * Creates a new, empty palette.
+     */
+    ColorPalette() {
+        // nothing to do
+    }
+
+    /**
+     * Returns the number of colours in the palette.
+     *
+     * @return The number of colours.
+     */
+    int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the slot in the hash table for a colour, which is either the
+     * slot holding the colour or the empty slot where it belongs.
+     *
+     * @param argb  the colour.
+     *
+     * @return The slot.
+     */
+    private int findSlot(int argb) {
+        int slot = (argb * 0x9E3779B9) >>> 22;
+        while (this.slots[slot] != 0 && this.keys[slot] != argb) {
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Adds a colour to the palette, if it is not already present.
+     *
+     * @param argb  the colour.
+     *
+     * @return <code>false</code> if the colour would exceed
+     *     {@link #MAX_COLORS}, <code>true</code> otherwise.
+     */
+    boolean add(int argb) {
+        if (argb == this.lastColor && this.lastIndex >= 0) {
+            return true;
+        }
+        int slot = findSlot(argb);
+        if (this.slots[slot] == 0) {
+            if (this.size == MAX_COLORS) {
+                return false;
+            }
+            this.keys[slot] = argb;
+            this.colors[this.size++] = argb;
+            this.slots[slot] = this.size;
+        }
+        this.lastColor = argb;
+        this.lastIndex = this.slots[slot] - 1;
+        return true;
+    }
+
+    /**
+     * Returns the palette index of a colour that has been added to the
+     * palette.  This method does not modify the palette, so it may be called
+     * from several threads at once.
+     *
+     * @param argb  the colour.
+     *
+     * @return The index.
+     */
+    int indexOf(int argb) {
+        return this.slots[findSlot(argb)] - 1;
+    }
+
+    /**
+     * Moves the translucent colours to the start of the palette, so that the
+     * tRNS chunk can be as short as possible.
+     */
+    void sortTranslucentFirst() {
+        int[] sorted = new int[this.size];
+        int n = 0;
+        for (int i = 0; i < this.size; i++) {
+            if ((this.colors[i] >>> 24) != 0xff) {
+                sorted[n++] = this.colors[i];
+            }
+        }
+        for (int i = 0; i < this.size; i++) {
+            if ((this.colors[i] >>> 24) == 0xff) {
+                sorted[n++] = this.colors[i];
+            }
+        }
+        for (int i = 0; i < this.size; i++) {
+            this.colors[i] = sorted[i];
+            this.slots[findSlot(sorted[i])] = i + 1;
+        }
+        this.lastIndex = -1;
+    }
+
+    /**
+     * Returns the smallest PNG bit depth (1, 2, 4 or 8) that can hold every
+     * palette index.
+     *
+     * @return The bit depth.
+     */
+    int getBitDepth() {
+        if (this.size <= 2) {
+            return 1;
+        }
+        if (this.size <= 4) {
+            return 2;
+        }
+        if (this.size <= 16) {
+            return 4;
+        }
+        return 8;
+    }
+
+    /**
+     * Returns the data for the PLTE chunk (three bytes per colour).
+     *
+     * @return The chunk data.
+     */
+    byte[] getPaletteData() {
+        byte[] data = new byte[this.size * 3];
+        for (int i = 0; i < this.size; i++) {
+            int c = this.colors[i];
+            data[i * 3] = (byte) ((c >> 16) & 0xff);
+            data[i * 3 + 1] = (byte) ((c >> 8) & 0xff);
+            data[i * 3 + 2] = (byte) (c & 0xff);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data for the tRNS chunk (one alpha byte for each colour up
+     * to the last translucent one), or <code>null</code> if every colour is
+     * opaque.
+     *
+     * @return The chunk data (possibly <code>null</code>).
+     */
+    byte[] getTransparencyData() {
+        int n = 0;
+        for (int i = 0; i < this.size; i++) {
+            if ((this.colors[i] >>> 24) != 0xff) {
+                n = i + 1;
+            }
+        }
+        if (n == 0) {
+            return null;
+        }
+        byte[] data = new byte[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = (byte) (this.colors[i] >>> 24);
+        }
+        return data;
+    }
+
+}
@@ -0,0 +1,223 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * PngEncoderOptions.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+/**
+ * The settings for the static {@link PngEncoder#encode(java.awt.Image,
+ * PngEncoderOptions, java.io.OutputStream)} methods.  The encoder only reads
+ * the options, so one instance can be shared by several threads as long as
+ * it is not modified while images are being encoded.
+ */
+public class PngEncoderOptions {
+
+    /** Encode the alpha channel? */
+    private boolean encodeAlpha;
+
+    /** The filter type. */
+    private int filter;
+
+    /** The compression level. */
+    private int compressionLevel;
+
+    /** The horizontal resolution in dots per inch (0 = not written). */
+    private int xDpi;
+
+    /** The vertical resolution in dots per inch (0 = not written). */
+    private int yDpi;
+
+    /** Write an indexed-colour image when there are few enough colours? */
+    private boolean indexedColor;
+
+    /** The number of threads used to compress the image data. */
+    private int parallelism;
+
+    /**
+     * Creates a new set of options with the default values: no alpha
+     * channel, {@link PngEncoder#FILTER_NONE}, compression level 6, no
+     * resolution, truecolour and sequential compression.
+     */
+    public PngEncoderOptions() {
+        this.encodeAlpha = false;
+        this.filter = PngEncoder.FILTER_NONE;
+        this.compressionLevel = 6;
+        this.indexedColor = false;
+        this.parallelism = 1;
+    }
+
+    /**
+     * Returns the flag that controls whether the alpha channel is encoded.
+     *
+     * @return The flag.
+     */
+    public boolean getEncodeAlpha() {
+        return this.encodeAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether the alpha channel is encoded.
+     *
+     * @param encodeAlpha  the flag.
+     */
+    public void setEncodeAlpha(boolean encodeAlpha) {
+        this.encodeAlpha = encodeAlpha;
+    }
+
+    /**
+     * Returns the filter type.
+     *
+     * @return The filter type.
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the filter type.  Unknown values are replaced by
+     * {@link PngEncoder#FILTER_NONE}.
+     *
+     * @param filter  the filter type (see the constants in
+     *     {@link PngEncoder}).
+     */
+    public void setFilter(int filter) {
+        this.filter = PngEncoder.FILTER_NONE;
+        if (filter >= PngEncoder.FILTER_NONE
+                && filter <= PngEncoder.FILTER_LAST) {
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * Returns the compression level.
+     *
+     * @return The compression level (0 to 9).
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level.  Values outside the range 0 to 9 are
+     * ignored.
+     *
+     * @param level  the compression level (1 = best speed, 9 = best
+     *     compression, 0 = no compression).
+     */
+    public void setCompressionLevel(int level) {
+        if (level >= 0 && level <= 9) {
+            this.compressionLevel = level;
+        }
+    }
+
+    /**
+     * Returns the horizontal resolution.
+     *
+     * @return The number of dots per inch (0 if no resolution is written).
+     */
+    public int getXDpi() {
+        return this.xDpi;
+    }
+
+    /**
+     * Returns the vertical resolution.
+     *
+     * @return The number of dots per inch (0 if no resolution is written).
+     */
+    public int getYDpi() {
+        return this.yDpi;
+    }
+
+    /**
+     * Sets the resolution.  A pHYs chunk is only written if both values are
+     * greater than zero.
+     *
+     * @param xDpi  the number of dots per inch for the X axis.
+     * @param yDpi  the number of dots per inch for the Y axis.
+     */
+    public void setDpi(int xDpi, int yDpi) {
+        this.xDpi = xDpi;
+        this.yDpi = yDpi;
+    }
+
+    /**
+     * Returns the flag that controls whether an indexed-colour image is
+     * written when possible.
+     *
+     * @return The flag.
+     *
+     * @see PngEncoder#setIndexedColor(boolean)
+     */
+    public boolean isIndexedColor() {
+        return this.indexedColor;
+    }
+
+    /**
+     * Sets the flag that controls whether an indexed-colour image is written
+     * when possible.
+     *
+     * @param indexedColor  the flag.
+     *
+     * @see PngEncoder#setIndexedColor(boolean)
+     */
+    public void setIndexedColor(boolean indexedColor) {
+        this.indexedColor = indexedColor;
+    }
+
+    /**
+     * Returns the number of threads used to compress the image data.
+     *
+     * @return The number of threads.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to compress the image data.
+     *
+     * @param parallelism  the number of threads (1 = sequential).
+     *
+     * @see PngEncoder#setParallelism(int)
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+}
@@ -0,0 +1,337 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * ScanLineFilter.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added AVERAGE, PAETH and adaptive filtering;
+ * 16-Oct-2026 : Added isCompatible() and reset() so instances can be
+ *               reused;
+ *
+ */
+
+package com.keypoint;
+
+import java.util.Arrays;
+
+/**
+ * Applies a PNG filter to the scan lines of an image, one row at a time.
+ * Each instance keeps the unfiltered prior row, so a single instance must
+ * see the rows in order and must not be shared between threads.  The
+ * {@link PngEncoder} uses one instance per stripe of rows when compressing
+ * in parallel.
+ * <P>
+ * With {@link PngEncoder#FILTER_ADAPTIVE}, every row is filtered with each
+ * of the five PNG filter types and the result with the minimum sum of
+ * absolute differences (treating the filtered bytes as signed values) is
+ * chosen, the heuristic recommended by the PNG specification.
+ */
+final class ScanLineFilter {
+
+    /** The number of bytes in an unfiltered row. */
+    private final int rowBytes;
+
+    /** The number of bytes per complete pixel (at least 1). */
+    private final int bytesPerPixel;
+
+    /** The filter type. */
+    private final int filter;
+
+    /** The unfiltered current row. */
+    private byte[] currentRow;
+
+    /** The unfiltered prior row (all zeros before the first row). */
+    private byte[] priorRow;
+
+    /** The filtered scan line, including the leading filter type byte. */
+    private final byte[] scanLine;
+
+    /**
+     * The candidate scan lines for adaptive filtering, one for each filter
+     * type (<code>null</code> for the other filter types).
+     */
+    private final byte[][] candidates;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param rowBytes  the number of bytes in an unfiltered row.
+     * @param bytesPerPixel  the number of bytes per complete pixel.
+     * @param filter  the filter type (see the constants in
+     *     {@link PngEncoder}).
+     */
+    ScanLineFilter(int rowBytes, int bytesPerPixel, int filter) {
+        this.rowBytes = rowBytes;
+        this.bytesPerPixel = Math.max(bytesPerPixel, 1);
+        this.filter = filter;
+        this.currentRow = new byte[rowBytes];
+        this.priorRow = new byte[rowBytes];
+        this.scanLine = new byte[rowBytes + 1];
+        if (filter == PngEncoder.FILTER_ADAPTIVE) {
+            this.candidates = new byte[PngEncoder.FILTER_PAETH + 1][];
+            this.candidates[0] = this.scanLine;
+            for (int i = 1; i < this.candidates.length; i++) {
+                this.candidates[i] = new byte[rowBytes + 1];
+            }
+        }
+        else {
+            this.candidates = null;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this filter can be reused (after a call to
+     * {@link #reset()}) for rows with the given settings.
+     *
+     * @param rowBytes  the number of bytes in an unfiltered row.
+     * @param bytesPerPixel  the number of bytes per complete pixel.
+     * @param filter  the filter type.
+     *
+     * @return A boolean.
+     */
+    boolean isCompatible(int rowBytes, int bytesPerPixel, int filter) {
+        return this.rowBytes == rowBytes && this.filter == filter
+                && this.bytesPerPixel == Math.max(bytesPerPixel, 1);
+    }
+
+    /**
+     * Clears the prior row, ready for the first row of a new image.
+     */
+    void reset() {
+        Arrays.fill(this.priorRow, (byte) 0);
+    }
+
+    /**
+     * Returns the length of a filtered scan line, including the filter type
+     * byte.
+     *
+     * @return The length.
+     */
+    int getScanLineLength() {
+        return this.rowBytes + 1;
+    }
+
+    /**
+     * Returns the buffer that should be filled with the unfiltered bytes of
+     * the next row before calling {@link #filterRow()}.
+     *
+     * @return The row buffer.
+     */
+    byte[] getCurrentRow() {
+        return this.currentRow;
+    }
+
+    /**
+     * Returns the buffer holding the unfiltered bytes of the prior row.  A
+     * caller that starts part way through an image fills this buffer with
+     * the row preceding the first row it filters.
+     *
+     * @return The prior row buffer.
+     */
+    byte[] getPriorRow() {
+        return this.priorRow;
+    }
+
+    /**
+     * Filters the current row against the prior row.  The current row then
+     * becomes the prior row.
+     *
+     * @return The filtered scan line (the array is reused by the next call).
+     */
+    byte[] filterRow() {
+        final byte[] cur = this.currentRow;
+        byte[] out;
+        if (this.candidates != null) {
+            out = this.candidates[0];
+            long best = Long.MAX_VALUE;
+            for (int f = 0; f < this.candidates.length; f++) {
+                byte[] line = this.candidates[f];
+                applyFilter(f, cur, this.priorRow, line);
+                long sum = sumOfAbsoluteDifferences(line, best);
+                if (sum < best) {
+                    best = sum;
+                    out = line;
+                }
+            }
+        }
+        else {
+            out = this.scanLine;
+            applyFilter(this.filter, cur, this.priorRow, out);
+        }
+        this.currentRow = this.priorRow;
+        this.priorRow = cur;
+        return out;
+    }
+
+    /**
+     * Filters a row with the given filter type.
+     *
+     * @param filterType  the filter type (0 to 4).
+     * @param cur  the unfiltered row.
+     * @param prior  the unfiltered prior row.
+     * @param out  the scan line.
+     */
+    private void applyFilter(int filterType, byte[] cur, byte[] prior,
+            byte[] out) {
+        out[0] = (byte) filterType;
+        switch (filterType) {
+            case PngEncoder.FILTER_SUB:
+                filterSub(cur, out);
+                break;
+            case PngEncoder.FILTER_UP:
+                filterUp(cur, prior, out);
+                break;
+            case PngEncoder.FILTER_AVERAGE:
+                filterAverage(cur, prior, out);
+                break;
+            case PngEncoder.FILTER_PAETH:
+                filterPaeth(cur, prior, out);
+                break;
+            default:
+                System.arraycopy(cur, 0, out, 1, this.rowBytes);
+        }
+    }
+
+    /**
+     * Returns the sum of the absolute values of the filtered bytes in a scan
+     * line, treating the bytes as signed.  The sum stops early once it
+     * reaches the given limit.
+     *
+     * @param line  the scan line.
+     * @param limit  the sum of the best scan line so far.
+     *
+     * @return The sum (or a value not less than the limit).
+     */
+    private long sumOfAbsoluteDifferences(byte[] line, long limit) {
+        long sum = 0;
+        for (int i = 1; i <= this.rowBytes; i++) {
+            final int v = line[i];
+            sum += (v < 0) ? -v : v;
+            if ((i & 0xff) == 0 && sum >= limit) {
+                break;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Applies the SUB filter.
+     *
+     * @param cur  the unfiltered row.
+     * @param out  the scan line.
+     */
+    private void filterSub(byte[] cur, byte[] out) {
+        final int bpp = this.bytesPerPixel;
+        final int n = this.rowBytes;
+        for (int i = 0; i < bpp && i < n; i++) {
+            out[i + 1] = cur[i];
+        }
+        for (int i = bpp; i < n; i++) {
+            out[i + 1] = (byte) (cur[i] - cur[i - bpp]);
+        }
+    }
+
+    /**
+     * Applies the UP filter.
+     *
+     * @param cur  the unfiltered row.
+     * @param prior  the unfiltered prior row.
+     * @param out  the scan line.
+     */
+    private void filterUp(byte[] cur, byte[] prior, byte[] out) {
+        final int n = this.rowBytes;
+        for (int i = 0; i < n; i++) {
+            out[i + 1] = (byte) (cur[i] - prior[i]);
+        }
+    }
+
+    /**
+     * Applies the AVERAGE filter.
+     *
+     * @param cur  the unfiltered row.
+     * @param prior  the unfiltered prior row.
+     * @param out  the scan line.
+     */
+    private void filterAverage(byte[] cur, byte[] prior, byte[] out) {
+        final int bpp = this.bytesPerPixel;
+        final int n = this.rowBytes;
+        for (int i = 0; i < bpp && i < n; i++) {
+            out[i + 1] = (byte) (cur[i] - ((prior[i] & 0xff) >> 1));
+        }
+        for (int i = bpp; i < n; i++) {
+            out[i + 1] = (byte) (cur[i] - (((cur[i - bpp] & 0xff)
+                    + (prior[i] & 0xff)) >> 1));
+        }
+    }
+
+    /**
+     * Applies the PAETH filter.
+     *
+     * @param cur  the unfiltered row.
+     * @param prior  the unfiltered prior row.
+     * @param out  the scan line.
+     */
+    private void filterPaeth(byte[] cur, byte[] prior, byte[] out) {
+        final int bpp = this.bytesPerPixel;
+        final int n = this.rowBytes;
+        for (int i = 0; i < bpp && i < n; i++) {
+            // with no left neighbour the predictor is always the byte above
+            out[i + 1] = (byte) (cur[i] - prior[i]);
+        }
+        for (int i = bpp; i < n; i++) {
+            final int a = cur[i - bpp] & 0xff;
+            final int b = prior[i] & 0xff;
+            final int c = prior[i - bpp] & 0xff;
+            final int p = a + b - c;
+            int pa = p - a;
+            int pb = p - b;
+            int pc = p - c;
+            pa = (pa < 0) ? -pa : pa;
+            pb = (pb < 0) ? -pb : pb;
+            pc = (pc < 0) ? -pc : pc;
+            final int predictor;
+            if (pa <= pb && pa <= pc) {
+                predictor = a;
+            }
+            else if (pb <= pc) {
+                predictor = b;
+            }
+            else {
+                predictor = c;
+            }
+            out[i + 1] = (byte) (cur[i] - predictor);
+        }
+    }
+
+}
@@ -0,0 +1,461 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * StripeCompressor.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Reuse one Deflater per worker thread;
+ *
+ */
+
+package com.keypoint;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the scan lines of an image on several threads.  The rows are
+ * split into stripes that are filtered and deflated independently; every
+ * stripe except the last ends with a sync flush, so the compressed stripes
+ * can simply be concatenated behind a zlib header, followed by the combined
+ * Adler-32 checksum of all stripes.  The result is a single, ordinary zlib
+ * stream that any PNG decoder can read.
+ * <P>
+ * A sync flush requires <code>Deflater.deflate(byte[], int, int, int)</code>,
+ * which was added in Java 7.  The method is looked up by reflection so that
+ * the library still runs on older platforms, where {@link #isAvailable()}
+ * returns <code>false</code> and the encoder compresses sequentially.
+ */
+final class StripeCompressor {
+
+    /** The target number of unfiltered bytes in one stripe. */
+    static final int STRIPE_BYTES = 256 * 1024;
+
+    /** The value of <code>Deflater.SYNC_FLUSH</code>. */
+    private static final int SYNC_FLUSH = 2;
+
+    /** The largest prime smaller than 65536, used by Adler-32. */
+    private static final long ADLER_BASE = 65521L;
+
+    /** The Java 7 deflate method that accepts a flush mode (or null). */
+    private static final Method DEFLATE_WITH_FLUSH;
+
+    static {
+        Method m = null;
+        try {
+            m = Deflater.class.getMethod("deflate", new Class[] {
+                byte[].class, Integer.TYPE, Integer.TYPE, Integer.TYPE});
+        }
+        catch (Exception e) {
+            m = null;
+        }
+        DEFLATE_WITH_FLUSH = m;
+    }
+
+    /** The raw (no zlib wrapper) Deflater kept by each worker thread. */
+    private static final ThreadLocal DEFLATERS = new ThreadLocal() {
+        protected Object initialValue() {
+            return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+    };
+
+    /** The executor shared by all encoders that do not supply their own. */
+    private static ExecutorService sharedExecutor;
+
+    /** The encoder that supplies the pixels and the settings. */
+    private final PngEncoder encoder;
+
+    /** The executor that runs the stripe tasks. */
+    private final ExecutorService executor;
+
+    /** The maximum number of stripes in progress at any time. */
+    private final int window;
+
+    /**
+     * Creates a new compressor.
+     *
+     * @param encoder  the encoder.
+     * @param executor  the executor.
+     * @param parallelism  the number of stripes to compress concurrently.
+     */
+    StripeCompressor(PngEncoder encoder, ExecutorService executor,
+            int parallelism) {
+        this.encoder = encoder;
+        this.executor = executor;
+        this.window = Math.max(parallelism, 1) * 2;
+    }
+
+    /**
+     * Returns <code>true</code> if the platform supports sync flushing, and
+     * therefore parallel compression.
+     *
+     * @return A boolean.
+     */
+    static boolean isAvailable() {
+        return DEFLATE_WITH_FLUSH != null;
+    }
+
+    /**
+     * Returns the number of rows in each stripe for an image with the given
+     * number of bytes per (unfiltered) row.
+     *
+     * @param rowBytes  the number of bytes per row.
+     *
+     * @return The number of rows.
+     */
+    static int getStripeRows(int rowBytes) {
+        return Math.max(1, STRIPE_BYTES / (rowBytes + 1));
+    }
+
+    /**
+     * Returns the executor that is shared by all encoders, creating it if
+     * necessary.  It has one daemon thread per available processor.
+     *
+     * @return The executor.
+     */
+    static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactory() {
+                        private int count;
+                        public synchronized Thread newThread(Runnable r) {
+                            Thread t = new Thread(r, "PngEncoder-"
+                                    + (++this.count));
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Writes the complete zlib stream for the encoder's image to the given
+     * stream.
+     *
+     * @param out  the output stream.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     *
+     * @throws IOException if there is a problem writing to the stream or
+     *     compressing a stripe.
+     */
+    boolean compress(OutputStream out) throws IOException {
+        final int width = this.encoder.width;
+        final int height = this.encoder.height;
+        final int stripeRows = getStripeRows(this.encoder.getRowBytes());
+
+        out.write(0x78);
+        out.write(getHeaderFlags(this.encoder.compressionLevel));
+
+        LinkedList pending = new LinkedList();
+        long adler = 1L;
+        try {
+            for (int startRow = 0; startRow < height;
+                    startRow += stripeRows) {
+                int nRows = Math.min(stripeRows, height - startRow);
+                int firstRow = Math.max(startRow - 1, 0);
+                int grabRows = startRow + nRows - firstRow;
+                int[] pixels = new int[width * grabRows];
+                if (!this.encoder.grabPixels(pixels, firstRow, grabRows)) {
+                    return false;
+                }
+                pending.addLast(this.executor.submit(new StripeTask(pixels,
+                        startRow > 0, nRows, startRow + nRows == height)));
+                while (pending.size() >= this.window) {
+                    adler = writeStripe((Future) pending.removeFirst(), out,
+                            adler);
+                }
+            }
+            while (!pending.isEmpty()) {
+                adler = writeStripe((Future) pending.removeFirst(), out,
+                        adler);
+            }
+        }
+        finally {
+            while (!pending.isEmpty()) {
+                ((Future) pending.removeFirst()).cancel(true);
+            }
+        }
+
+        out.write((int) (adler >>> 24) & 0xff);
+        out.write((int) (adler >>> 16) & 0xff);
+        out.write((int) (adler >>> 8) & 0xff);
+        out.write((int) adler & 0xff);
+        return true;
+    }
+
+    /**
+     * Waits for a stripe to be compressed and writes it to the stream.
+     *
+     * @param future  the pending stripe.
+     * @param out  the output stream.
+     * @param adler  the checksum of all preceding stripes.
+     *
+     * @return The checksum including this stripe.
+     *
+     * @throws IOException if the stripe could not be compressed or written.
+     */
+    private long writeStripe(Future future, OutputStream out, long adler)
+            throws IOException {
+        Stripe stripe;
+        try {
+            stripe = (Stripe) future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while compressing the image.");
+        }
+        catch (ExecutionException e) {
+            IOException ioe = new IOException(
+                    "Unable to compress the image data.");
+            ioe.initCause(e.getCause());
+            throw ioe;
+        }
+        out.write(stripe.data, 0, stripe.length);
+        return combineAdler32(adler, stripe.adler, stripe.rawLength);
+    }
+
+    /**
+     * Returns the second byte of the zlib header (FLG) for the given
+     * compression level, including the FCHECK bits.
+     *
+     * @param level  the compression level (0 to 9).
+     *
+     * @return The header byte.
+     */
+    static int getHeaderFlags(int level) {
+        int flevel;
+        if (level < 2) {
+            flevel = 0;
+        }
+        else if (level < 6) {
+            flevel = 1;
+        }
+        else if (level == 6) {
+            flevel = 2;
+        }
+        else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        return flg + 31 - ((0x78 * 256 + flg) % 31);
+    }
+
+    /**
+     * Combines two Adler-32 checksums, as <code>adler32_combine()</code> in
+     * zlib does.
+     *
+     * @param adler1  the checksum of the first sequence.
+     * @param adler2  the checksum of the second sequence.
+     * @param len2  the length of the second sequence.
+     *
+     * @return The checksum of the two sequences concatenated.
+     */
+    static long combineAdler32(long adler1, long adler2, long len2) {
+        long rem = len2 % ADLER_BASE;
+        long sum1 = adler1 & 0xffff;
+        long sum2 = (rem * sum1) % ADLER_BASE;
+        sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff)
+                + ADLER_BASE - rem;
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum2 >= (ADLER_BASE << 1)) {
+            sum2 -= (ADLER_BASE << 1);
+        }
+        if (sum2 >= ADLER_BASE) {
+            sum2 -= ADLER_BASE;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * A compressed stripe.
+     */
+    private static final class Stripe {
+
+        /** The compressed bytes. */
+        byte[] data;
+
+        /** The number of compressed bytes. */
+        int length;
+
+        /** The Adler-32 checksum of the uncompressed bytes. */
+        long adler;
+
+        /** The number of uncompressed bytes. */
+        long rawLength;
+    }
+
+    /**
+     * Filters and compresses one stripe of rows.
+     */
+    private final class StripeTask implements Callable {
+
+        /** The pixels, including the prior row if there is one. */
+        private final int[] pixels;
+
+        /** Do the pixels start with the row before the stripe? */
+        private final boolean hasPriorRow;
+
+        /** The number of rows in the stripe. */
+        private final int nRows;
+
+        /** Is this the last stripe of the image? */
+        private final boolean last;
+
+        /** The compressed bytes. */
+        private byte[] buffer;
+
+        /** The number of compressed bytes. */
+        private int length;
+
+        /**
+         * Creates a new task.
+         *
+         * @param pixels  the pixels.
+         * @param hasPriorRow  do the pixels start with the prior row?
+         * @param nRows  the number of rows to compress.
+         * @param last  is this the last stripe?
+         */
+        StripeTask(int[] pixels, boolean hasPriorRow, int nRows,
+                boolean last) {
+            this.pixels = pixels;
+            this.hasPriorRow = hasPriorRow;
+            this.nRows = nRows;
+            this.last = last;
+        }
+
+        /**
+         * Filters and compresses the stripe.
+         *
+         * @return The compressed {@link Stripe}.
+         *
+         * @throws Exception if the sync flush fails.
+         */
+        public Object call() throws Exception {
+            final PngEncoder enc = StripeCompressor.this.encoder;
+            final int width = enc.width;
+            ScanLineFilter filter = new ScanLineFilter(enc.getRowBytes(),
+                    enc.bytesPerPixel, enc.filter);
+            int offset = 0;
+            if (this.hasPriorRow) {
+                enc.packRow(this.pixels, 0, filter.getPriorRow());
+                offset = width;
+            }
+            int lineLength = filter.getScanLineLength();
+            this.buffer = new byte[Math.max(lineLength * this.nRows / 4,
+                    1024)];
+            Adler32 adler = new Adler32();
+            Deflater deflater = (Deflater) DEFLATERS.get();
+            deflater.reset();
+            deflater.setLevel(enc.compressionLevel);
+            try {
+                for (int row = 0; row < this.nRows; row++) {
+                    enc.packRow(this.pixels, offset, filter.getCurrentRow());
+                    offset += width;
+                    byte[] line = filter.filterRow();
+                    adler.update(line, 0, lineLength);
+                    deflater.setInput(line, 0, lineLength);
+                    while (!deflater.needsInput()) {
+                        ensureSpace();
+                        this.length += deflater.deflate(this.buffer,
+                                this.length, this.buffer.length - this.length);
+                    }
+                }
+                if (this.last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        ensureSpace();
+                        this.length += deflater.deflate(this.buffer,
+                                this.length, this.buffer.length - this.length);
+                    }
+                }
+                else {
+                    while (true) {
+                        ensureSpace();
+                        int space = this.buffer.length - this.length;
+                        int n = ((Integer) DEFLATE_WITH_FLUSH.invoke(deflater,
+                                new Object[] {this.buffer,
+                                new Integer(this.length), new Integer(space),
+                                new Integer(SYNC_FLUSH)})).intValue();
+                        this.length += n;
+                        if (n < space) {
+                            break;
+                        }
+                    }
+                }
+            }
+            finally {
+                deflater.reset();
+            }
+            Stripe result = new Stripe();
+            result.data = this.buffer;
+            result.length = this.length;
+            result.adler = adler.getValue();
+            result.rawLength = (long) lineLength * this.nRows;
+            return result;
+        }
+
+        /**
+         * Makes sure that the buffer has room for more compressed bytes.
+         */
+        private void ensureSpace() {
+            if (this.buffer.length - this.length < 64) {
+                byte[] b = new byte[this.buffer.length * 2];
+                System.arraycopy(this.buffer, 0, b, 0, this.length);
+                this.buffer = b;
+            }
+        }
+    }
+
+}
@@ -37,6 +37,7 @@
  * Changes
  * -------
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Apply the configured log levels of log contexts;
  *
  */
 
@@ -106,6 +107,7 @@ public class DefaultLog extends Log {
         else if (logLevel.equalsIgnoreCase("debug")) {
             setDebuglevel(LogTarget.DEBUG);
         }
+        LogConfiguration.applyContextLevels(this);
     }
 
     /**
@@ -41,15 +41,23 @@
  * 25-Nov-2005 : The initialization was overly complicated. There is only
  *               one logtarget here, and additional targets should create
  *               an dependent module.
+ * 16-Oct-2026 : Optionally wrap the log target in an AsyncLogTarget;
+ * 16-Oct-2026 : Added support for RollingFileLogTarget;
+ * 17-Oct-2026 : Close an AsyncLogTarget at shutdown for every target type;
  */
 
 package org.jfree.base.log;
 
+import java.io.IOException;
+
 import org.jfree.base.modules.AbstractModule;
 import org.jfree.base.modules.ModuleInitializeException;
 import org.jfree.base.modules.SubSystem;
+import org.jfree.util.AsyncLogTarget;
 import org.jfree.util.Log;
+import org.jfree.util.LogTarget;
 import org.jfree.util.PrintStreamLogTarget;
+import org.jfree.util.RollingFileLogTarget;
 
 /**
  * The module definition for the System.out-Logging. This is the default log
@@ -72,7 +80,7 @@ public class DefaultLogModule extends AbstractModule
 
   /**
    * Initalizes the module. This method initializes the logging system, if the
-   * System.out logtarget is selected.
+   * System.out logtarget or the rolling file logtarget is selected.
    *
    * @param subSystem the sub-system.
    * @throws ModuleInitializeException if an error occured.
@@ -85,19 +93,95 @@ public class DefaultLogModule extends AbstractModule
       return;
     }
 
-    if (LogConfiguration.getLogTarget().equals
-            (PrintStreamLogTarget.class.getName()))
+    final String targetClass = LogConfiguration.getLogTarget();
+    LogTarget target;
+    RollingFileLogTarget fileTarget = null;
+    if (targetClass.equals(PrintStreamLogTarget.class.getName()))
+    {
+      target = new PrintStreamLogTarget();
+    }
+    else if (targetClass.equals(RollingFileLogTarget.class.getName()))
+    {
+      try
+      {
+        fileTarget = LogConfiguration.createRollingFileLogTarget();
+      }
+      catch (IOException e)
+      {
+        throw new ModuleInitializeException
+                ("Unable to open the log file.", e);
+      }
+      target = fileTarget;
+    }
+    else
+    {
+      return;
+    }
+
+    DefaultLog.installDefaultLog();
+    if (LogConfiguration.isAsyncLogging())
+    {
+      target = new AsyncLogTarget(target);
+    }
+    Log.getInstance().addTarget(target);
+    // the asynchronous worker is a daemon thread, so queued messages are
+    // lost at exit unless the target is closed
+    if ((target instanceof AsyncLogTarget) || (fileTarget != null))
     {
-      DefaultLog.installDefaultLog();
-      Log.getInstance().addTarget(new PrintStreamLogTarget());
+      Runtime.getRuntime().addShutdownHook(new CloseLogThread(target, fileTarget));
+    }
 
-      if ("true".equals(subSystem.getGlobalConfig().getConfigProperty
-              ("org.jfree.base.LogAutoInit")))
+    if ("true".equals(subSystem.getGlobalConfig().getConfigProperty
+            ("org.jfree.base.LogAutoInit")))
+    {
+      Log.getInstance().init();
+    }
+    Log.info("Default log target started ... previous log messages " +
+            "could have been ignored.");
+  }
+
+  /**
+   * Closes the log target when the virtual machine shuts down, so that
+   * queued and buffered messages reach the print stream or the log file.
+   */
+  private static class CloseLogThread extends Thread
+  {
+    /** The registered log target. */
+    private final LogTarget target;
+
+    /**
+     * The file log target (possibly wrapped by the registered target, and
+     * <code>null</code> if there is no file log target).
+     */
+    private final RollingFileLogTarget fileTarget;
+
+    /**
+     * Creates a new thread.
+     *
+     * @param target the registered log target.
+     * @param fileTarget the file log target (<code>null</code> permitted).
+     */
+    private CloseLogThread(final LogTarget target,
+                           final RollingFileLogTarget fileTarget)
+    {
+      super("DefaultLogModule-close");
+      this.target = target;
+      this.fileTarget = fileTarget;
+    }
+
+    /**
+     * Delivers any queued messages and closes the log file.
+     */
+    public void run()
+    {
+      if (this.target instanceof AsyncLogTarget)
+      {
+        ((AsyncLogTarget) this.target).close();
+      }
+      if (this.fileTarget != null)
       {
-        Log.getInstance().init();
+        this.fileTarget.close();
       }
-      Log.info("Default log target started ... previous log messages " +
-              "could have been ignored.");
     }
   }
 }
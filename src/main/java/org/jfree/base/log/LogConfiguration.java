@@ -37,13 +37,24 @@
  * Changes
  * -------
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Added the 'async logging' property;
+ * 16-Oct-2026 : Added log levels for log contexts;
+ * 16-Oct-2026 : Added the properties of the rolling file log target;
  *
  */
 
 package org.jfree.base.log;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
 import org.jfree.base.BaseBoot;
+import org.jfree.util.Configuration;
+import org.jfree.util.Log;
+import org.jfree.util.LogTarget;
 import org.jfree.util.PrintStreamLogTarget;
+import org.jfree.util.RollingFileLogTarget;
 
 /**
  * A log configuration class. This implementation is a simple frontend
@@ -61,6 +72,13 @@ public class LogConfiguration {
   /** The default 'log level' property value. */
   public static final String LOGLEVEL_DEFAULT = "Info";
 
+  /**
+   * The prefix of the 'log level' property of a log context.  The context
+   * name follows the prefix, for example
+   * <code>org.jfree.base.LogLevel.org.jfree.xml=Debug</code>.
+   */
+  public static final String LOGLEVEL_PREFIX = LOGLEVEL + ".";
+
   /** The 'log target' property key. */
   public static final String LOGTARGET = "org.jfree.base.LogTarget";
 
@@ -71,6 +89,45 @@ public class LogConfiguration {
   /** The 'disable logging' property key. */
   public static final String DISABLE_LOGGING = "org.jfree.base.NoDefaultDebug"; 
 
+  /** The 'async logging' property key. */
+  public static final String ASYNC_LOGGING = "org.jfree.base.LogAsync";
+
+  /** The default 'async logging' property value. */
+  public static final String ASYNC_LOGGING_DEFAULT = "false";
+
+  /** The 'log file' property key (for the rolling file log target). */
+  public static final String LOGFILE = "org.jfree.base.LogFile";
+
+  /** The default 'log file' property value. */
+  public static final String LOGFILE_DEFAULT = "jcommon.log";
+
+  /** The 'log file maximum size' property key (in bytes, 0 for no limit). */
+  public static final String LOGFILE_MAX_SIZE = "org.jfree.base.LogFileMaxSize";
+
+  /**
+   * The 'log file roll interval' property key (in milliseconds, 0 for no
+   * time based rolling).
+   */
+  public static final String LOGFILE_ROLL_INTERVAL =
+          "org.jfree.base.LogFileRollInterval";
+
+  /** The 'compress rolled log files' property key. */
+  public static final String LOGFILE_COMPRESS = "org.jfree.base.LogFileCompress";
+
+  /**
+   * The 'log file flush level' property key.  Messages at this level or a
+   * more severe one are written out immediately.
+   */
+  public static final String LOGFILE_FLUSH_LEVEL =
+          "org.jfree.base.LogFileFlushLevel";
+
+  /** The 'log file flush interval' property key (in milliseconds). */
+  public static final String LOGFILE_FLUSH_INTERVAL =
+          "org.jfree.base.LogFileFlushInterval";
+
+  /** The 'log file sync on flush' property key. */
+  public static final String LOGFILE_SYNC = "org.jfree.base.LogFileSync";
+
   /**
    * Default constructor.
    */
@@ -99,6 +156,66 @@ public class LogConfiguration {
       BaseBoot.getConfiguration().setConfigProperty (LOGTARGET, logTarget);
   }
 
+  /**
+   * Creates a rolling file log target from the <code>LOGFILE</code>
+   * properties of the global configuration.
+   *
+   * @return the log target.
+   *
+   * @throws IOException if the log file cannot be opened.
+   */
+  public static RollingFileLogTarget createRollingFileLogTarget()
+      throws IOException
+  {
+    final Configuration config = BaseBoot.getInstance().getGlobalConfig();
+    final RollingFileLogTarget target = new RollingFileLogTarget
+        (new File(config.getConfigProperty(LOGFILE, LOGFILE_DEFAULT)));
+    target.setMaxFileSize(getLong(config, LOGFILE_MAX_SIZE,
+        RollingFileLogTarget.DEFAULT_MAX_FILE_SIZE));
+    target.setRollInterval(getLong(config, LOGFILE_ROLL_INTERVAL, 0L));
+    target.setCompressRolledFiles("true".equalsIgnoreCase
+        (config.getConfigProperty(LOGFILE_COMPRESS)));
+    final String flushLevel = config.getConfigProperty(LOGFILE_FLUSH_LEVEL);
+    if (flushLevel != null)
+    {
+      target.setFlushLevel(parseLogLevel(flushLevel));
+    }
+    target.setFlushInterval(getLong(config, LOGFILE_FLUSH_INTERVAL,
+        RollingFileLogTarget.DEFAULT_FLUSH_INTERVAL));
+    target.setSyncOnFlush("true".equalsIgnoreCase
+        (config.getConfigProperty(LOGFILE_SYNC)));
+    return target;
+  }
+
+  /**
+   * Reads a non-negative number from the configuration.
+   *
+   * @param config  the configuration.
+   * @param key  the property key.
+   * @param defaultValue  the value to use if the property is missing or
+   *                      invalid.
+   *
+   * @return the value.
+   */
+  private static long getLong(final Configuration config, final String key,
+                              final long defaultValue)
+  {
+    final String value = config.getConfigProperty(key);
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    try
+    {
+      final long result = Long.parseLong(value.trim());
+      return (result < 0) ? defaultValue : result;
+    }
+    catch (NumberFormatException e)
+    {
+      return defaultValue;
+    }
+  }
+
   /**
    * Returns the log level.
    *
@@ -138,6 +255,92 @@ public class LogConfiguration {
     BaseBoot.getConfiguration().setConfigProperty(LOGLEVEL, level);
   }
 
+  /**
+   * Returns the log level of a log context.
+   *
+   * @param context  the context name.
+   *
+   * @return the log level, or <code>null</code> if the context inherits the
+   *         level of its parent.
+   */
+  public static String getLogLevel(final String context)
+  {
+    return BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+            (LOGLEVEL_PREFIX + context);
+  }
+
+  /**
+   * Sets the log level of a log context and of the contexts below it (the
+   * context names are hierarchical at the dots, like package names).  Unlike
+   * the global level, the change takes effect immediately.
+   *
+   * @param context  the context name.
+   * @param level  the new log level (one of the values listed for
+   *               {@link #setLogLevel(String)}), or <code>null</code> to
+   *               inherit the level of the parent context.
+   */
+  public static void setLogLevel(final String context, final String level)
+  {
+    BaseBoot.getConfiguration().setConfigProperty
+            (LOGLEVEL_PREFIX + context, level);
+    if (level == null)
+    {
+      Log.getInstance().removeContextLevel(context);
+    }
+    else
+    {
+      Log.getInstance().setContextLevel(context, parseLogLevel(level));
+    }
+  }
+
+  /**
+   * Copies the log levels of all log contexts from the global configuration
+   * to the given log.
+   *
+   * @param log  the log.
+   */
+  public static void applyContextLevels(final Log log)
+  {
+    final Configuration config = BaseBoot.getInstance().getGlobalConfig();
+    final Iterator keys = config.findPropertyKeys(LOGLEVEL_PREFIX);
+    while (keys.hasNext())
+    {
+      final String key = (String) keys.next();
+      final String level = config.getConfigProperty(key);
+      if (level != null)
+      {
+        log.setContextLevel(key.substring(LOGLEVEL_PREFIX.length()),
+            parseLogLevel(level));
+      }
+    }
+  }
+
+  /**
+   * Converts a log level name (not case sensitive) to one of the
+   * {@link LogTarget} constants.  Unknown names map to
+   * {@link LogTarget#INFO}.
+   *
+   * @param level  the level name.
+   *
+   * @return the log level.
+   */
+  public static int parseLogLevel(final String level)
+  {
+    if (level.equalsIgnoreCase("error"))
+    {
+      return LogTarget.ERROR;
+    }
+    if (level.equalsIgnoreCase("warn"))
+    {
+      return LogTarget.WARN;
+    }
+    if (level.equalsIgnoreCase("debug"))
+    {
+      return LogTarget.DEBUG;
+    }
+    return LogTarget.INFO;
+  }
+
   /**
    * Returns <code>true</code> if logging is disabled, and <code>false</code> otherwise.
    *
@@ -164,5 +367,30 @@ public class LogConfiguration {
             (DISABLE_LOGGING, String.valueOf(disableLogging));
   }
 
+  /**
+   * Returns <code>true</code> if the default log target writes its output
+   * on a background thread (see {@link org.jfree.util.AsyncLogTarget}).
+   *
+   * @return true, if logging is asynchronous, false otherwise.
+   */
+  public static boolean isAsyncLogging()
+  {
+    return BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (ASYNC_LOGGING, ASYNC_LOGGING_DEFAULT).equalsIgnoreCase("true");
+  }
+
+  /**
+   * Sets the flag that makes the default log target write its output on a
+   * background thread.  The flag is read when the log module is
+   * initialized.
+   *
+   * @param asyncLogging  the flag.
+   */
+  public static void setAsyncLogging(final boolean asyncLogging)
+  {
+    BaseBoot.getConfiguration().setConfigProperty
+            (ASYNC_LOGGING, String.valueOf(asyncLogging));
+  }
+
 
 }
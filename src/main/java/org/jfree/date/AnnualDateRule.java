@@ -39,6 +39,7 @@
  * 26-Oct-2001 : Changed package to com.jrefinery.date.* (DG);
  * 12-Nov-2001 : Javadoc comments updated (DG);
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Added getOrdinal(int);
  *
  */
 
@@ -68,6 +69,22 @@ public abstract class AnnualDateRule implements Cloneable {
      */
     public abstract DayDate getDate(int year);
 
+    /**
+     * Returns the serial number (see {@link SpreadsheetDate}) of the date for
+     * this rule, given the year.  The default implementation returns the 
+     * serial number of the date returned by {@link #getDate(int)}; subclasses
+     * can override this method to calculate the serial number without 
+     * creating a date.
+     *
+     * @param year the year (1900 &lt;= year &lt;= 9999).
+     * @return the serial number of the date for this rule, or zero if the 
+     * rule does not generate a date for the given year.
+     */
+    public int getOrdinal(final int year) {
+        final DayDate date = getDate(year);
+        return (date != null) ? date.getOrdinalDay() : 0;
+    }
+
     /**
      * Returns a clone of the rule.
      * <p>
@@ -0,0 +1,426 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * BusinessCalendar.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import org.jfree.daydate.Day;
+import org.jfree.daydate.DayDateFactory;
+
+/**
+ * A calendar of business days, built from a set of {@link AnnualDateRule}s 
+ * that define the holidays and a set of weekend days.  The calendar covers
+ * a fixed range of years, and records one bit per day (set for business 
+ * days) together with a running count of business days at the start of each
+ * 64-day word.  This means that {@link #isBusinessDay(int)} and 
+ * {@link #businessDaysBetween(int, int)} take constant time, and 
+ * {@link #addBusinessDays(int, int)} takes time proportional to the number
+ * of words spanned (for small numbers of days) or to the logarithm of the 
+ * number of words.
+ * <p>
+ * A holiday that falls on a weekend is not moved to another day - use a
+ * {@link RelativeDayOfWeekRule} if a holiday is observed on a different day.
+ * <p>
+ * Instances of this class are immutable, and can be shared between threads.
+ */
+public class BusinessCalendar {
+
+    /** 
+     * The largest number of business days that addBusinessDays() finds by
+     * counting through the words next to the date. 
+     */
+    private static final int SCAN_LIMIT = 64;
+
+    /** The first year in the calendar. */
+    private final int startYear;
+
+    /** The last year in the calendar. */
+    private final int endYear;
+
+    /** The serial number of 1 January in the first year. */
+    private final int firstSerial;
+
+    /** The serial number of 31 December in the last year. */
+    private final int lastSerial;
+
+    /** One bit per day, set for business days. */
+    private final long[] businessDays;
+
+    /** 
+     * The number of business days before the start of each word (the last 
+     * entry is the total number of business days). 
+     */
+    private final int[] counts;
+
+    /**
+     * Creates a calendar with Saturday and Sunday as the weekend days.
+     *
+     * @param holidays  the rules for the holidays (<code>null</code> not 
+     *                  permitted).
+     * @param startYear  the first year in the calendar.
+     * @param endYear  the last year in the calendar.
+     */
+    public BusinessCalendar(final AnnualDateRule[] holidays, 
+            final int startYear, final int endYear) {
+        this(holidays, new int[] {Day.SATURDAY.toInt(), Day.SUNDAY.toInt()}, 
+                startYear, endYear);
+    }
+
+    /**
+     * Creates a calendar.
+     *
+     * @param holidays  the rules for the holidays (<code>null</code> not 
+     *                  permitted).
+     * @param weekendDays  the codes for the weekend days (see 
+     *                     {@link Day#toInt()}, <code>null</code> not 
+     *                     permitted).
+     * @param startYear  the first year in the calendar.
+     * @param endYear  the last year in the calendar.
+     */
+    public BusinessCalendar(final AnnualDateRule[] holidays, 
+            final int[] weekendDays, final int startYear, final int endYear) {
+        if (holidays == null) {
+            throw new IllegalArgumentException("Null 'holidays' argument.");
+        }
+        if (weekendDays == null) {
+            throw new IllegalArgumentException("Null 'weekendDays' argument.");
+        }
+        if ((startYear < SpreadsheetDate.MINIMUM_YEAR_SUPPORTED) 
+                || (endYear > SpreadsheetDate.MAXIMUM_YEAR_SUPPORTED)
+                || (startYear > endYear)) {
+            throw new IllegalArgumentException(
+                    "BusinessCalendar(): invalid range of years.");
+        }
+        this.startYear = startYear;
+        this.endYear = endYear;
+        this.firstSerial = SpreadsheetDate.toOrdinal(1, 
+                MonthConstants.JANUARY, startYear);
+        this.lastSerial = SpreadsheetDate.toOrdinal(31, 
+                MonthConstants.DECEMBER, endYear);
+        final int days = this.lastSerial - this.firstSerial + 1;
+        this.businessDays = new long[(days + 63) >>> 6];
+
+        // mark every day that is not a weekend day...
+        final boolean[] weekend = new boolean[8];
+        for (int i = 0; i < weekendDays.length; i++) {
+            weekend[Day.fromInt(weekendDays[i]).toInt()] = true;
+        }
+        int dayOfWeek = SpreadsheetDate.dayOfWeek(this.firstSerial);
+        for (int i = 0; i < days; i++) {
+            if (!weekend[dayOfWeek]) {
+                this.businessDays[i >>> 6] |= 1L << i;
+            }
+            dayOfWeek = (dayOfWeek == Day.SATURDAY.toInt()) 
+                    ? Day.SUNDAY.toInt() : dayOfWeek + 1;
+        }
+
+        // ...then clear the holidays
+        for (int r = 0; r < holidays.length; r++) {
+            for (int year = startYear; year <= endYear; year++) {
+                final int serial = holidays[r].getOrdinal(year);
+                if ((serial >= this.firstSerial) 
+                        && (serial <= this.lastSerial)) {
+                    final int i = serial - this.firstSerial;
+                    this.businessDays[i >>> 6] &= ~(1L << i);
+                }
+            }
+        }
+
+        this.counts = new int[this.businessDays.length + 1];
+        for (int w = 0; w < this.businessDays.length; w++) {
+            this.counts[w + 1] = this.counts[w] 
+                    + Long.bitCount(this.businessDays[w]);
+        }
+    }
+
+    /**
+     * Returns the first year in the calendar.
+     *
+     * @return The first year.
+     */
+    public int getStartYear() {
+        return this.startYear;
+    }
+
+    /**
+     * Returns the last year in the calendar.
+     *
+     * @return The last year.
+     */
+    public int getEndYear() {
+        return this.endYear;
+    }
+
+    /**
+     * Returns <code>true</code> if the date with the specified serial number
+     * is a business day, and <code>false</code> if it is a weekend day or a 
+     * holiday.
+     *
+     * @param serial  the serial number (must be within the calendar).
+     *
+     * @return A boolean.
+     */
+    public boolean isBusinessDay(final int serial) {
+        final int i = index(serial);
+        return (this.businessDays[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified date is a business day.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean isBusinessDay(final DayDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Null 'date' argument.");
+        }
+        return isBusinessDay(date.getOrdinalDay());
+    }
+
+    /**
+     * Returns the number of business days after the start date, up to and 
+     * including the end date.  If the end date is before the start date, 
+     * the result is negative.
+     *
+     * @param start  the serial number of the start date (must be within 
+     *               the calendar).
+     * @param end  the serial number of the end date (must be within the 
+     *             calendar).
+     *
+     * @return The number of business days.
+     */
+    public int businessDaysBetween(final int start, final int end) {
+        return rank(index(end)) - rank(index(start));
+    }
+
+    /**
+     * Returns the number of business days after the start date, up to and 
+     * including the end date.
+     *
+     * @param start  the start date (<code>null</code> not permitted).
+     * @param end  the end date (<code>null</code> not permitted).
+     *
+     * @return The number of business days.
+     */
+    public int businessDaysBetween(final DayDate start, final DayDate end) {
+        if (start == null) {
+            throw new IllegalArgumentException("Null 'start' argument.");
+        }
+        if (end == null) {
+            throw new IllegalArgumentException("Null 'end' argument.");
+        }
+        return businessDaysBetween(start.getOrdinalDay(), end.getOrdinalDay());
+    }
+
+    /**
+     * Returns the serial number of the date that is the specified number of
+     * business days after (or, if <code>days</code> is negative, before) a
+     * date.  The date itself does not need to be a business day, and is
+     * returned unchanged if <code>days</code> is zero.
+     *
+     * @param serial  the serial number (must be within the calendar).
+     * @param days  the number of business days.
+     *
+     * @return The serial number of the business day.
+     */
+    public int addBusinessDays(final int serial, final int days) {
+        final int i = index(serial);
+        if (days == 0) {
+            return serial;
+        }
+        if ((days >= -SCAN_LIMIT) && (days <= SCAN_LIMIT)) {
+            return this.firstSerial + scan(i, days);
+        }
+        final int target;
+        if (days > 0) {
+            target = rank(i) + days;
+        } else {
+            // the last business day before the date has rank(i - 1)
+            target = rank(i - 1) + days + 1;
+        }
+        if ((target < 1) || (target > this.counts[this.counts.length - 1])) {
+            throw resultOutsideCalendar();
+        }
+        return this.firstSerial + select(target);
+    }
+
+    /**
+     * Returns the date that is the specified number of business days after 
+     * (or, if <code>days</code> is negative, before) a date.
+     *
+     * @param date  the date (<code>null</code> not permitted).
+     * @param days  the number of business days.
+     *
+     * @return The business day.
+     */
+    public DayDate addBusinessDays(final DayDate date, final int days) {
+        if (date == null) {
+            throw new IllegalArgumentException("Null 'date' argument.");
+        }
+        return DayDateFactory.makeDate(addBusinessDays(date.getOrdinalDay(), 
+                days));
+    }
+
+    /**
+     * Returns the index of a serial number in the bitmap.
+     *
+     * @param serial  the serial number.
+     *
+     * @return The index.
+     */
+    private int index(final int serial) {
+        if ((serial < this.firstSerial) || (serial > this.lastSerial)) {
+            throw new IllegalArgumentException(
+                    "BusinessCalendar: date outside the calendar.");
+        }
+        return serial - this.firstSerial;
+    }
+
+    /**
+     * Returns the index of the business day that is the specified number of
+     * business days after (or before) an index, counting the business days
+     * in each word from the index onwards (or backwards).
+     *
+     * @param i  the index.
+     * @param days  the number of business days (not zero).
+     *
+     * @return The index of the business day.
+     */
+    private int scan(final int i, final int days) {
+        int w = i >>> 6;
+        long bits;
+        int n;
+        if (days > 0) {
+            // the business days after the index in the same word...
+            bits = this.businessDays[w] & (-2L << (i & 63));
+            n = days;
+            int c = Long.bitCount(bits);
+            while (c < n) {
+                n -= c;
+                w++;
+                if (w == this.businessDays.length) {
+                    throw resultOutsideCalendar();
+                }
+                bits = this.businessDays[w];
+                c = Long.bitCount(bits);
+            }
+            // ...then the n-th lowest bit
+            for (; n > 1; n--) {
+                bits &= bits - 1;
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(bits);
+        } else {
+            // the business days before the index in the same word...
+            bits = this.businessDays[w] & ((1L << (i & 63)) - 1);
+            n = -days;
+            int c = Long.bitCount(bits);
+            while (c < n) {
+                n -= c;
+                w--;
+                if (w < 0) {
+                    throw resultOutsideCalendar();
+                }
+                bits = this.businessDays[w];
+                c = Long.bitCount(bits);
+            }
+            // ...then the n-th highest bit
+            for (; n > 1; n--) {
+                bits &= ~Long.highestOneBit(bits);
+            }
+            return (w << 6) + 63 - Long.numberOfLeadingZeros(bits);
+        }
+    }
+
+    /**
+     * Returns the number of business days up to and including the day at 
+     * an index (zero for an index of -1).
+     *
+     * @param i  the index.
+     *
+     * @return The number of business days.
+     */
+    private int rank(final int i) {
+        if (i < 0) {
+            return 0;
+        }
+        final int w = i >>> 6;
+        final long mask = -1L >>> (63 - (i & 63));
+        return this.counts[w] + Long.bitCount(this.businessDays[w] & mask);
+    }
+
+    /**
+     * Returns the index of the business day with the specified rank.
+     *
+     * @param target  the rank (from 1 to the number of business days).
+     *
+     * @return The index.
+     */
+    private int select(final int target) {
+        // find the last word that starts with fewer business days...
+        int low = 0;
+        int high = this.businessDays.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.counts[mid] < target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // ...then find the bit within the word
+        long bits = this.businessDays[low];
+        for (int k = target - this.counts[low]; k > 1; k--) {
+            bits &= bits - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns the exception for a result outside the calendar.
+     *
+     * @return The exception.
+     */
+    private static IllegalArgumentException resultOutsideCalendar() {
+        return new IllegalArgumentException(
+                "BusinessCalendar: result outside the calendar.");
+    }
+
+}
@@ -0,0 +1,179 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * CachedAnnualDateRule.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import org.jfree.daydate.DayDateFactory;
+
+/**
+ * An annual date rule that remembers the serial number generated by another
+ * rule for each year, so that the other rule only does its calculation once
+ * per year.  This is useful for rules such as {@link EasterSundayRule} (and
+ * any {@link RelativeDayOfWeekRule} based on it) that are evaluated again
+ * and again for the same few years.
+ * <p>
+ * The results are held in an <code>int</code> array indexed by year, with
+ * zero for a year that has not been calculated yet.  The array is read
+ * without locking: two threads may both calculate a year that has not been
+ * cached, but they write the same value, and a reader sees either zero or
+ * the final value.
+ * <p>
+ * The wrapped rule should not be changed after it is wrapped (or 
+ * {@link #clear()} should be called when it is).
+ */
+public class CachedAnnualDateRule extends AnnualDateRule {
+
+    /** The value cached for a year where the rule does not give a date. */
+    private static final int NO_DATE = -1;
+
+    /** The rule that generates the dates. */
+    private AnnualDateRule rule;
+
+    /** The first year that is cached. */
+    private final int startYear;
+
+    /** 
+     * The serial numbers for each year (zero if not calculated yet).  This 
+     * is volatile so that a new array from {@link #clear()} is seen by all
+     * threads. 
+     */
+    private volatile int[] ordinals;
+
+    /**
+     * Creates a cache for all the supported years.
+     *
+     * @param rule  the rule (<code>null</code> not permitted).
+     */
+    public CachedAnnualDateRule(final AnnualDateRule rule) {
+        this(rule, SpreadsheetDate.MINIMUM_YEAR_SUPPORTED, 
+                SpreadsheetDate.MAXIMUM_YEAR_SUPPORTED);
+    }
+
+    /**
+     * Creates a cache for a range of years.  Dates for years outside the 
+     * range are passed through to the rule each time.
+     *
+     * @param rule  the rule (<code>null</code> not permitted).
+     * @param startYear  the first year to cache.
+     * @param endYear  the last year to cache.
+     */
+    public CachedAnnualDateRule(final AnnualDateRule rule, 
+            final int startYear, final int endYear) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Null 'rule' argument.");
+        }
+        if ((startYear < SpreadsheetDate.MINIMUM_YEAR_SUPPORTED) 
+                || (endYear > SpreadsheetDate.MAXIMUM_YEAR_SUPPORTED)
+                || (startYear > endYear)) {
+            throw new IllegalArgumentException(
+                    "CachedAnnualDateRule(): invalid range of years.");
+        }
+        this.rule = rule;
+        this.startYear = startYear;
+        this.ordinals = new int[endYear - startYear + 1];
+    }
+
+    /**
+     * Returns the rule that generates the dates.
+     *
+     * @return The rule (never <code>null</code>).
+     */
+    public AnnualDateRule getRule() {
+        return this.rule;
+    }
+
+    /**
+     * Forgets all the cached results (call this if the wrapped rule is 
+     * changed).
+     */
+    public void clear() {
+        this.ordinals = new int[this.ordinals.length];
+    }
+
+    /**
+     * Returns the serial number of the date for the given year, calculating
+     * it with the wrapped rule if it is not already cached.
+     *
+     * @param year the year (1900 &lt;= year &lt;= 9999).
+     * @return the serial number of the date, or zero if the rule does not 
+     * generate a date for the given year.
+     */
+    public int getOrdinal(final int year) {
+        final int[] cache = this.ordinals;
+        final int i = year - this.startYear;
+        if ((i < 0) || (i >= cache.length)) {
+            return this.rule.getOrdinal(year);
+        }
+        int result = cache[i];
+        if (result == 0) {
+            result = this.rule.getOrdinal(year);
+            cache[i] = (result != 0) ? result : NO_DATE;
+        }
+        return (result != NO_DATE) ? result : 0;
+    }
+
+    /**
+     * Returns the date for the given year.  The date is made from the cached
+     * serial number by the {@link DayDateFactory}.
+     *
+     * @param year the year (1900 &lt;= year &lt;= 9999).
+     * @return the date for the given year (possibly <code>null</code>).
+     */
+    public DayDate getDate(final int year) {
+        final int ordinal = getOrdinal(year);
+        return (ordinal != 0) ? DayDateFactory.makeDate(ordinal) : null;
+    }
+
+    /**
+     * Returns a clone of this rule, which wraps a clone of the rule and has 
+     * its own cache.
+     *
+     * @return a clone of the rule.
+     * @throws CloneNotSupportedException if the rule is not clonable.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        final CachedAnnualDateRule duplicate 
+                = (CachedAnnualDateRule) super.clone();
+        duplicate.rule = (AnnualDateRule) this.rule.clone();
+        duplicate.ordinals = new int[this.ordinals.length];
+        return duplicate;
+    }
+
+}
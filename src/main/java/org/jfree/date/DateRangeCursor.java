@@ -0,0 +1,338 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * DateRangeCursor.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import org.jfree.daydate.DateInterval;
+import org.jfree.daydate.DateUtil;
+import org.jfree.daydate.Day;
+import org.jfree.daydate.Month;
+import org.jfree.daydate.WeekInMonth;
+
+/**
+ * A cursor that steps through the days in a range of serial numbers (see 
+ * {@link SpreadsheetDate}), optionally keeping only the days that fall on 
+ * certain days of the week, in a certain week of the month, or on the last
+ * day of the month.  The day, month, year and day-of-the-week of the current
+ * date are updated as the cursor moves, so no date objects are created.
+ * <p>
+ * For example, to visit the third Wednesday of every month in a range:
+ * <pre>
+ * DateRangeCursor cursor = new DateRangeCursor(start, end);
+ * cursor.setDaysOfWeek(new Day[] {Day.WEDNESDAY});
+ * cursor.setWeekInMonth(WeekInMonth.THIRD);
+ * while (cursor.next()) {
+ *     int serial = cursor.getSerial();
+ *     ...
+ * }
+ * </pre>
+ * A cursor is not thread-safe, but a long range can be split into smaller
+ * ranges with one cursor each.
+ */
+public class DateRangeCursor {
+
+    /** The first serial number in the range. */
+    private final int first;
+
+    /** The last serial number in the range. */
+    private final int last;
+
+    /** The days of the week to keep, one bit per day code (0 for all). */
+    private int daysOfWeek;
+
+    /** The week in the month to keep (<code>null</code> for all). */
+    private WeekInMonth weekInMonth;
+
+    /** Keep only the last day of each month? */
+    private boolean endOfMonth;
+
+    /** The current serial number (first - 1 before the first call). */
+    private int serial;
+
+    /** The day of the month of the current date. */
+    private int day;
+
+    /** The month of the current date. */
+    private int month;
+
+    /** The year of the current date. */
+    private int year;
+
+    /** The day-of-the-week code of the current date. */
+    private int dayOfWeek;
+
+    /** The last day of the month of the current date. */
+    private int lastDayOfMonth;
+
+    /**
+     * Creates a cursor for the days from <code>start</code> to 
+     * <code>end</code>, including both.
+     *
+     * @param start  the serial number of the first day.
+     * @param end  the serial number of the last day.
+     */
+    public DateRangeCursor(final int start, final int end) {
+        this(start, end, DateInterval.CLOSED);
+    }
+
+    /**
+     * Creates a cursor for the days between two dates.  As with 
+     * {@link DayDate#isInRange(DayDate, DayDate, DateInterval)}, the order 
+     * of the two dates is not important.
+     *
+     * @param d1  the serial number of one boundary date.
+     * @param d2  the serial number of the other boundary date.
+     * @param interval  controls whether or not the boundary dates are 
+     *                  included (<code>null</code> not permitted).
+     */
+    public DateRangeCursor(final int d1, final int d2, 
+            final DateInterval interval) {
+        if (interval == null) {
+            throw new IllegalArgumentException("Null 'interval' argument.");
+        }
+        final int start = Math.min(d1, d2);
+        final int end = Math.max(d1, d2);
+        if ((start < SpreadsheetDate.EARLIEST_DATE_ORDINAL) 
+                || (end > SpreadsheetDate.LATEST_DATE_ORDINAL)) {
+            throw new IllegalArgumentException(
+                    "DateRangeCursor: Serial must be in range 2 to 2958465.");
+        }
+        this.first = interval.isIn(start, start, end) ? start : start + 1;
+        this.last = interval.isIn(end, start, end) ? end : end - 1;
+        this.serial = this.first - 1;
+    }
+
+    /**
+     * Sets the days of the week to keep.
+     *
+     * @param days  the days (<code>null</code> or empty to keep all days).
+     */
+    public void setDaysOfWeek(final Day[] days) {
+        int mask = 0;
+        if (days != null) {
+            for (int i = 0; i < days.length; i++) {
+                mask |= 1 << days[i].toInt();
+            }
+        }
+        this.daysOfWeek = mask;
+    }
+
+    /**
+     * Sets the week of the month to keep, where the first week is days 1 to
+     * 7, the second week is days 8 to 14 and so on, and the last week is the
+     * last seven days of the month.  Combined with a single day of the week,
+     * this gives dates such as the third Wednesday of each month.
+     *
+     * @param week  the week (<code>null</code> to keep all weeks).
+     */
+    public void setWeekInMonth(final WeekInMonth week) {
+        this.weekInMonth = week;
+    }
+
+    /**
+     * Sets the flag that controls whether only the last day of each month
+     * is kept.
+     *
+     * @param endOfMonth  the flag.
+     */
+    public void setEndOfMonth(final boolean endOfMonth) {
+        this.endOfMonth = endOfMonth;
+    }
+
+    /**
+     * Moves the cursor back to the start of the range.
+     */
+    public void reset() {
+        this.serial = this.first - 1;
+    }
+
+    /**
+     * Moves to the next day in the range that passes the filters.
+     *
+     * @return <code>true</code> if the cursor is on a day, and 
+     *         <code>false</code> if there are no more days in the range.
+     */
+    public boolean next() {
+        if (this.serial >= this.last) {
+            return false;
+        }
+        if (this.serial < this.first) {
+            load(this.first);
+        } else {
+            advance();
+        }
+        while (!accept()) {
+            if (this.serial == this.last) {
+                return false;
+            }
+            advance();
+        }
+        return true;
+    }
+
+    /**
+     * Copies the serial numbers of the remaining days that pass the filters
+     * into an array.
+     *
+     * @return The serial numbers.
+     */
+    public int[] toArray() {
+        int[] result = new int[16];
+        int count = 0;
+        while (next()) {
+            if (count == result.length) {
+                final int[] larger = new int[count * 2];
+                System.arraycopy(result, 0, larger, 0, count);
+                result = larger;
+            }
+            result[count++] = this.serial;
+        }
+        final int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Returns the serial number of the current day.
+     *
+     * @return The serial number.
+     */
+    public int getSerial() {
+        return this.serial;
+    }
+
+    /**
+     * Returns the day of the month of the current day.
+     *
+     * @return The day of the month.
+     */
+    public int getDayOfMonth() {
+        return this.day;
+    }
+
+    /**
+     * Returns the month of the current day (January = 1).
+     *
+     * @return The month.
+     */
+    public int getMonth() {
+        return this.month;
+    }
+
+    /**
+     * Returns the year of the current day.
+     *
+     * @return The year.
+     */
+    public int getYear() {
+        return this.year;
+    }
+
+    /**
+     * Returns the day-of-the-week code of the current day (see 
+     * {@link Day#toInt()}).
+     *
+     * @return The day-of-the-week code.
+     */
+    public int getDayOfWeek() {
+        return this.dayOfWeek;
+    }
+
+    /**
+     * Moves the cursor to a serial number, decoding it in full.
+     *
+     * @param s  the serial number.
+     */
+    private void load(final int s) {
+        final int packed = SpreadsheetDate.decode(s);
+        this.serial = s;
+        this.year = packed >>> 9;
+        this.month = (packed >> 5) & 0xF;
+        this.day = packed & 0x1F;
+        this.dayOfWeek = SpreadsheetDate.dayOfWeek(s);
+        this.lastDayOfMonth = DateUtil.lastDayOfMonth(
+                Month.fromInt(this.month), this.year);
+    }
+
+    /**
+     * Moves the cursor on by one day.
+     */
+    private void advance() {
+        this.serial++;
+        this.dayOfWeek = (this.dayOfWeek == Day.SATURDAY.toInt()) 
+                ? Day.SUNDAY.toInt() : this.dayOfWeek + 1;
+        if (this.day < this.lastDayOfMonth) {
+            this.day++;
+        } else {
+            this.day = 1;
+            if (this.month < MonthConstants.DECEMBER) {
+                this.month++;
+            } else {
+                this.month = MonthConstants.JANUARY;
+                this.year++;
+            }
+            this.lastDayOfMonth = DateUtil.lastDayOfMonth(
+                    Month.fromInt(this.month), this.year);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the current day passes the filters.
+     *
+     * @return A boolean.
+     */
+    private boolean accept() {
+        if ((this.daysOfWeek != 0) 
+                && ((this.daysOfWeek & (1 << this.dayOfWeek)) == 0)) {
+            return false;
+        }
+        if (this.endOfMonth && (this.day != this.lastDayOfMonth)) {
+            return false;
+        }
+        if (this.weekInMonth != null) {
+            if (this.weekInMonth == WeekInMonth.LAST) {
+                return this.day > this.lastDayOfMonth - 7;
+            }
+            return (this.day - 1) / 7 + 1 == this.weekInMonth.toInt();
+        }
+        return true;
+    }
+
+}
@@ -41,6 +41,7 @@
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 01-Jun-2005 : Removed the explicit clonable declaration, it is declared
  *               in the super class.
+ * 17-Oct-2026 : Added getOrdinal(int);
  */
 
 package org.jfree.date;
@@ -158,4 +159,15 @@ public class DayAndMonthRule extends AnnualDateRule {
     public DayDate getDate(final int yyyy) {
         return DayDateFactory.make(this.dayOfMonth, this.month, yyyy);
     }
+
+    /**
+     * Returns the serial number of the date, given the year.
+     *
+     * @param yyyy the year.
+     * @return the serial number of the date generated by this rule for the 
+     * specified year.
+     */
+    public int getOrdinal(final int yyyy) {
+        return SpreadsheetDate.toOrdinal(this.dayOfMonth, this.month, yyyy);
+    }
 }
@@ -40,12 +40,15 @@
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 01-Jun-2005 : Removed the explicit clonable declaration, it is declared
  *               in the super class.
+ * 17-Oct-2026 : Added getOrdinal(int);
  */
 
 package org.jfree.date;
 
 import org.jfree.daydate.Day;
+import org.jfree.daydate.DateUtil;
 import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.Month;
 import org.jfree.daydate.WeekInMonth;
 
 /**
@@ -175,4 +178,31 @@ public class DayOfWeekInMonthRule extends AnnualDateRule {
         return result;
     }
 
+    /**
+     * Returns the serial number of the date generated by this rule, for the
+     * specified year.  The day-of-the-week is found by calculation rather 
+     * than by stepping through the month one day at a time.
+     *
+     * @param year the year (1900 &lt;= year &lt;= 9999).
+     * @return The serial number of the date generated by the rule for the 
+     * given year.
+     */
+    public int getOrdinal(final int year) {
+        if (this.count != WeekInMonth.LAST.toInt()) {
+            // start at the beginning of the month
+            final int first = SpreadsheetDate.toOrdinal(1, this.month, year);
+            final int offset = (this.dayOfWeek 
+                    - SpreadsheetDate.dayOfWeek(first) + 7) % 7;
+            return first + offset + 7 * (this.count - 1);
+        } else {
+            // start at the end of the month and work backwards...
+            final int last = SpreadsheetDate.toOrdinal(
+                    DateUtil.lastDayOfMonth(Month.fromInt(this.month), year), 
+                    this.month, year);
+            final int offset = (SpreadsheetDate.dayOfWeek(last) 
+                    - this.dayOfWeek + 7) % 7;
+            return last - offset;
+        }
+    }
+
 }
@@ -40,6 +40,7 @@
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 01-Jun-2005 : Removed the explicit clonable declaration, it is declared
  *               in the super class.
+ * 17-Oct-2026 : Added getOrdinal(int);
  */
 
 package org.jfree.date;
@@ -76,6 +77,30 @@ public class EasterSundayRule extends AnnualDateRule {
      * @return the date of Easter Sunday for the given year.
      */
     public DayDate getDate(final int year) {
+        final int monthAndDay = getMonthAndDay(year);
+        return DayDateFactory.make(monthAndDay & 0x1F, monthAndDay >> 5, year);
+    }
+
+    /**
+     * Returns the serial number of Easter Sunday for the given year.
+     *
+     * @param year the year to check.
+     * @return the serial number of Easter Sunday for the given year.
+     */
+    public int getOrdinal(final int year) {
+        final int monthAndDay = getMonthAndDay(year);
+        return SpreadsheetDate.toOrdinal(monthAndDay & 0x1F, monthAndDay >> 5, 
+                year);
+    }
+
+    /**
+     * Calculates the month and day of Easter Sunday for the given year.
+     *
+     * @param year the year to check.
+     * @return the month and day, packed as <code>(month &lt;&lt; 5) | 
+     * day</code>.
+     */
+    private static int getMonthAndDay(final int year) {
         final int g = year % 19;
         final int c = year / 100;
         final int h = (c - c / 4 - (8 * c + 13) / 25 + 19 * g + 15) % 30;
@@ -84,7 +109,7 @@ public class EasterSundayRule extends AnnualDateRule {
         final int l = i - j;
         final int month = 3 + (l + 40) / 44;
         final int day = l + 28 - 31 * (month / 4);
-        return DayDateFactory.make(day, month, year);
+        return (month << 5) | day;
     }
 
 }
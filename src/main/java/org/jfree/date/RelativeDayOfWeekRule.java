@@ -38,6 +38,7 @@
  * --------------------------
  * 26-Oct-2001 : Changed package to com.jrefinery.date.*;
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Added getOrdinal(int);
  *
  */
 
@@ -212,4 +213,32 @@ public class RelativeDayOfWeekRule extends AnnualDateRule {
 
 	}
 
+	/**
+	 * Returns the serial number of the date generated by this rule, for the
+	 * specified year.  This uses {@link AnnualDateRule#getOrdinal(int)} for 
+	 * the sub-rule, so no dates are created if the sub-rule doesn't need them.
+	 *
+	 * @param year the year (1900 &lt;= year &lt;= 9999).
+	 * @return The serial number of the date generated by the rule for the 
+	 * given year (possibly zero).
+	 */
+	public int getOrdinal(final int year) {
+
+		// check argument...
+		if ((year < SpreadsheetDate.MINIMUM_YEAR_SUPPORTED)
+				|| (year > SpreadsheetDate.MAXIMUM_YEAR_SUPPORTED)) {
+			throw new IllegalArgumentException(
+					"RelativeDayOfWeekRule.getOrdinal(): year outside valid range.");
+		}
+
+		// calculate the serial number...
+		final int base = this.subrule.getOrdinal(year);
+		if (base == 0) {
+			return 0;
+		}
+		return SpreadsheetDate.relativeDayOfWeek(base, this.dayOfWeek,
+				this.relative);
+
+	}
+
 }
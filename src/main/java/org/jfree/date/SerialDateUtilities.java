@@ -41,6 +41,10 @@
  * 04-Mar-2002 : Renamed SerialDates.java --> SerialDateUtilities.java (DG);
  * 25-Jun-2002 : Fixed a bug in the dayCountActual() method (DG);
  * 03-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Added day count methods for serial numbers and arrays of 
+ *               serial numbers, fixed dayCount30() and countFeb29s() for 
+ *               equal dates, and countFeb29s() for ranges spanning more 
+ *               than one year;
  *
  */
 
@@ -151,8 +155,10 @@ public class SerialDateUtilities {
             m2 = end.getMonth();
             y2 = end.getYear();
             return 360 * (y2 - y1) + 30 * (m2 - m1) + (d2 - d1);
-        } else {
+        } else if (start.isAfter(end)) {
             return -dayCount30(end, start);
+        } else {
+            return 0;
         }
     }
 
@@ -332,7 +338,7 @@ public class SerialDateUtilities {
 
             y1 = start.getYear();
             y2 = end.getYear();
-            for (year = y1; year == y2; year++) {
+            for (year = y1; year <= y2; year++) {
                 if (DateUtil.isLeapYear(year)) {
                     feb29 = DayDateFactory.make(29, MonthConstants.FEBRUARY, year);
                     if (CLOSED_RIGHT.isIn(feb29.getOrdinalDay(), start.getOrdinalDay(), end.getOrdinalDay())) {
@@ -341,9 +347,343 @@ public class SerialDateUtilities {
                 }
             }
             return count;
+        } else if (start.isAfter(end)) {
+            return countFeb29s(end, start);
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the actual number of days between two dates specified as
+     * serial numbers (see {@link SpreadsheetDate}).
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return the number of days between the start date and the end date.
+     */
+    public static int dayCountActual(final int start, final int end) {
+        return end - start;
+    }
+
+    /**
+     * Returns the number of days between two dates specified as serial
+     * numbers, using the 30/360 day-count convention.  This gives the same
+     * result as {@link #dayCount30(DayDate, DayDate)} without creating any 
+     * date objects.
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return the number of days between the two dates, assuming the 30/360 
+     *         day-count convention.
+     */
+    public static int dayCount30(final int start, final int end) {
+        if (start < end) {
+            final int p1 = SpreadsheetDate.decode(start);
+            final int p2 = SpreadsheetDate.decode(end);
+            return days360(p1, day(p1), p2, day(p2));
+        } else if (start > end) {
+            return -dayCount30(end, start);
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of days between two dates specified as serial
+     * numbers, using the 30/360 (ISDA) day-count convention.  This gives the 
+     * same result as {@link #dayCount30ISDA(DayDate, DayDate)} without 
+     * creating any date objects.
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return The number of days between the two dates, assuming the 30/360
+     *         (ISDA) day-count convention.
+     */
+    public static int dayCount30ISDA(final int start, final int end) {
+        if (start < end) {
+            final int p1 = SpreadsheetDate.decode(start);
+            final int p2 = SpreadsheetDate.decode(end);
+            int d1 = day(p1);
+            if (d1 == 31) {  // first ISDA adjustment
+                d1 = 30;
+            }
+            int d2 = day(p2);
+            if ((d2 == 31) && (d1 == 30)) {  // second ISDA adjustment
+                d2 = 30;
+            }
+            return days360(p1, d1, p2, d2);
+        } else if (start > end) {
+            return -dayCount30ISDA(end, start);
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of days between two dates specified as serial
+     * numbers, using the 30/360 (PSA) day-count convention.  This gives the 
+     * same result as {@link #dayCount30PSA(DayDate, DayDate)} without 
+     * creating any date objects.
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return The number of days between the two dates, assuming the 30/360
+     *         (PSA) day-count convention.
+     */
+    public static int dayCount30PSA(final int start, final int end) {
+        if (start <= end) {
+            final int p1 = SpreadsheetDate.decode(start);
+            final int p2 = SpreadsheetDate.decode(end);
+            int d1 = day(p1);
+            if ((d1 == 31) || isLastDayOfFebruaryPacked(p1)) {
+                // first PSA adjustment
+                d1 = 30;
+            }
+            int d2 = day(p2);
+            if ((d2 == 31) && (d1 == 30)) {  // second PSA adjustment
+                d2 = 30;
+            }
+            return days360(p1, d1, p2, d2);
         } else {
+            return -dayCount30PSA(end, start);
+        }
+    }
+
+    /**
+     * Returns the number of days between two dates specified as serial
+     * numbers, using the 30E/360 day-count convention.  This gives the same 
+     * result as {@link #dayCount30E(DayDate, DayDate)} without creating any 
+     * date objects.
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return the number of days between the two dates, assuming the 30E/360
+     *         day-count convention.
+     */
+    public static int dayCount30E(final int start, final int end) {
+        if (start < end) {
+            final int p1 = SpreadsheetDate.decode(start);
+            final int p2 = SpreadsheetDate.decode(end);
+            int d1 = day(p1);
+            if (d1 == 31) {  // first European adjustment
+                d1 = 30;
+            }
+            int d2 = day(p2);
+            if (d2 == 31) {  // second European adjustment
+                d2 = 30;
+            }
+            return days360(p1, d1, p2, d2);
+        } else if (start > end) {
+            return -dayCount30E(end, start);
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns true if the date with the specified serial number is the last 
+     * day in February.
+     *
+     * @param serial  the serial number of the date to be tested.
+     *
+     * @return a boolean that indicates whether or not the specified date is
+     *         the last day of February.
+     */
+    public static boolean isLastDayOfFebruary(final int serial) {
+        return isLastDayOfFebruaryPacked(SpreadsheetDate.decode(serial));
+    }
+
+    /**
+     * Returns the number of times that February 29 falls within a date range
+     * specified by two serial numbers.  This gives the same result as 
+     * {@link #countFeb29s(DayDate, DayDate)} without creating any date 
+     * objects.
+     *
+     * @param start  the serial number of the start date.
+     * @param end  the serial number of the end date.
+     *
+     * @return the number of times that February 29 occurs within the date
+     *         range.
+     */
+    public static int countFeb29s(final int start, final int end) {
+        if (start < end) {
+            final int y1 = SpreadsheetDate.decode(start) >>> 9;
+            final int y2 = SpreadsheetDate.decode(end) >>> 9;
+            int count = 0;
+            for (int year = y1; year <= y2; year++) {
+                if (DateUtil.isLeapYear(year)) {
+                    final int feb29 = SpreadsheetDate.toOrdinal(29, 
+                            MonthConstants.FEBRUARY, year);
+                    if (CLOSED_RIGHT.isIn(feb29, start, end)) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        } else if (start > end) {
             return countFeb29s(end, start);
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Calculates the actual day count for each pair of serial numbers in 
+     * the <code>starts</code> and <code>ends</code> arrays, and stores it at 
+     * the same index in the <code>result</code> array.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    public static void dayCountActual(final int[] starts, final int[] ends, 
+            final int[] result) {
+        checkArrays(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ends[i] - starts[i];
+        }
+    }
+
+    /**
+     * Calculates the 30/360 day count for each pair of serial numbers in 
+     * the <code>starts</code> and <code>ends</code> arrays, and stores it at 
+     * the same index in the <code>result</code> array.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    public static void dayCount30(final int[] starts, final int[] ends, 
+            final int[] result) {
+        checkArrays(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30/360 (ISDA) day count for each pair of serial numbers
+     * in the <code>starts</code> and <code>ends</code> arrays, and stores it 
+     * at the same index in the <code>result</code> array.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    public static void dayCount30ISDA(final int[] starts, final int[] ends, 
+            final int[] result) {
+        checkArrays(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30ISDA(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30/360 (PSA) day count for each pair of serial numbers 
+     * in the <code>starts</code> and <code>ends</code> arrays, and stores it 
+     * at the same index in the <code>result</code> array.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    public static void dayCount30PSA(final int[] starts, final int[] ends, 
+            final int[] result) {
+        checkArrays(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30PSA(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Calculates the 30E/360 day count for each pair of serial numbers in 
+     * the <code>starts</code> and <code>ends</code> arrays, and stores it at 
+     * the same index in the <code>result</code> array.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    public static void dayCount30E(final int[] starts, final int[] ends, 
+            final int[] result) {
+        checkArrays(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayCount30E(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Checks the arguments for the array versions of the day count methods.
+     *
+     * @param starts  the serial numbers of the start dates.
+     * @param ends  the serial numbers of the end dates.
+     * @param result  the array that receives the day counts.
+     */
+    private static void checkArrays(final int[] starts, final int[] ends, 
+            final int[] result) {
+        if (starts == null) {
+            throw new IllegalArgumentException("Null 'starts' argument.");
+        }
+        if (ends == null) {
+            throw new IllegalArgumentException("Null 'ends' argument.");
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("Null 'result' argument.");
+        }
+        if ((starts.length != result.length) 
+                || (ends.length != result.length)) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+        }
+    }
+
+    /**
+     * Returns the 30/360 day count for two packed dates (see 
+     * {@link SpreadsheetDate#decode(int)}) using the (possibly adjusted) 
+     * days of the month.
+     *
+     * @param p1  the packed start date.
+     * @param d1  the day of the month for the start date.
+     * @param p2  the packed end date.
+     * @param d2  the day of the month for the end date.
+     *
+     * @return The day count.
+     */
+    private static int days360(final int p1, final int d1, final int p2, 
+            final int d2) {
+        return 360 * ((p2 >>> 9) - (p1 >>> 9)) 
+                + 30 * (((p2 >> 5) & 0xF) - ((p1 >> 5) & 0xF)) + (d2 - d1);
+    }
+
+    /**
+     * Returns the day of the month for a packed date.
+     *
+     * @param packed  the packed date.
+     *
+     * @return The day of the month.
+     */
+    private static int day(final int packed) {
+        return packed & 0x1F;
+    }
+
+    /**
+     * Returns true if a packed date is the last day in February.
+     *
+     * @param packed  the packed date.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLastDayOfFebruaryPacked(final int packed) {
+        if (((packed >> 5) & 0xF) != MonthConstants.FEBRUARY) {
+            return false;
         }
+        return day(packed) == (DateUtil.isLeapYear(packed >>> 9) ? 29 : 28);
     }
 
 }
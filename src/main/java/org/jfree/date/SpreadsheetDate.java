@@ -50,6 +50,11 @@
  * 05-Sep-2003 : Implemented Comparable (DG);
  * 21-Oct-2003 : Added hashCode() method (DG);
  * 29-Aug-2006 : Removed redundant description attribute (DG);
+ * 17-Oct-2026 : Decode serial numbers with precomputed tables, added 
+ *               toOrdinal();
+ * 17-Oct-2026 : Added static methods for working with serial numbers 
+ *               directly (toYYYYMMDD(), fromYYYYMMDD() and dayOfWeek());
+ *               Added relativeDayOfWeek() and endOfMonth();
  *
  */
 
@@ -58,6 +63,7 @@ package org.jfree.date;
 import org.jfree.daydate.DateUtil;
 import org.jfree.daydate.Day;
 import org.jfree.daydate.Month;
+import org.jfree.daydate.WeekdayRange;
 
 /**
  * Represents a date using an integer, in a similar fashion to the
@@ -89,6 +95,34 @@ public class SpreadsheetDate extends DayDate {
             {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365};
     static final int[] LEAP_YEAR_AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH =
             {0, 0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335, 366};
+
+    /** 
+     * The serial number of 1 January for each year from 1900 to 10000 
+     * (index 0 is 1900). 
+     */
+    private static final int[] YEAR_START_ORDINALS = 
+            new int[MAXIMUM_YEAR_SUPPORTED - MINIMUM_YEAR_SUPPORTED + 2];
+
+    /** 
+     * The month and day for each day of a non-leap year (index 0 is 
+     * 1 January), packed as <code>(month &lt;&lt; 5) | day</code>. 
+     */
+    private static final short[] MONTH_DAY = new short[366];
+
+    /** The month and day for each day of a leap year, as above. */
+    private static final short[] LEAP_YEAR_MONTH_DAY = new short[366];
+
+    static {
+        for (int i = 0; i < YEAR_START_ORDINALS.length; i++) {
+            final int y = MINIMUM_YEAR_SUPPORTED + i;
+            YEAR_START_ORDINALS[i] = ((y - 1900) * 365) 
+                    + DateUtil.leapYearCount(y - 1) + 2;
+        }
+        fillMonthDay(MONTH_DAY, AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH);
+        fillMonthDay(LEAP_YEAR_MONTH_DAY, 
+                LEAP_YEAR_AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH);
+    }
+
     /**
      * For serialization.
      */
@@ -112,20 +146,10 @@ public class SpreadsheetDate extends DayDate {
      */
     public SpreadsheetDate(final int day, final Month month, final int year) {
 
-        if ((year >= MINIMUM_YEAR_SUPPORTED) && (year <= MAXIMUM_YEAR_SUPPORTED)) {
-            this.year = year;
-        } else {
-            throw new IllegalArgumentException(
-                    String.format("The 'year' argument must be in range %s to %s.", MINIMUM_YEAR_SUPPORTED,
-                            MAXIMUM_YEAR_SUPPORTED)
-            );
-        }
-
-        if ((day >= 1) && (day <= DateUtil.lastDayOfMonth(month, year))) {
-            this.day = day;
-        } else {
-            throw new IllegalArgumentException("Invalid 'day' argument.");
-        }
+        checkYear(year);
+        checkDay(day, month, year);
+        this.year = year;
+        this.day = day;
 
         // the serial number needs to be synchronised with the day-month-year...
         this.ordinalDay = calcSerial(day, month.toInt(), year);
@@ -144,58 +168,222 @@ public class SpreadsheetDate extends DayDate {
      * @param serial  the serial number for the day (range: 2 to 2958465).
      */
     public SpreadsheetDate(final int serial) {
-        if ((serial >= EARLIEST_DATE_ORDINAL) && (serial <= LATEST_DATE_ORDINAL)) {
-            this.ordinalDay = serial;
-        } else {
-            throw new IllegalArgumentException(
-                    "SpreadsheetDate: Serial must be in range 2 to 2958465.");
-        }
+        final int packed = decode(serial);
+        this.ordinalDay = serial;
 
         // the day-month-year needs to be synchronised with the serial number...
-        // get the year from the serial date
-        final int days = this.ordinalDay - EARLIEST_DATE_ORDINAL;
-        // overestimated because we ignored leap days
-        final int overestimatedYYYY = MINIMUM_YEAR_SUPPORTED + (days / 365);
-        final int leaps = DateUtil.leapYearCount(overestimatedYYYY);
-        final int nonleapdays = days - leaps;
-        // underestimated because we overestimated years
-        int underestimatedYYYY = MINIMUM_YEAR_SUPPORTED + (nonleapdays / 365);
-
-        if (underestimatedYYYY == overestimatedYYYY) {
-            this.year = underestimatedYYYY;
-        } else {
-            int ss1 = calcSerial(1, 1, underestimatedYYYY);
-            while (ss1 <= this.ordinalDay) {
-                underestimatedYYYY = underestimatedYYYY + 1;
-                ss1 = calcSerial(1, 1, underestimatedYYYY);
-            }
-            this.year = underestimatedYYYY - 1;
+        this.year = packed >>> 9;
+        this.month = Month.fromInt((packed >> 5) & 0xF);
+        this.day = packed & 0x1F;
+
+    }
+
+    /**
+     * Returns the serial number for a day, month and year, checking the
+     * arguments in the same way as the constructor.  This allows a serial 
+     * number to be calculated without creating a date.
+     *
+     * @param day  the day (in the range 1 to 28/29/30/31).
+     * @param month  the month (in the range 1 to 12).
+     * @param year  the year (in the range 1900 to 9999).
+     *
+     * @return The serial number (1-Jan-1900 = 2).
+     */
+    public static int toOrdinal(final int day, final int month, 
+            final int year) {
+        checkYear(year);
+        checkDay(day, Month.fromInt(month), year);
+        return calcSerial(day, month, year);
+    }
+
+    /**
+     * Returns the date for a serial number as a single integer in the form
+     * YYYYMMDD (for example, 20021231 for 31-Dec-2002).
+     *
+     * @param serial  the serial number (in the range 2 to 2958465).
+     *
+     * @return The date in the form YYYYMMDD.
+     */
+    public static int toYYYYMMDD(final int serial) {
+        final int packed = decode(serial);
+        return (packed >>> 9) * 10000 + ((packed >> 5) & 0xF) * 100 
+                + (packed & 0x1F);
+    }
+
+    /**
+     * Returns the serial number for a date given as a single integer in the
+     * form YYYYMMDD.
+     *
+     * @param yyyymmdd  the date (for example, 20021231 for 31-Dec-2002).
+     *
+     * @return The serial number (1-Jan-1900 = 2).
+     */
+    public static int fromYYYYMMDD(final int yyyymmdd) {
+        return toOrdinal(yyyymmdd % 100, (yyyymmdd / 100) % 100, 
+                yyyymmdd / 10000);
+    }
+
+    /**
+     * Returns the day-of-the-week for a serial number, using the same codes
+     * as {@link Day#toInt()} (Sunday = 1, Monday = 2, ..., Saturday = 7).
+     *
+     * @param serial  the serial number (in the range 2 to 2958465).
+     *
+     * @return The day-of-the-week code.
+     */
+    public static int dayOfWeek(final int serial) {
+        checkSerial(serial);
+        return (serial + Day.SATURDAY.toInt() - Day.SUNDAY.toInt()) % 7 
+                + Day.SUNDAY.toInt();
+    }
+
+    /**
+     * Returns the serial number of the date that falls on the specified 
+     * day-of-the-week and is before, nearest to or after a date, in the same
+     * way as {@link DayDate#getPreviousDayOfWeek(Day)}, 
+     * {@link DayDate#getNearestDayOfWeek(Day)} and 
+     * {@link DayDate#getFollowingDayOfWeek(Day)}.
+     *
+     * @param serial  the serial number of the base date.
+     * @param dayOfWeek  the day-of-the-week code (see {@link Day#toInt()}).
+     * @param range  selects the day before, nearest to or after the base 
+     *               date (<code>null</code> not permitted).
+     *
+     * @return The serial number.
+     */
+    public static int relativeDayOfWeek(final int serial, final int dayOfWeek, 
+            final WeekdayRange range) {
+        if (range == null) {
+            throw new IllegalArgumentException("Null 'range' argument.");
+        }
+        final int offset = dayOfWeek - dayOfWeek(serial);
+        final int result;
+        switch (range) {
+            case LAST:
+                result = serial + ((offset >= 0) ? offset - 7 : offset);
+                break;
+            case NEAREST:
+                final int offsetToFutureTarget = (offset + 7) % 7;
+                final int offsetToPreviousTarget = (offset - 7) % 7;
+                result = serial + ((offsetToFutureTarget > 3)
+                        ? offsetToPreviousTarget : offsetToFutureTarget);
+                break;
+            default:
+                result = serial + ((offset <= 0) ? offset + 7 : offset);
+                break;
         }
+        checkSerial(result);
+        return result;
+    }
 
-        final int ss2 = calcSerial(1, 1, this.year);
+    /**
+     * Returns the serial number of the last day of the month containing a 
+     * date.
+     *
+     * @param serial  the serial number (in the range 2 to 2958465).
+     *
+     * @return The serial number of the last day of the month.
+     */
+    public static int endOfMonth(final int serial) {
+        final int packed = decode(serial);
+        final int year = packed >>> 9;
+        final Month month = Month.fromInt((packed >> 5) & 0xF);
+        return serial + DateUtil.lastDayOfMonth(month, year) 
+                - (packed & 0x1F);
+    }
 
-        final int[] daysToEndOfPrecedingMonth = getDaysToEndOfPrecedingMonth();
+    /**
+     * Returns the year, month and day for a serial number packed into a 
+     * single integer as <code>(year &lt;&lt; 9) | (month &lt;&lt; 5) | 
+     * day</code>, without creating a date.
+     *
+     * @param serial  the serial number (in the range 2 to 2958465).
+     *
+     * @return The packed year, month and day.
+     */
+    static int decode(final int serial) {
+        checkSerial(serial);
+        final int index = yearIndex(serial);
+        final int year = MINIMUM_YEAR_SUPPORTED + index;
+        final short[] monthDay = DateUtil.isLeapYear(year) 
+                ? LEAP_YEAR_MONTH_DAY : MONTH_DAY;
+        return (year << 9) | monthDay[serial - YEAR_START_ORDINALS[index]];
+    }
+
+    /**
+     * Checks that a serial number is in the supported range.
+     *
+     * @param serial  the serial number.
+     */
+    private static void checkSerial(final int serial) {
+        if ((serial < EARLIEST_DATE_ORDINAL) || (serial > LATEST_DATE_ORDINAL)) {
+            throw new IllegalArgumentException(
+                    "SpreadsheetDate: Serial must be in range 2 to 2958465.");
+        }
+    }
 
-        // get the month from the serial date
-        int mm = 1;
-        int sss = ss2 + daysToEndOfPrecedingMonth[mm] - 1;
-        while (sss < this.ordinalDay) {
-            mm = mm + 1;
-            sss = ss2 + daysToEndOfPrecedingMonth[mm] - 1;
+    /**
+     * Checks that a year is in the supported range.
+     *
+     * @param year  the year.
+     */
+    private static void checkYear(final int year) {
+        if ((year < MINIMUM_YEAR_SUPPORTED) || (year > MAXIMUM_YEAR_SUPPORTED)) {
+            throw new IllegalArgumentException(
+                    String.format("The 'year' argument must be in range %s to %s.", MINIMUM_YEAR_SUPPORTED,
+                            MAXIMUM_YEAR_SUPPORTED)
+            );
         }
-        this.month = Month.fromInt(mm - 1);
+    }
 
-        // what's left is d(+1);
-        this.day = this.ordinalDay - ss2
-                - daysToEndOfPrecedingMonth[this.month.toInt()] + 1;
+    /**
+     * Checks that a day exists in a month.
+     *
+     * @param day  the day.
+     * @param month  the month.
+     * @param year  the year.
+     */
+    private static void checkDay(final int day, final Month month, 
+            final int year) {
+        if ((day < 1) || (day > DateUtil.lastDayOfMonth(month, year))) {
+            throw new IllegalArgumentException("Invalid 'day' argument.");
+        }
+    }
 
+    /**
+     * Returns the index (0 for 1900) of the year containing a serial number.
+     * The year is estimated from the average length of a year, and then 
+     * corrected by at most one with the table of year start serial numbers.
+     *
+     * @param serial  the serial number (in the range 2 to 2958465).
+     *
+     * @return The index of the year.
+     */
+    private static int yearIndex(final int serial) {
+        int index = (int) ((serial - EARLIEST_DATE_ORDINAL) * 400L / 146097L);
+        while (YEAR_START_ORDINALS[index + 1] <= serial) {
+            index++;
+        }
+        while (YEAR_START_ORDINALS[index] > serial) {
+            index--;
+        }
+        return index;
     }
 
-    private int[] getDaysToEndOfPrecedingMonth() {
-        if (DateUtil.isLeapYear(this.year)) {
-            return LEAP_YEAR_AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH;
-        } else {
-            return AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH;
+    /**
+     * Fills a table with the packed month and day for each day of a year.
+     *
+     * @param table  the table.
+     * @param daysToEndOfPrecedingMonth  the days before each month.
+     */
+    private static void fillMonthDay(final short[] table, 
+            final int[] daysToEndOfPrecedingMonth) {
+        for (int m = 1; m <= 12; m++) {
+            final int first = daysToEndOfPrecedingMonth[m];
+            final int last = daysToEndOfPrecedingMonth[m + 1];
+            for (int i = first; i < last; i++) {
+                table[i] = (short) ((m << 5) | (i - first + 1));
+            }
         }
     }
 
@@ -297,16 +485,14 @@ public class SpreadsheetDate extends DayDate {
      *
      * @return the serial number from the day, month and year.
      */
-    private int calcSerial(final int d, final int m, final int y) {
-        final int yy = ((y - 1900) * 365) + DateUtil.leapYearCount(y - 1);
+    private static int calcSerial(final int d, final int m, final int y) {
         int mm = AGGREGATE_DAYS_TO_END_OF_PRECEDING_MONTH[m];
         if (m > MonthConstants.FEBRUARY) {
             if (DateUtil.isLeapYear(y)) {
                 mm = mm + 1;
             }
         }
-        final int dd = d;
-        return yy + mm + dd + 1;
+        return YEAR_START_ORDINALS[y - MINIMUM_YEAR_SUPPORTED] + mm + d - 1;
     }
 
 }
@@ -23,16 +23,19 @@ public enum Month {
 	private static final int[] LAST_DAY_OF_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 	private final int index;
 	private static final DateFormatSymbols dateSymbols = new SimpleDateFormat().getDateFormatSymbols();
+	/**
+	 * The months in index order, so that {@link #fromInt(int)} does not copy
+	 * the array returned by values().
+	 */
+	private static final Month[] MONTHS = values();
 
 	Month(final int index) {
 		this.index = index;
 	}
 
 	public static Month fromInt(final int monthIndex) {
-		for (final Month month : Month.values()) {
-			if (monthIndex == month.index) {
-				return month;
-			}
+		if (monthIndex >= 1 && monthIndex <= MONTHS.length) {
+			return MONTHS[monthIndex - 1];
 		}
 		throw new IllegalArgumentException("Invalid month index " + monthIndex);
 	}
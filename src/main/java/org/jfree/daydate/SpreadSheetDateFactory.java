@@ -6,22 +6,43 @@ import org.jfree.date.SpreadsheetDate;
 import java.util.Date;
 
 /**
+ * Creates {@link SpreadsheetDate} instances.  Dates are immutable, so each
+ * factory keeps the dates it has created in a direct-mapped cache indexed by
+ * the low bits of the serial number and hands out the same instance again
+ * while it has not been replaced.  Any run of {@link #CACHE_SIZE}
+ * consecutive days fits in the cache, so stepping through a schedule with
+ * {@link DayDate#plusDays(int)} does not allocate after the first pass.
+ * The cache is not locked: a slot may be overwritten by another thread, in
+ * which case a new date is created.
+ *
  * @author Radek Koubsky (radekkoubsky@gmail.com)
  */
 public class SpreadSheetDateFactory extends DayDateFactory {
+	/** The number of cached dates (a power of two). */
+	public static final int CACHE_SIZE = 1 << 14;
+
+	/** The cached dates, indexed by serial number modulo CACHE_SIZE. */
+	private final SpreadsheetDate[] cache = new SpreadsheetDate[CACHE_SIZE];
+
 	@Override
 	protected DayDate _makeDate(final int ordinal) {
-		return new SpreadsheetDate(ordinal);
+		final int index = ordinal & (CACHE_SIZE - 1);
+		SpreadsheetDate date = this.cache[index];
+		if (date == null || date.getOrdinalDay() != ordinal) {
+			date = new SpreadsheetDate(ordinal);
+			this.cache[index] = date;
+		}
+		return date;
 	}
 
 	@Override
 	protected DayDate _makeDate(final int day, final Month month, final int year) {
-		return new SpreadsheetDate(day, month, year);
+		return _makeDate(SpreadsheetDate.toOrdinal(day, month.toInt(), year));
 	}
 
 	@Override
 	protected DayDate _make(final int day, final int month, final int year) {
-		return new SpreadsheetDate(day, month, year);
+		return _makeDate(SpreadsheetDate.toOrdinal(day, month, year));
 	}
 
 	@Override
@@ -0,0 +1,308 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * CachingTextMeasurer.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Corrected the description of the layout fallback;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextAttribute;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link TextMeasurer} that adds up advance widths cached per font and
+ * character, so that measuring a range of text needs neither a substring
+ * nor a call into the font system once the characters have been seen.
+ * Text that needs full layout (combining marks, bidirectional and complex
+ * scripts, or fonts with kerning or ligatures enabled) is measured with
+ * {@link Font#getStringBounds(String, int, int, FontRenderContext)}
+ * instead.  That method takes a substring internally, so the fallback costs
+ * the same as measuring a substring with {@link G2TextMeasurer}; only the
+ * cached path avoids the copy.
+ * <P>
+ * The advance tables are shared by all instances.  A measurer created with
+ * a fixed font and font render context can be used from several threads at
+ * once; a measurer created for a {@link Graphics2D} follows the current font
+ * of the graphics device and is not thread-safe.
+ */
+public class CachingTextMeasurer implements TextMeasurer {
+
+    /** The maximum number of advance tables kept in the shared cache. */
+    private static final int MAX_TABLES = 64;
+
+    /** The shared advance tables, keyed on font and font render context. */
+    private static final Map TABLES = new ConcurrentHashMap();
+
+    /** The graphics device (<code>null</code> for a fixed font). */
+    private Graphics2D g2;
+
+    /** The font of the current table. */
+    private Font font;
+
+    /** The font render context of the current table. */
+    private FontRenderContext frc;
+
+    /** The current table. */
+    private AdvanceTable table;
+
+    /**
+     * Creates a measurer that uses the current font and font render context
+     * of a graphics device.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     */
+    public CachingTextMeasurer(Graphics2D g2) {
+        if (g2 == null) {
+            throw new IllegalArgumentException("Null 'g2' argument.");
+        }
+        this.g2 = g2;
+    }
+
+    /**
+     * Creates a measurer for a fixed font.
+     *
+     * @param font  the font (<code>null</code> not permitted).
+     * @param frc  the font render context (<code>null</code> not permitted).
+     */
+    public CachingTextMeasurer(Font font, FontRenderContext frc) {
+        if (font == null) {
+            throw new IllegalArgumentException("Null 'font' argument.");
+        }
+        if (frc == null) {
+            throw new IllegalArgumentException("Null 'frc' argument.");
+        }
+        this.font = font;
+        this.frc = frc;
+        this.table = getTable(font, frc);
+    }
+
+    /**
+     * Returns the string width.
+     *
+     * @param text  the text.
+     * @param start  the index of the first character to measure.
+     * @param end  the index after the last character to measure.
+     *
+     * @return The string width.
+     */
+    public float getStringWidth(String text, int start, int end) {
+        AdvanceTable t = currentTable();
+        if (t.requiresLayout) {
+            return (float) t.font.getStringBounds(text, start, end,
+                    t.frc).getWidth();
+        }
+        float width = 0.0f;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (requiresLayout(c)) {
+                return (float) t.font.getStringBounds(text, start, end,
+                        t.frc).getWidth();
+            }
+            width += t.getAdvance(c);
+        }
+        return width;
+    }
+
+    /**
+     * Returns the advance table for the current font.
+     *
+     * @return The advance table.
+     */
+    private AdvanceTable currentTable() {
+        if (this.g2 == null) {
+            return this.table;
+        }
+        Font f = this.g2.getFont();
+        FontRenderContext context = this.g2.getFontRenderContext();
+        if (f != this.font || !context.equals(this.frc)) {
+            this.font = f;
+            this.frc = context;
+            this.table = getTable(f, context);
+        }
+        return this.table;
+    }
+
+    /**
+     * Returns the shared advance table for a font.
+     *
+     * @param font  the font.
+     * @param frc  the font render context.
+     *
+     * @return The table.
+     */
+    private static AdvanceTable getTable(Font font, FontRenderContext frc) {
+        AdvanceTable key = new AdvanceTable(font, frc);
+        AdvanceTable result = (AdvanceTable) TABLES.get(key);
+        if (result == null) {
+            if (TABLES.size() >= MAX_TABLES) {
+                TABLES.clear();
+            }
+            TABLES.put(key, key);
+            result = key;
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the width of text containing the given
+     * character cannot be found by adding up advances: combining marks,
+     * surrogates, bidirectional controls and scripts that are shaped.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    static boolean requiresLayout(char c) {
+        if (c < 0x0300) {
+            return false;
+        }
+        return c <= 0x036F                          // combining diacritics
+                || (c >= 0x0590 && c <= 0x10FF)     // Hebrew to Myanmar
+                || (c >= 0x1780 && c <= 0x18AF)     // Khmer, Mongolian
+                || (c >= 0x200C && c <= 0x200F)     // joiners, marks
+                || (c >= 0x202A && c <= 0x202E)     // bidi embedding
+                || (c >= 0x20D0 && c <= 0x20FF)     // combining for symbols
+                || (c >= 0xD800 && c <= 0xDFFF)     // surrogates
+                || (c >= 0xFB1D && c <= 0xFDFF)     // presentation forms
+                || (c >= 0xFE20 && c <= 0xFE2F)     // combining half marks
+                || (c >= 0xFE70 && c <= 0xFEFF);    // Arabic forms, BOM
+    }
+
+    /**
+     * Clears the shared advance tables.
+     */
+    public static void clearCache() {
+        TABLES.clear();
+    }
+
+    /**
+     * The advance widths for one font and font render context, filled in
+     * lazily in pages of 256 characters.  Zero marks an advance that has not
+     * been measured yet (zero-width characters are simply measured again),
+     * so that a page published by another thread is always safe to read.
+     * Concurrent updates are harmless, since every thread computes the same
+     * values.
+     */
+    private static final class AdvanceTable {
+
+        /** The font. */
+        final Font font;
+
+        /** The font render context. */
+        final FontRenderContext frc;
+
+        /** Does the font use kerning or ligatures? */
+        final boolean requiresLayout;
+
+        /** The pages of advances, with zero for characters not yet seen. */
+        private final float[][] pages = new float[256][];
+
+        /** The hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new table.
+         *
+         * @param font  the font.
+         * @param frc  the font render context.
+         */
+        AdvanceTable(Font font, FontRenderContext frc) {
+            this.font = font;
+            this.frc = frc;
+            Map attributes = font.getAttributes();
+            this.requiresLayout = TextAttribute.KERNING_ON.equals(
+                    attributes.get(TextAttribute.KERNING))
+                    || TextAttribute.LIGATURES_ON.equals(
+                    attributes.get(TextAttribute.LIGATURES));
+            this.hash = font.hashCode() * 31 + frc.hashCode();
+        }
+
+        /**
+         * Returns the advance for a character.
+         *
+         * @param c  the character.
+         *
+         * @return The advance.
+         */
+        float getAdvance(char c) {
+            float[] page = this.pages[c >>> 8];
+            if (page == null) {
+                page = new float[256];
+                this.pages[c >>> 8] = page;
+            }
+            float advance = page[c & 0xFF];
+            if (advance == 0.0f) {
+                advance = (float) this.font.getStringBounds(new char[] {c},
+                        0, 1, this.frc).getWidth();
+                page[c & 0xFF] = advance;
+            }
+            return advance;
+        }
+
+        /**
+         * Tests this table for equality with an arbitrary object (used for
+         * cache lookups, so only the font and font render context count).
+         *
+         * @param obj  the object.
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof AdvanceTable)) {
+                return false;
+            }
+            AdvanceTable that = (AdvanceTable) obj;
+            return this.font.equals(that.font) && this.frc.equals(that.frc);
+        }
+
+        /**
+         * Returns a hash code.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,377 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * GlyphRunCache.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextLayout;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache of laid-out strings, used by the rotated string methods
+ * in {@link TextUtilities}.  Each entry is keyed on the text, the font and
+ * the font render context (which carries the rotation when the text is
+ * drawn), and holds the text bounds, the line metrics and the
+ * {@link TextLayout} used to draw the text.  Entries are immutable once
+ * created, so the cache can be shared by several threads.
+ * <P>
+ * When the cache grows past its capacity, the least recently used quarter
+ * of the entries is discarded.
+ */
+public final class GlyphRunCache {
+
+    /** The default capacity. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    /** The maximum number of entries. */
+    private final int capacity;
+
+    /** The entries, keyed on {@link RunKey}. */
+    private final Map runs;
+
+    /** The clock used to record the last access to each entry. */
+    private final AtomicLong clock;
+
+    /** The number of lookups that found an entry. */
+    private final AtomicLong hitCount;
+
+    /** The number of lookups that did not find an entry. */
+    private final AtomicLong missCount;
+
+    /** Held by the thread that is evicting entries. */
+    private final ReentrantLock evictionLock;
+
+    /**
+     * Creates a new cache with the default capacity.
+     */
+    public GlyphRunCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity  the maximum number of entries (must be positive).
+     */
+    public GlyphRunCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        this.capacity = capacity;
+        this.runs = new ConcurrentHashMap();
+        this.clock = new AtomicLong();
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+        this.evictionLock = new ReentrantLock();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     *
+     * @return The entry count.
+     */
+    public int getSize() {
+        return this.runs.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that did not find an entry.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Removes all entries and resets the hit and miss counts.
+     */
+    public void clear() {
+        this.runs.clear();
+        this.hitCount.set(0L);
+        this.missCount.set(0L);
+    }
+
+    /**
+     * Returns the cached run for some text, or <code>null</code> if there
+     * is none.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param frc  the font render context (<code>null</code> not permitted).
+     * @param fontMetricsBounds  the value of the
+     *     <code>useFontMetricsGetStringBounds</code> flag.
+     *
+     * @return The run (possibly <code>null</code>).
+     */
+    GlyphRun get(String text, Font font, FontRenderContext frc,
+            boolean fontMetricsBounds) {
+        RunKey key = new RunKey(text, font, frc, fontMetricsBounds);
+        GlyphRun run = (GlyphRun) this.runs.get(key);
+        if (run == null) {
+            this.missCount.incrementAndGet();
+            return null;
+        }
+        this.hitCount.incrementAndGet();
+        run.lastAccess = this.clock.incrementAndGet();
+        return run;
+    }
+
+    /**
+     * Adds a run to the cache, evicting the least recently used entries
+     * if the cache is full.
+     *
+     * @param run  the run (<code>null</code> not permitted).
+     * @param fontMetricsBounds  the value of the
+     *     <code>useFontMetricsGetStringBounds</code> flag that the bounds
+     *     were calculated with.
+     */
+    void put(GlyphRun run, boolean fontMetricsBounds) {
+        run.lastAccess = this.clock.incrementAndGet();
+        this.runs.put(new RunKey(run.text, run.font, run.frc,
+                fontMetricsBounds), run);
+        if (this.runs.size() > this.capacity
+                && this.evictionLock.tryLock()) {
+            try {
+                evict();
+            }
+            finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Discards the least recently used entries until the cache is at three
+     * quarters of its capacity.
+     */
+    private void evict() {
+        List entries = new ArrayList(this.runs.entrySet());
+        int excess = entries.size() - (this.capacity - this.capacity / 4);
+        if (excess <= 0) {
+            return;
+        }
+        Map.Entry[] sorted = (Map.Entry[]) entries.toArray(
+                new Map.Entry[entries.size()]);
+        Arrays.sort(sorted, new Comparator() {
+            public int compare(Object o1, Object o2) {
+                long t1 = ((GlyphRun) ((Map.Entry) o1).getValue()).lastAccess;
+                long t2 = ((GlyphRun) ((Map.Entry) o2).getValue()).lastAccess;
+                return (t1 < t2) ? -1 : (t1 == t2 ? 0 : 1);
+            }
+        });
+        for (int i = 0; i < excess; i++) {
+            this.runs.remove(sorted[i].getKey());
+        }
+    }
+
+    /**
+     * A string laid out with a particular font and font render context.
+     */
+    static final class GlyphRun {
+
+        /** The text. */
+        final String text;
+
+        /** The font. */
+        final Font font;
+
+        /** The font render context. */
+        final FontRenderContext frc;
+
+        /** The text bounds (must not be modified). */
+        final Rectangle2D bounds;
+
+        /** The ascent. */
+        final float ascent;
+
+        /** The descent. */
+        final float descent;
+
+        /** The leading. */
+        final float leading;
+
+        /** The text layout, created when the run is first drawn. */
+        private volatile TextLayout layout;
+
+        /** The clock value at the last access. */
+        volatile long lastAccess;
+
+        /**
+         * Creates a new run.
+         *
+         * @param text  the text (<code>null</code> not permitted).
+         * @param font  the font (<code>null</code> not permitted).
+         * @param frc  the font render context (<code>null</code> not
+         *     permitted).
+         * @param bounds  the text bounds (<code>null</code> not permitted).
+         */
+        GlyphRun(String text, Font font, FontRenderContext frc,
+                Rectangle2D bounds) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.bounds = bounds;
+            LineMetrics metrics = font.getLineMetrics(text, frc);
+            this.ascent = metrics.getAscent();
+            this.descent = metrics.getDescent();
+            this.leading = metrics.getLeading();
+        }
+
+        /**
+         * Returns the text layout for the run.  Two threads may both create
+         * a layout the first time; either result is correct.
+         *
+         * @return The text layout.
+         */
+        TextLayout getLayout() {
+            TextLayout result = this.layout;
+            if (result == null) {
+                result = new TextLayout(this.text, this.font, this.frc);
+                this.layout = result;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The key for a run.
+     */
+    private static final class RunKey {
+
+        /** The text. */
+        private final String text;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The useFontMetricsGetStringBounds flag. */
+        private final boolean fontMetricsBounds;
+
+        /** The precomputed hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param fontMetricsBounds  the useFontMetricsGetStringBounds flag.
+         */
+        RunKey(String text, Font font, FontRenderContext frc,
+                boolean fontMetricsBounds) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.fontMetricsBounds = fontMetricsBounds;
+            int h = text.hashCode();
+            h = 37 * h + font.hashCode();
+            h = 37 * h + frc.hashCode();
+            h = 37 * h + (fontMetricsBounds ? 1 : 0);
+            this.hash = h;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof RunKey)) {
+                return false;
+            }
+            RunKey that = (RunKey) obj;
+            return this.hash == that.hash
+                    && this.fontMetricsBounds == that.fontMetricsBounds
+                    && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc);
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * LayoutCache.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+
+import org.jfree.ui.Size2D;
+
+/**
+ * The dimensions of a {@link TextLine} or {@link TextBlock} as measured for
+ * one font render context.  Instances are immutable, so that a cache entry
+ * can be replaced without locking.  An entry is valid while the font render
+ * context, the {@link TextUtilities#getUseFontMetricsGetStringBounds()} flag
+ * and the version of the measured object are unchanged.
+ */
+final class LayoutCache {
+
+    /** The font render context. */
+    private final FontRenderContext frc;
+
+    /** The metrics flag in {@link TextUtilities}. */
+    private final boolean useFontMetrics;
+
+    /** The version of the measured object. */
+    private final long version;
+
+    /** The width. */
+    private final double width;
+
+    /** The height. */
+    private final double height;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param g2  the graphics device that was used for the measurement.
+     * @param version  the version of the measured object.
+     * @param size  the dimensions.
+     */
+    LayoutCache(Graphics2D g2, long version, Size2D size) {
+        this.frc = g2.getFontRenderContext();
+        this.useFontMetrics = TextUtilities.getUseFontMetricsGetStringBounds();
+        this.version = version;
+        this.width = size.getWidth();
+        this.height = size.getHeight();
+    }
+
+    /**
+     * Returns <code>true</code> if the entry is valid for a graphics device
+     * and version.
+     *
+     * @param g2  the graphics device.
+     * @param version  the current version of the measured object.
+     *
+     * @return A boolean.
+     */
+    boolean isValid(Graphics2D g2, long version) {
+        return this.version == version
+                && this.useFontMetrics
+                == TextUtilities.getUseFontMetricsGetStringBounds()
+                && this.frc.equals(g2.getFontRenderContext());
+    }
+
+    /**
+     * Returns a new {@link Size2D} with the cached dimensions (a copy, since
+     * <code>Size2D</code> is mutable).
+     *
+     * @return The dimensions.
+     */
+    Size2D getSize() {
+        return new Size2D(this.width, this.height);
+    }
+
+}
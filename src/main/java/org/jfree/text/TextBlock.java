@@ -45,6 +45,7 @@
  * 01-Apr-2004 : Changed java.awt.geom.Dimension2D to org.jfree.ui.Size2D 
  *               because of JDK bug 4976448 which persists on JDK 1.3.1 (DG);
  * 04-Oct-2004 : Renamed ShapeUtils --> ShapeUtilities (DG);
+ * 16-Oct-2026 : Cache the dimensions per font render context;
  *
  */
  
@@ -83,6 +84,9 @@ public class TextBlock implements Serializable {
     /** The alignment of the lines. */
     private HorizontalAlignment lineAlignment;
 
+    /** The cached dimensions (<code>null</code> if not yet calculated). */
+    private transient LayoutCache layout;
+
     /**
      * Creates a new empty text block.
      */
@@ -156,13 +160,48 @@ public class TextBlock implements Serializable {
     }
     
     /**
-     * Returns the width and height of the text block.
+     * Returns the width and height of the text block.  The result is cached,
+     * and reused for later calls with the same font render context until a
+     * line is added or the fragments of a line change.
      * 
      * @param g2  the graphics device.
      * 
      * @return The width and height.
      */
     public Size2D calculateDimensions(final Graphics2D g2) {
+        final long version = getVersion();
+        final LayoutCache cached = this.layout;
+        if (cached != null && cached.isValid(g2, version)) {
+            return cached.getSize();
+        }
+        final Size2D result = measure(g2);
+        this.layout = new LayoutCache(g2, version, result);
+        return result;
+    }
+
+    /**
+     * Returns a number that changes whenever a line is added to the block or
+     * a line in the block is changed (since the change counts of the lines
+     * only ever increase, so does their sum).
+     * 
+     * @return The version.
+     */
+    private long getVersion() {
+        long result = this.lines.size();
+        for (int i = 0; i < this.lines.size(); i++) {
+            result += ((TextLine) this.lines.get(i)).getModCount();
+        }
+        return result;
+    }
+
+    /**
+     * Measures the width and height of the text block.
+     * 
+     * @param g2  the graphics device.
+     * 
+     * @return The width and height.
+     */
+    private Size2D measure(final Graphics2D g2) {
         double width = 0.0;
         double height = 0.0;
         final Iterator iterator = this.lines.iterator();
@@ -45,6 +45,7 @@
  * 03-Sep-2004 : Added a method to remove a fragment (DG);
  * 08-Jul-2005 : Fixed bug in calculateBaselineOffset() (DG);
  * 01-Sep-2013 : Updated draw() method to take into account the textAnchor (DG);
+ * 16-Oct-2026 : Cache the dimensions per font render context;
  *
  */
 
@@ -74,6 +75,12 @@ public class TextLine implements Serializable {
     /** Storage for the text fragments that make up the line. */
     private List fragments;
 
+    /** The number of changes made to the fragments. */
+    private transient int modCount;
+
+    /** The cached dimensions (<code>null</code> if not yet calculated). */
+    private transient LayoutCache layout;
+
     /**
      * Creates a new empty line.
      */
@@ -131,6 +138,7 @@ public class TextLine implements Serializable {
      */
     public void addFragment(final TextFragment fragment) {
         this.fragments.add(fragment);        
+        this.modCount++;
     }
     
     /**
@@ -140,6 +148,7 @@ public class TextLine implements Serializable {
      */
     public void removeFragment(final TextFragment fragment) {
         this.fragments.remove(fragment);
+        this.modCount++;
     }
     
     /**
@@ -179,13 +188,42 @@ public class TextLine implements Serializable {
     }
     
     /**
-     * Calculates the width and height of the text line.
+     * Returns the number of changes made to this line, used by
+     * {@link TextBlock} to check its cached dimensions.
+     *
+     * @return The number of changes.
+     */
+    int getModCount() {
+        return this.modCount;
+    }
+
+    /**
+     * Calculates the width and height of the text line.  The result is
+     * cached, and reused for later calls with the same font render context
+     * until the fragments of the line change.
      * 
      * @param g2  the graphics device.
      * 
      * @return The width and height.
      */
     public Size2D calculateDimensions(final Graphics2D g2) {
+        final LayoutCache cached = this.layout;
+        if (cached != null && cached.isValid(g2, this.modCount)) {
+            return cached.getSize();
+        }
+        final Size2D result = measure(g2);
+        this.layout = new LayoutCache(g2, this.modCount, result);
+        return result;
+    }
+
+    /**
+     * Measures the width and height of the text line.
+     * 
+     * @param g2  the graphics device.
+     * 
+     * @return The width and height.
+     */
+    private Size2D measure(final Graphics2D g2) {
         double width = 0.0;
         double height = 0.0;
         final Iterator iterator = this.fragments.iterator();
@@ -59,6 +59,12 @@
  *               the rotation angle is 0.0 (DG);
  * 25-Oct-2013 : Added drawStringsWithFontAttributes flag (DG);
  * 28-Feb-2014 : Fix endless loop in createTextBlock() (DG);
+ * 16-Oct-2026 : Use a binary search to break words that are wider than the
+ *               line;
+ * 16-Oct-2026 : Added createTextBlocks() batch method;
+ * 16-Oct-2026 : Cache layouts and bounds for rotated strings;
+ * 17-Oct-2026 : Parse the glyph run cache size separately, so that a bad 
+ *               value does not reset the other settings;
  *
  */
 
@@ -76,8 +82,16 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.text.AttributedString;
 import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.jfree.base.BaseBoot;
+import org.jfree.text.GlyphRunCache.GlyphRun;
+import org.jfree.ui.Size2D;
 import org.jfree.ui.TextAnchor;
 import org.jfree.util.Log;
 import org.jfree.util.LogContext;
@@ -114,6 +128,19 @@ public class TextUtilities {
      */
     private static boolean useFontMetricsGetStringBounds;
 
+    /**
+     * The number of strings laid out by each task in
+     * {@link #createTextBlocks(List, Font, Paint, float, int, Graphics2D,
+     * Size2D[], ExecutorService)}.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * The cache used by the rotated string methods (<code>null</code> if
+     * caching is disabled).
+     */
+    private static volatile GlyphRunCache glyphRunCache;
+
     static {
         try {
             boolean isJava14 = ObjectUtilities.isJDK14();
@@ -138,14 +165,46 @@ public class TextUtilities {
                useFontMetricsGetStringBounds
                       = configFontMetricsStringBounds.equals("true");
             }
+
+            glyphRunCache = createGlyphRunCache(BaseBoot.getInstance()
+                    .getGlobalConfig().getConfigProperty(
+                    "org.jfree.text.GlyphRunCacheSize"));
         }
         catch (Exception e) {
             // ignore everything.
             useDrawRotatedStringWorkaround = true;
             useFontMetricsGetStringBounds = true;
+            glyphRunCache = new GlyphRunCache();
         }
     }
 
+    /**
+     * Creates the cache used by the rotated string methods, from the value 
+     * of the <code>org.jfree.text.GlyphRunCacheSize</code> configuration
+     * property.  A missing or malformed value gives a cache with the default
+     * capacity, and zero (or less) disables the cache.
+     *
+     * @param size  the configured size (<code>null</code> permitted).
+     *
+     * @return The cache (possibly <code>null</code>).
+     */
+    static GlyphRunCache createGlyphRunCache(String size) {
+        int capacity = GlyphRunCache.DEFAULT_CAPACITY;
+        if (size != null) {
+            try {
+                capacity = Integer.parseInt(size.trim());
+            }
+            catch (NumberFormatException e) {
+                logger.warn("Invalid org.jfree.text.GlyphRunCacheSize '"
+                        + size + "', using the default size.");
+            }
+        }
+        if (capacity <= 0) {
+            return null;
+        }
+        return new GlyphRunCache(capacity);
+    }
+
     /**
      * Private constructor prevents object creation.
      */
@@ -236,9 +295,29 @@ public class TextUtilities {
      */
     public static TextBlock createTextBlock(String text, Font font,
             Paint paint, float maxWidth, int maxLines, TextMeasurer measurer) {
+        return createTextBlock(text, font, paint, maxWidth, maxLines,
+                measurer, BreakIterator.getLineInstance());
+    }
+
+    /**
+     * Creates a new text block from the given string, using the supplied
+     * line break iterator.
+     *
+     * @param text  the text.
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     * @param iterator  the line break iterator (its text is replaced).
+     *
+     * @return A text block.
+     */
+    private static TextBlock createTextBlock(String text, Font font,
+            Paint paint, float maxWidth, int maxLines, TextMeasurer measurer,
+            BreakIterator iterator) {
 
         TextBlock result = new TextBlock();
-        BreakIterator iterator = BreakIterator.getLineInstance();
         iterator.setText(text);
         int current = 0;
         int lines = 0;
@@ -276,6 +355,236 @@ public class TextUtilities {
         return result;
     }
 
+    /**
+     * Creates text blocks for many strings that share the same font and
+     * width constraints, such as the category labels on an axis.  The result
+     * is the same as calling
+     * {@link #createTextBlock(String, Font, Paint, float, int, TextMeasurer)}
+     * for each string with a {@link CachingTextMeasurer}, but one measurer
+     * and line break iterator are reused for all of them, and the work can
+     * be spread across the threads of an executor.
+     *
+     * @param texts  the strings (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param g2  the graphics device, used for its font render context and
+     *            metrics only (<code>null</code> not permitted).
+     * @param dimensions  if not <code>null</code>, an array with at least
+     *                    as many elements as there are strings, that is
+     *                    filled with the dimensions of each block (as
+     *                    returned by {@link TextBlock#calculateDimensions(
+     *                    Graphics2D)}).
+     * @param executor  the executor used to lay out the strings in parallel
+     *                  (<code>null</code> to use the calling thread only).
+     *
+     * @return The text blocks, in the same order as the strings.
+     */
+    public static TextBlock[] createTextBlocks(List texts, Font font,
+            Paint paint, float maxWidth, int maxLines, Graphics2D g2,
+            Size2D[] dimensions, ExecutorService executor) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Null 'texts' argument.");
+        }
+        if (font == null) {
+            throw new IllegalArgumentException("Null 'font' argument.");
+        }
+        if (g2 == null) {
+            throw new IllegalArgumentException("Null 'g2' argument.");
+        }
+        int count = texts.size();
+        if (dimensions != null && dimensions.length < count) {
+            throw new IllegalArgumentException(
+                    "The 'dimensions' array is too short.");
+        }
+        String[] strings = (String[]) texts.toArray(new String[count]);
+        TextBlock[] result = new TextBlock[count];
+        FontRenderContext frc = g2.getFontRenderContext();
+        FontMetrics fm = g2.getFontMetrics(font);
+        TextMeasurer measurer = new CachingTextMeasurer(font, frc);
+        if (executor == null || count <= BATCH_SIZE) {
+            createTextBlocks(strings, 0, count, font, paint, maxWidth,
+                    maxLines, measurer, fm, frc, result, dimensions);
+            return result;
+        }
+        List futures = new ArrayList();
+        for (int start = 0; start < count; start += BATCH_SIZE) {
+            futures.add(executor.submit(new TextBlockTask(strings, start,
+                    Math.min(start + BATCH_SIZE, count), font, paint, maxWidth,
+                    maxLines, measurer, fm, frc, result, dimensions)));
+        }
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                ((Future) futures.get(i)).get();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating text "
+                    + "blocks.", e);
+        }
+        catch (ExecutionException e) {
+            throw new RuntimeException("Unable to create text blocks.",
+                    e.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Creates the text blocks for a range of strings, with a single line
+     * break iterator.
+     *
+     * @param texts  the strings.
+     * @param start  the index of the first string.
+     * @param end  the index after the last string.
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     * @param fm  the font metrics.
+     * @param frc  the font render context.
+     * @param result  the array that receives the blocks.
+     * @param dimensions  the array that receives the dimensions
+     *                    (<code>null</code> permitted).
+     */
+    private static void createTextBlocks(String[] texts, int start, int end,
+            Font font, Paint paint, float maxWidth, int maxLines,
+            TextMeasurer measurer, FontMetrics fm, FontRenderContext frc,
+            TextBlock[] result, Size2D[] dimensions) {
+        BreakIterator iterator = BreakIterator.getLineInstance();
+        for (int i = start; i < end; i++) {
+            if (texts[i] == null) {
+                throw new IllegalArgumentException("Null string at index "
+                        + i + ".");
+            }
+            result[i] = createTextBlock(texts[i], font, paint, maxWidth,
+                    maxLines, measurer, iterator);
+            if (dimensions != null) {
+                dimensions[i] = calculateDimensions(result[i], fm, frc);
+            }
+        }
+    }
+
+    /**
+     * Calculates the dimensions of a text block created by
+     * {@link #createTextBlock(String, Font, Paint, float, int, TextMeasurer,
+     * BreakIterator)}, in the same way as
+     * {@link TextBlock#calculateDimensions(Graphics2D)} but without a
+     * graphics device.  Each line of such a block has a single fragment in
+     * the font of the given metrics.
+     *
+     * @param block  the text block.
+     * @param fm  the font metrics.
+     * @param frc  the font render context.
+     *
+     * @return The dimensions.
+     */
+    private static Size2D calculateDimensions(TextBlock block,
+            FontMetrics fm, FontRenderContext frc) {
+        double width = 0.0;
+        double height = 0.0;
+        List lines = block.getLines();
+        for (int i = 0; i < lines.size(); i++) {
+            TextLine line = (TextLine) lines.get(i);
+            Rectangle2D bounds = getTextBounds(
+                    line.getFirstTextFragment().getText(), fm, frc);
+            width = Math.max(width, bounds.getWidth());
+            height += bounds.getHeight();
+        }
+        return new Size2D(width, height);
+    }
+
+    /**
+     * A task that creates the text blocks for a range of strings.
+     */
+    private static class TextBlockTask implements Callable {
+
+        /** The strings. */
+        private final String[] texts;
+
+        /** The index of the first string. */
+        private final int start;
+
+        /** The index after the last string. */
+        private final int end;
+
+        /** The font. */
+        private final Font font;
+
+        /** The paint. */
+        private final Paint paint;
+
+        /** The maximum width for each line. */
+        private final float maxWidth;
+
+        /** The maximum number of lines. */
+        private final int maxLines;
+
+        /** The text measurer. */
+        private final TextMeasurer measurer;
+
+        /** The font metrics. */
+        private final FontMetrics fm;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The array that receives the blocks. */
+        private final TextBlock[] result;
+
+        /** The array that receives the dimensions. */
+        private final Size2D[] dimensions;
+
+        /**
+         * Creates a new task.
+         *
+         * @param texts  the strings.
+         * @param start  the index of the first string.
+         * @param end  the index after the last string.
+         * @param font  the font.
+         * @param paint  the paint.
+         * @param maxWidth  the maximum width for each line.
+         * @param maxLines  the maximum number of lines.
+         * @param measurer  the text measurer.
+         * @param fm  the font metrics.
+         * @param frc  the font render context.
+         * @param result  the array that receives the blocks.
+         * @param dimensions  the array that receives the dimensions.
+         */
+        TextBlockTask(String[] texts, int start, int end, Font font,
+                Paint paint, float maxWidth, int maxLines,
+                TextMeasurer measurer, FontMetrics fm, FontRenderContext frc,
+                TextBlock[] result, Size2D[] dimensions) {
+            this.texts = texts;
+            this.start = start;
+            this.end = end;
+            this.font = font;
+            this.paint = paint;
+            this.maxWidth = maxWidth;
+            this.maxLines = maxLines;
+            this.measurer = measurer;
+            this.fm = fm;
+            this.frc = frc;
+            this.result = result;
+            this.dimensions = dimensions;
+        }
+
+        /**
+         * Creates the text blocks.
+         *
+         * @return <code>null</code>.
+         */
+        public Object call() {
+            createTextBlocks(this.texts, this.start, this.end, this.font,
+                    this.paint, this.maxWidth, this.maxLines, this.measurer,
+                    this.fm, this.frc, this.result, this.dimensions);
+            return null;
+        }
+
+    }
+
     /**
      * Returns the character index of the next line break.  If the next
      * character is wider than <code>width</code> this method will return
@@ -306,13 +615,8 @@ public class TextUtilities {
             x += measurer.getStringWidth(text, current, end);
             if (x > width) {
                 if (firstWord) {
-                    while (measurer.getStringWidth(text, start, end) > width) {
-                        end--;
-                        if (end <= start) {
-                            return end;
-                        }
-                    }
-                    return end;
+                    return lastFittingIndex(text, start, end, width,
+                            measurer);
                 }
                 else {
                     end = iterator.previous();
@@ -331,6 +635,39 @@ public class TextUtilities {
         return BreakIterator.DONE;
     }
 
+    /**
+     * Returns the largest index <code>i</code> in the range
+     * <code>start</code> to <code>end - 1</code> such that the text from
+     * <code>start</code> to <code>i</code> fits within the given width
+     * (<code>start</code> if no characters fit).  The text from
+     * <code>start</code> to <code>end</code> is known not to fit.  Since
+     * widths grow with the number of characters, this uses a binary search
+     * rather than dropping one character at a time.
+     *
+     * @param text  the text.
+     * @param start  the start index.
+     * @param end  the end index.
+     * @param width  the target display width.
+     * @param measurer  the text measurer.
+     *
+     * @return The index.
+     */
+    private static int lastFittingIndex(String text, int start, int end,
+            float width, TextMeasurer measurer) {
+        int low = start;   // fits (trivially)
+        int high = end;    // does not fit
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (measurer.getStringWidth(text, start, mid) > width) {
+                high = mid;
+            }
+            else {
+                low = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Returns the bounds for the specified text.
      *
@@ -343,15 +680,30 @@ public class TextUtilities {
      */
     public static Rectangle2D getTextBounds(String text, Graphics2D g2, 
             FontMetrics fm) {
+        return getTextBounds(text, fm, g2.getFontRenderContext());
+    }
+
+    /**
+     * Returns the bounds for the specified text, using a font render
+     * context in place of a graphics device.
+     *
+     * @param text  the text (<code>null</code> permitted).
+     * @param fm  the font metrics (not <code>null</code>).
+     * @param frc  the font render context (not <code>null</code>).
+     *
+     * @return The text bounds (<code>null</code> if the <code>text</code>
+     *         argument is <code>null</code>).
+     */
+    private static Rectangle2D getTextBounds(String text, FontMetrics fm,
+            FontRenderContext frc) {
 
         Rectangle2D bounds;
         if (TextUtilities.useFontMetricsGetStringBounds) {
-            bounds = fm.getStringBounds(text, g2);
+            bounds = fm.getFont().getStringBounds(text, frc);
             // getStringBounds() can return incorrect height for some Unicode
             // characters...see bug parade 6183356, let's replace it with
             // something correct
-            LineMetrics lm = fm.getFont().getLineMetrics(text,
-                    g2.getFontRenderContext());
+            LineMetrics lm = fm.getFont().getLineMetrics(text, frc);
             bounds.setRect(bounds.getX(), bounds.getY(), bounds.getWidth(),
                     lm.getHeight());
         }
@@ -512,8 +864,14 @@ public class TextUtilities {
 
         if (useDrawRotatedStringWorkaround) {
             // workaround for JDC bug ID 4312117 and others...
-            TextLayout tl = new TextLayout(text, g2.getFont(),
-                    g2.getFontRenderContext());
+            TextLayout tl;
+            if (glyphRunCache != null) {
+                tl = getGlyphRun(text, g2).getLayout();
+            }
+            else {
+                tl = new TextLayout(text, g2.getFont(),
+                        g2.getFontRenderContext());
+            }
             tl.draw(g2, textX, textY);
         }
         else {
@@ -647,15 +1005,12 @@ public class TextUtilities {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        Font f = g2.getFont();
-        FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        GlyphRun run = getGlyphRun(text, g2);
+        Rectangle2D bounds = run.bounds;
+        float ascent = run.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = run.descent;
+        float leading = run.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -679,7 +1034,7 @@ public class TextUtilities {
             yAdj = 0.0f;
         }
         else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -descent - leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -702,14 +1057,12 @@ public class TextUtilities {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
-        float ascent = metrics.getAscent();
+        GlyphRun run = getGlyphRun(text, g2);
+        Rectangle2D bounds = run.bounds;
+        float ascent = run.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = run.descent;
+        float leading = run.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -736,7 +1089,7 @@ public class TextUtilities {
             yAdj = 0.0f;
         }
         else if (anchor.isBottom()) {
-            yAdj = metrics.getDescent() + metrics.getLeading();
+            yAdj = descent + leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -766,8 +1119,7 @@ public class TextUtilities {
         if ((text == null) || (text.equals(""))) {
             return null;
         }
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
+        Rectangle2D bounds = getGlyphRun(text, g2).bounds;
         AffineTransform translate = AffineTransform.getTranslateInstance(
                 textX, textY);
         Shape translatedBounds = translate.createTransformedShape(bounds);
@@ -778,6 +1130,56 @@ public class TextUtilities {
 
     }
 
+    /**
+     * Returns the laid-out run for some text in the current font of a
+     * graphics device, from the cache when it is enabled.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The run.
+     */
+    private static GlyphRun getGlyphRun(String text, Graphics2D g2) {
+        Font font = g2.getFont();
+        FontRenderContext frc = g2.getFontRenderContext();
+        boolean fontMetricsBounds = useFontMetricsGetStringBounds;
+        GlyphRunCache cache = glyphRunCache;
+        GlyphRun run = null;
+        if (cache != null) {
+            run = cache.get(text, font, frc, fontMetricsBounds);
+        }
+        if (run == null) {
+            Rectangle2D bounds = getTextBounds(text, g2.getFontMetrics(font),
+                    frc);
+            run = new GlyphRun(text, font, frc, bounds);
+            if (cache != null) {
+                cache.put(run, fontMetricsBounds);
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Returns the cache used by the rotated string methods.  The initial
+     * capacity is taken from the
+     * <code>org.jfree.text.GlyphRunCacheSize</code> configuration property,
+     * where zero disables the cache.
+     *
+     * @return The cache (possibly <code>null</code>).
+     */
+    public static GlyphRunCache getGlyphRunCache() {
+        return glyphRunCache;
+    }
+
+    /**
+     * Sets the cache used by the rotated string methods.
+     *
+     * @param cache  the cache (<code>null</code> disables caching).
+     */
+    public static void setGlyphRunCache(GlyphRunCache cache) {
+        glyphRunCache = cache;
+    }
+
     /**
      * Returns the flag that controls whether the FontMetrics.getStringBounds()
      * method is used or not.  If you are having trouble with label alignment
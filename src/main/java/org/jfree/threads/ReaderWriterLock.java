@@ -33,178 +33,125 @@
  * Changes
  * -------
  * 29-Jan-2003 : Added standard header (DG);
+ * 16-Oct-2026 : Reimplemented on ReentrantReadWriteLock, removing the
+ *               waiter list scans and notifyAll() on each unlock, and
+ *               added support for downgrading a write lock;
  *
  */
 
 package org.jfree.threads;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * A reader-writer lock from "Java Threads" by Scott Oak and Henry Wong.
+ * A reentrant reader-writer lock.  Any number of threads may hold the read
+ * lock at the same time, while the write lock is exclusive.  Both locks can
+ * be acquired repeatedly by the same thread, and each call to
+ * {@link #lockRead()} or {@link #lockWrite()} must be matched by a call to
+ * {@link #unlock()}.
+ * <P>
+ * A thread holding the write lock may also acquire the read lock.  Since
+ * {@link #unlock()} releases the write lock before any read locks, this can
+ * be used to downgrade a write lock:
+ * <pre>
+ * lock.lockWrite();
+ * // ... update ...
+ * lock.lockRead();
+ * lock.unlock();    // releases the write lock, the read lock is kept
+ * // ... read ...
+ * lock.unlock();
+ * </pre>
+ * Upgrading a read lock to a write lock is not supported, since two readers
+ * attempting it at the same time would deadlock.
+ * <P>
+ * The original implementation, from "Java Threads" by Scott Oak and Henry
+ * Wong, kept the waiting threads in a list that was scanned on every call;
+ * this version delegates to {@link ReentrantReadWriteLock} so that readers do
+ * not contend for a single monitor.
  *
  * @author Scott Oak and Henry Wong
  */
 public class ReaderWriterLock {
 
+    /** The underlying lock. */
+    private final ReentrantReadWriteLock lock;
+
     /**
-     * A node for the waiting list.
-     *
-     * @author Scott Oak and Henry Wong
+     * Default constructor.  The lock does not guarantee a fair ordering of
+     * the waiting threads, although waiting writers are not starved by a
+     * stream of new readers.
      */
-    private static class ReaderWriterNode {
-
-        /** A reader. */
-        protected static final int READER = 0;
-
-        /** A writer. */
-        protected static final int WRITER = 1;
-
-        /** The thread. */
-        protected Thread t;
-
-        /** The state. */
-        protected int state;
-
-        /** The number of acquires.*/
-        protected int nAcquires;
-
-        /**
-         * Creates a new node.
-         *
-         * @param t  the thread.
-         * @param state  the state.
-         */
-        private ReaderWriterNode(final Thread t, final int state) {
-            this.t = t;
-            this.state = state;
-            this.nAcquires = 0;
-        }
-
+    public ReaderWriterLock() {
+        this(false);
     }
 
-    /** The waiting threads. */
-    private ArrayList waiters;
-
     /**
-     * Default constructor.
+     * Creates a new lock.
+     *
+     * @param fair  if <code>true</code>, the lock is granted to the longest
+     *              waiting thread (at some cost in throughput).
      */
-    public ReaderWriterLock() {
-        this.waiters = new ArrayList();
+    public ReaderWriterLock(final boolean fair) {
+        this.lock = new ReentrantReadWriteLock(fair);
     }
 
     /**
-     * Grab the read lock.
+     * Grab the read lock.  If the current thread holds the write lock, the
+     * read lock is granted immediately.
      */
-    public synchronized void lockRead() {
-        final ReaderWriterNode node;
-        final Thread me = Thread.currentThread();
-        final int index = getIndex(me);
-        if (index == -1) {
-            node = new ReaderWriterNode(me, ReaderWriterNode.READER);
-            this.waiters.add(node);
-        }
-        else {
-            node = (ReaderWriterNode) this.waiters.get(index);
-        }
-        while (getIndex(me) > firstWriter()) {
-            try {
-                wait();
-            }
-            catch (Exception e) {
-                System.err.println("ReaderWriterLock.lockRead(): exception.");
-                System.err.print(e.getMessage());
-            }
-        }
-        node.nAcquires++;
+    public void lockRead() {
+        this.lock.readLock().lock();
     }
 
     /**
      * Grab the write lock.
+     *
+     * @throws IllegalArgumentException if the current thread holds the read
+     *     lock but not the write lock (an upgrade).
      */
-    public synchronized void lockWrite() {
-        final ReaderWriterNode node;
-        final Thread me = Thread.currentThread();
-        final int index = getIndex(me);
-        if (index == -1) {
-            node = new ReaderWriterNode(me, ReaderWriterNode.WRITER);
-            this.waiters.add(node);
-        }
-        else {
-            node = (ReaderWriterNode) this.waiters.get(index);
-            if (node.state == ReaderWriterNode.READER) {
-                throw new IllegalArgumentException("Upgrade lock");
-            }
-            node.state = ReaderWriterNode.WRITER;
-        }
-        while (getIndex(me) != 0) {
-            try {
-                wait();
-            }
-            catch (Exception e) {
-                System.err.println("ReaderWriterLock.lockWrite(): exception.");
-                System.err.print(e.getMessage());
-            }
+    public void lockWrite() {
+        if (!this.lock.isWriteLockedByCurrentThread()
+                && this.lock.getReadHoldCount() > 0) {
+            throw new IllegalArgumentException("Upgrade lock");
         }
-        node.nAcquires++;
+        this.lock.writeLock().lock();
     }
 
     /**
-     * Unlock.
+     * Unlock.  If the current thread holds the write lock, one hold on the
+     * write lock is released, otherwise one hold on the read lock.
+     *
+     * @throws IllegalArgumentException if the current thread holds neither
+     *     lock.
      */
-    public synchronized void unlock() {
-
-        final ReaderWriterNode node;
-        final Thread me = Thread.currentThread();
-        final int index = getIndex(me);
-        if (index > firstWriter()) {
-            throw new IllegalArgumentException("Lock not held");
+    public void unlock() {
+        if (this.lock.isWriteLockedByCurrentThread()) {
+            this.lock.writeLock().unlock();
+        }
+        else if (this.lock.getReadHoldCount() > 0) {
+            this.lock.readLock().unlock();
         }
-        node = (ReaderWriterNode) this.waiters.get(index);
-        node.nAcquires--;
-        if (node.nAcquires == 0) {
-            this.waiters.remove(index);
+        else {
+            throw new IllegalArgumentException("Lock not held");
         }
-        notifyAll();
     }
 
     /**
-     * Returns the index of the first waiting writer.
+     * Returns <code>true</code> if the current thread holds the write lock.
      *
-     * @return The index.
+     * @return A boolean.
      */
-    private int firstWriter() {
-        final Iterator e = this.waiters.iterator();
-        int index = 0;
-        while (e.hasNext()) {
-            final ReaderWriterNode node = (ReaderWriterNode) e.next();
-            if (node.state == ReaderWriterNode.WRITER) {
-                return index;
-            }
-            index += 1;
-        }
-        return Integer.MAX_VALUE;
+    public boolean isWriteLockedByCurrentThread() {
+        return this.lock.isWriteLockedByCurrentThread();
     }
 
     /**
-     * Returns the index of a thread.
-     *
-     * @param t  the thread.
+     * Returns the number of read holds on this lock by the current thread.
      *
-     * @return The index.
+     * @return The hold count.
      */
-    private int getIndex(final Thread t) {
-        final Iterator e = this.waiters.iterator();
-        int index = 0;
-        while (e.hasNext()) {
-            final ReaderWriterNode node = (ReaderWriterNode) e.next();
-            if (node.t == t) {
-                return index;
-            }
-            index += 1;
-        }
-        return -1;
+    public int getReadHoldCount() {
+        return this.lock.getReadHoldCount();
     }
 
 }
@@ -0,0 +1,485 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * AsyncLogTarget.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A log target that hands messages to a background thread, which passes
+ * them on to another log target in batches.  Logging costs the caller a
+ * few atomic operations on a bounded ring buffer instead of the
+ * (often blocking) I/O done by the wrapped target.
+ * <p>
+ * When the buffer is full, the overflow policy decides what happens:
+ * {@link #OVERFLOW_BLOCK} makes the caller wait for space,
+ * {@link #OVERFLOW_DROP} discards the message, and {@link #OVERFLOW_SAMPLE}
+ * keeps one in every <code>sampleRate</code> overflowing messages (waiting
+ * for space) and discards the rest.  Discarded messages are counted, see
+ * {@link #getDroppedCount()}.
+ * <p>
+ * Messages are delivered in the order in which they were accepted.  After
+ * {@link #close()} the target delivers messages on the caller's thread.
+ */
+public class AsyncLogTarget implements LogTarget {
+
+    /** Wait for space when the buffer is full. */
+    public static final int OVERFLOW_BLOCK = 0;
+
+    /** Discard messages when the buffer is full. */
+    public static final int OVERFLOW_DROP = 1;
+
+    /** Keep one in every n messages when the buffer is full. */
+    public static final int OVERFLOW_SAMPLE = 2;
+
+    /** The default buffer capacity. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** The maximum number of messages delivered per batch. */
+    private static final int BATCH_SIZE = 256;
+
+    /** The time (in nanoseconds) a waiting thread parks between checks. */
+    private static final long PARK_NANOS = 100000L;
+
+    /** The longest time (in nanoseconds) the worker sleeps when idle. */
+    private static final long IDLE_NANOS = 10000000L;
+
+    /** The target that receives the messages. */
+    private final LogTarget target;
+
+    /** The overflow policy. */
+    private final int overflowPolicy;
+
+    /** The sample rate for {@link #OVERFLOW_SAMPLE}. */
+    private final int sampleRate;
+
+    /** The capacity minus one (the capacity is a power of two). */
+    private final int mask;
+
+    /**
+     * The sequence number of each slot.  A slot at index i is free for the
+     * message with position p when its sequence is p, and holds that
+     * message when its sequence is p + 1.
+     */
+    private final AtomicLongArray sequences;
+
+    /** The message levels. */
+    private final int[] levels;
+
+    /** The messages. */
+    private final Object[] messages;
+
+    /** The exceptions (<code>null</code> entries for plain messages). */
+    private final Exception[] exceptions;
+
+    /** The position of the next message to be added. */
+    private final AtomicLong tail;
+
+    /**
+     * The position of the next message to be delivered (used by the worker,
+     * and after it stops, under the lock on this target).
+     */
+    private long head;
+
+    /** The number of messages delivered so far. */
+    private volatile long delivered;
+
+    /** The number of discarded messages. */
+    private final AtomicLong dropped;
+
+    /** The number of messages that found the buffer full. */
+    private final AtomicLong overflows;
+
+    /** Set while the worker is (about to be) parked. */
+    private volatile boolean idle;
+
+    /** Set when the target has been closed. */
+    private volatile boolean closed;
+
+    /** The worker thread. */
+    private final Thread worker;
+
+    /**
+     * Creates a new target with the default capacity that waits for space
+     * when the buffer is full.
+     *
+     * @param target  the target (<code>null</code> not permitted).
+     */
+    public AsyncLogTarget(final LogTarget target) {
+        this(target, DEFAULT_CAPACITY, OVERFLOW_BLOCK, 1);
+    }
+
+    /**
+     * Creates a new target.
+     *
+     * @param target  the target (<code>null</code> not permitted).
+     * @param capacity  the buffer capacity (rounded up to a power of two).
+     * @param overflowPolicy  the overflow policy, one of
+     *     {@link #OVERFLOW_BLOCK}, {@link #OVERFLOW_DROP} and
+     *     {@link #OVERFLOW_SAMPLE}.
+     * @param sampleRate  the sample rate for {@link #OVERFLOW_SAMPLE}
+     *     (ignored for the other policies).
+     */
+    public AsyncLogTarget(final LogTarget target, final int capacity,
+                          final int overflowPolicy, final int sampleRate) {
+        if (target == null) {
+            throw new IllegalArgumentException("Null 'target' argument.");
+        }
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                    "Requires 0 < capacity <= 2^30.");
+        }
+        if (overflowPolicy < OVERFLOW_BLOCK
+                || overflowPolicy > OVERFLOW_SAMPLE) {
+            throw new IllegalArgumentException(
+                    "Unknown overflow policy: " + overflowPolicy);
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Requires sampleRate > 0.");
+        }
+        this.target = target;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.levels = new int[size];
+        this.messages = new Object[size];
+        this.exceptions = new Exception[size];
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.overflows = new AtomicLong();
+
+        this.worker = new Thread(new Runnable() {
+            public void run() {
+                drainLoop();
+            }
+        }, "AsyncLogTarget");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Returns the target that receives the messages.
+     *
+     * @return The target.
+     */
+    public LogTarget getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the overflow policy.
+     *
+     * @return The overflow policy.
+     */
+    public int getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Returns the buffer capacity.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the number of messages that were discarded because the buffer
+     * was full.
+     *
+     * @return The number of discarded messages.
+     */
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Queues a message.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     */
+    public void log(final int level, final Object message) {
+        enqueue(level, snapshot(message), null);
+    }
+
+    /**
+     * Queues a message.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     * @param e  the exception
+     */
+    public void log(final int level, final Object message, final Exception e) {
+        enqueue(level, snapshot(message), e);
+    }
+
+    /**
+     * Waits until all messages queued before this call have been delivered
+     * to the target.
+     */
+    public void flush() {
+        final long target = this.tail.get();
+        while (this.delivered < target && this.worker.isAlive()) {
+            LockSupport.unpark(this.worker);
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Delivers the queued messages and stops the background thread.  Later
+     * messages are delivered on the caller's thread.
+     */
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.worker);
+        boolean interrupted = false;
+        while (this.worker.isAlive()) {
+            try {
+                this.worker.join();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        drainAfterClose();
+    }
+
+    /**
+     * Returns a message that stays valid after the caller returns: messages
+     * formatted by {@link Log} arrive in a reused buffer, which is copied.
+     *
+     * @param message  the message (<code>null</code> permitted).
+     *
+     * @return The message, or a copy of it.
+     */
+    private static Object snapshot(final Object message) {
+        if (message instanceof CharSequence && !(message instanceof String)) {
+            return message.toString();
+        }
+        return message;
+    }
+
+    /**
+     * Adds a message to the buffer, applying the overflow policy when it
+     * is full.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    private void enqueue(final int level, final Object message,
+                         final Exception e) {
+        if (this.closed) {
+            deliver(level, message, e);
+            return;
+        }
+        if (!offer(level, message, e)) {
+            if (this.overflowPolicy == OVERFLOW_DROP
+                    || (this.overflowPolicy == OVERFLOW_SAMPLE
+                    && this.overflows.incrementAndGet() % this.sampleRate
+                    != 0)) {
+                this.dropped.incrementAndGet();
+                return;
+            }
+            while (!offer(level, message, e)) {
+                if (this.closed) {
+                    deliver(level, message, e);
+                    return;
+                }
+                LockSupport.unpark(this.worker);
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        if (this.closed && !this.worker.isAlive()) {
+            // the worker may have stopped before it saw the message
+            drainAfterClose();
+        }
+    }
+
+    /**
+     * Tries to add a message to the buffer.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     *
+     * @return <code>false</code> if the buffer is full.
+     */
+    private boolean offer(final int level, final Object message,
+                          final Exception e) {
+        long pos = this.tail.get();
+        int index;
+        while (true) {
+            index = (int) pos & this.mask;
+            final long diff = this.sequences.get(index) - pos;
+            if (diff == 0) {
+                if (this.tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = this.tail.get();
+            }
+            else if (diff < 0) {
+                return false;
+            }
+            else {
+                pos = this.tail.get();
+            }
+        }
+        this.levels[index] = level;
+        this.messages[index] = message;
+        this.exceptions[index] = e;
+        // publishes the slot contents to the worker
+        this.sequences.set(index, pos + 1);
+        if (this.idle) {
+            LockSupport.unpark(this.worker);
+        }
+        return true;
+    }
+
+    /**
+     * The worker's main loop: delivers batches until the target is closed
+     * and the buffer is empty.
+     */
+    private void drainLoop() {
+        while (true) {
+            if (drainBatch() > 0) {
+                continue;
+            }
+            if (this.closed) {
+                // messages may have been published after the last check
+                if (drainBatch() == 0) {
+                    return;
+                }
+                continue;
+            }
+            this.idle = true;
+            if (!hasMessage()) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+            this.idle = false;
+        }
+    }
+
+    /**
+     * Delivers any messages left in the buffer once the worker has stopped.
+     */
+    private synchronized void drainAfterClose() {
+        while (drainBatch() > 0) {
+            // keep going
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a message is waiting to be delivered.
+     *
+     * @return A boolean.
+     */
+    private boolean hasMessage() {
+        final int index = (int) this.head & this.mask;
+        return this.sequences.get(index) == this.head + 1;
+    }
+
+    /**
+     * Delivers up to {@link #BATCH_SIZE} messages.
+     *
+     * @return The number of messages delivered.
+     */
+    private int drainBatch() {
+        int count = 0;
+        final int size = this.mask + 1;
+        while (count < BATCH_SIZE && hasMessage()) {
+            final int index = (int) this.head & this.mask;
+            final int level = this.levels[index];
+            final Object message = this.messages[index];
+            final Exception e = this.exceptions[index];
+            this.messages[index] = null;
+            this.exceptions[index] = null;
+            this.sequences.set(index, this.head + size);
+            this.head++;
+            deliver(level, message, e);
+            count++;
+        }
+        if (count > 0) {
+            this.delivered = this.head;
+        }
+        return count;
+    }
+
+    /**
+     * Passes a message to the target.  A failing target does not stop the
+     * worker.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    private void deliver(final int level, final Object message,
+                         final Exception e) {
+        try {
+            if (e == null) {
+                this.target.log(level, message);
+            }
+            else {
+                this.target.log(level, message, e);
+            }
+        }
+        catch (RuntimeException re) {
+            // the log system cannot report its own failures
+            re.printStackTrace();
+        }
+    }
+
+}
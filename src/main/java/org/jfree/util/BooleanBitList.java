@@ -0,0 +1,482 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * BooleanBitList.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * A list of boolean flags stored one bit per item, for example the
+ * visibility flags for a series with many data items.  Compared with
+ * {@link BooleanList}, which holds a {@link Boolean} reference per item, this
+ * uses 32 to 64 times less memory and allows {@link #cardinality()} and
+ * {@link #nextSetBit(int)} to scan a word at a time.
+ * <P>
+ * By default the list holds two-state flags and unset items read as
+ * <code>false</code>.  A tri-state list, created with
+ * {@link #BooleanBitList(boolean)}, keeps a second bit per item so that an
+ * item can also be <code>null</code> (undefined), in the same way as the
+ * items in a {@link BooleanList}.
+ * <P>
+ * As for the other lists in this package, the list grows as required when
+ * an item is set, and {@link #size()} is one more than the highest index
+ * set.
+ */
+public class BooleanBitList implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3468719244706124312L;
+
+    /** The default initial capacity (in bits). */
+    public static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /** The flag values, 64 per word. */
+    private transient long[] bits;
+
+    /**
+     * The items that are defined (tri-state lists only, <code>null</code>
+     * otherwise).
+     */
+    private transient long[] defined;
+
+    /** The size of the list. */
+    private int size;
+
+    /** A flag that indicates whether or not items can be undefined. */
+    private boolean triState;
+
+    /**
+     * Creates a new two-state list.
+     */
+    public BooleanBitList() {
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    /**
+     * Creates a new list.
+     *
+     * @param triState  if <code>true</code>, items can also be
+     *                  <code>null</code>.
+     */
+    public BooleanBitList(final boolean triState) {
+        this(DEFAULT_INITIAL_CAPACITY, triState);
+    }
+
+    /**
+     * Creates a new list.
+     *
+     * @param initialCapacity  the initial capacity (in items).
+     * @param triState  if <code>true</code>, items can also be
+     *                  <code>null</code>.
+     */
+    public BooleanBitList(final int initialCapacity, final boolean triState) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Requires initialCapacity >= 0.");
+        }
+        this.bits = new long[wordCount(Math.max(initialCapacity, 1))];
+        if (triState) {
+            this.defined = new long[this.bits.length];
+        }
+        this.triState = triState;
+    }
+
+    /**
+     * Returns the number of words needed to hold the given number of bits.
+     *
+     * @param n  the number of bits.
+     *
+     * @return The number of words.
+     */
+    private static int wordCount(final int n) {
+        return (n + 63) >>> 6;
+    }
+
+    /**
+     * Returns <code>true</code> if items in this list can be
+     * <code>null</code>.
+     *
+     * @return A boolean.
+     */
+    public boolean isTriState() {
+        return this.triState;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return The size of the list.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the flag for an item.  Items that have not been set, including
+     * those beyond the end of the list and <code>null</code> items in a
+     * tri-state list, return <code>false</code>.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The flag.
+     */
+    public boolean getBoolean(final int index) {
+        if (index < 0 || index >= this.size) {
+            return false;
+        }
+        return (this.bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the flag for an item.  The list is expanded if necessary.
+     *
+     * @param index  the index (zero-based).
+     * @param b  the flag.
+     */
+    public void setBoolean(final int index, final boolean b) {
+        ensureCapacity(index);
+        final int word = index >>> 6;
+        final long mask = 1L << index;
+        if (b) {
+            this.bits[word] |= mask;
+        }
+        else {
+            this.bits[word] &= ~mask;
+        }
+        if (this.defined != null) {
+            this.defined[word] |= mask;
+        }
+        this.size = Math.max(this.size, index + 1);
+    }
+
+    /**
+     * Returns the value of an item as a {@link Boolean}.  For a tri-state
+     * list, this is <code>null</code> for items that are undefined.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Boolean getValue(final int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        return getBoolean(index) ? Boolean.TRUE : Boolean.FALSE;
+    }
+
+    /**
+     * Sets the value of an item.  The list is expanded if necessary.
+     *
+     * @param index  the index (zero-based).
+     * @param b  the value (<code>null</code> permitted for a tri-state list
+     *           only).
+     */
+    public void setValue(final int index, final Boolean b) {
+        if (b != null) {
+            setBoolean(index, b.booleanValue());
+            return;
+        }
+        if (this.defined == null) {
+            throw new IllegalArgumentException(
+                    "Null 'b' argument for a two-state list.");
+        }
+        ensureCapacity(index);
+        final long mask = ~(1L << index);
+        this.bits[index >>> 6] &= mask;
+        this.defined[index >>> 6] &= mask;
+        this.size = Math.max(this.size, index + 1);
+    }
+
+    /**
+     * Returns <code>true</code> if the specified item is <code>null</code>.
+     * This is always <code>false</code> within the bounds of a two-state
+     * list, and always <code>true</code> outside them.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return A boolean.
+     */
+    public boolean isNull(final int index) {
+        if (index < 0 || index >= this.size) {
+            return true;
+        }
+        if (this.defined == null) {
+            return false;
+        }
+        return (this.defined[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * Returns the number of items that are <code>true</code>.
+     *
+     * @return The count.
+     */
+    public int cardinality() {
+        int count = 0;
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(this.bits[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first item at or after <code>fromIndex</code>
+     * that is <code>true</code>, or -1 if there is no such item.
+     *
+     * @param fromIndex  the index to start searching from (inclusive).
+     *
+     * @return The index, or -1.
+     */
+    public int nextSetBit(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Requires fromIndex >= 0.");
+        }
+        if (fromIndex >= this.size) {
+            return -1;
+        }
+        final int words = wordCount(this.size);
+        int i = fromIndex >>> 6;
+        long word = this.bits[i] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++i == words) {
+                return -1;
+            }
+            word = this.bits[i];
+        }
+    }
+
+    /**
+     * Returns the index of the first item at or after <code>fromIndex</code>
+     * that is not <code>true</code> (that is, <code>false</code> or
+     * <code>null</code>).  Since the list behaves as if it were followed by
+     * unset items, the result is at most {@link #size()}.
+     *
+     * @param fromIndex  the index to start searching from (inclusive).
+     *
+     * @return The index.
+     */
+    public int nextClearBit(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Requires fromIndex >= 0.");
+        }
+        if (fromIndex >= this.size) {
+            return fromIndex;
+        }
+        final int words = wordCount(this.size);
+        int i = fromIndex >>> 6;
+        long word = ~this.bits[i] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return Math.min((i << 6) + Long.numberOfTrailingZeros(word),
+                        this.size);
+            }
+            if (++i == words) {
+                return this.size;
+            }
+            word = ~this.bits[i];
+        }
+    }
+
+    /**
+     * Clears the list.
+     */
+    public void clear() {
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            this.bits[i] = 0L;
+            if (this.defined != null) {
+                this.defined[i] = 0L;
+            }
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Makes sure that the list can hold the specified item.
+     *
+     * @param index  the index (zero-based).
+     */
+    private void ensureCapacity(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Requires index >= 0.");
+        }
+        final int required = (index >>> 6) + 1;
+        if (required > this.bits.length) {
+            final int length = Math.max(required, this.bits.length * 2);
+            this.bits = copyOf(this.bits, length);
+            if (this.defined != null) {
+                this.defined = copyOf(this.defined, length);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of an array with the specified length.
+     *
+     * @param words  the array.
+     * @param length  the length of the copy.
+     *
+     * @return The copy.
+     */
+    private static long[] copyOf(final long[] words, final int length) {
+        final long[] result = new long[length];
+        System.arraycopy(words, 0, result, 0, Math.min(words.length, length));
+        return result;
+    }
+
+    /**
+     * Tests this list for equality with another object.  Two lists are equal
+     * if they have the same size, the same tri-state setting and the same
+     * items.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BooleanBitList)) {
+            return false;
+        }
+        final BooleanBitList that = (BooleanBitList) obj;
+        if (this.size != that.size || this.triState != that.triState) {
+            return false;
+        }
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            if (this.bits[i] != that.bits[i]) {
+                return false;
+            }
+            if (this.defined != null && this.defined[i] != that.defined[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this list.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        long h = this.size;
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            h = h * 31 + this.bits[i];
+            if (this.defined != null) {
+                h = h * 31 + this.defined[i];
+            }
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Returns a clone of this list.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         list (not expected).
+     */
+    public Object clone() throws CloneNotSupportedException {
+        final BooleanBitList clone = (BooleanBitList) super.clone();
+        clone.bits = (long[]) this.bits.clone();
+        if (this.defined != null) {
+            clone.defined = (long[]) this.defined.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.  Only the words covering the items in
+     * the list are written.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(final ObjectOutputStream stream)
+        throws IOException {
+        stream.defaultWriteObject();
+        final int words = wordCount(this.size);
+        for (int i = 0; i < words; i++) {
+            stream.writeLong(this.bits[i]);
+        }
+        if (this.defined != null) {
+            for (int i = 0; i < words; i++) {
+                stream.writeLong(this.defined[i]);
+            }
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(final ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        final int words = wordCount(this.size);
+        this.bits = new long[Math.max(words, 1)];
+        for (int i = 0; i < words; i++) {
+            this.bits[i] = stream.readLong();
+        }
+        if (this.triState) {
+            this.defined = new long[this.bits.length];
+            for (int i = 0; i < words; i++) {
+                this.defined[i] = stream.readLong();
+            }
+        }
+    }
+
+}
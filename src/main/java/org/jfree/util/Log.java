@@ -38,6 +38,8 @@
  * -------
  * 29-Apr-2003 : Distilled from the JFreeReport project and moved into JCommon
  * 11-Jun-2003 : Removing LogTarget did not work. 
+ * 16-Oct-2026 : Added per-context log levels;
+ * 16-Oct-2026 : Added debug() and info() methods with message parameters;
  * 
  */
 
@@ -46,6 +48,7 @@ package org.jfree.util;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A simple logging facility. Create a class implementing the {@link org.jfree.util.LogTarget}
@@ -156,7 +159,27 @@ public class Log {
     /**
      * The logging threshold.
      */
-    private int debuglevel;
+    private volatile int debuglevel;
+
+    /** The log levels of individual contexts, keyed on context name. */
+    private HashMap contextLevels;
+
+    /**
+     * Incremented whenever a log level changes, so that log contexts can
+     * tell when their cached level is out of date.
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    /**
+     * The largest message buffer (in characters) that is kept for reuse.
+     */
+    private static final int MAX_BUFFER_CAPACITY = 4096;
+
+    /**
+     * A message buffer for each thread, taken out while a message is being
+     * formatted (so a message logged by a log target gets its own buffer).
+     */
+    private static final ThreadLocal MESSAGE_BUFFER = new ThreadLocal();
 
     /**
      * Storage for the log targets.
@@ -176,6 +199,7 @@ public class Log {
      */
     protected Log() {
         this.logContexts = new HashMap();
+        this.contextLevels = new HashMap();
         this.logTargets = new LogTarget[0];
         this.debuglevel = 100;
     }
@@ -199,6 +223,7 @@ public class Log {
      */
     protected static synchronized void defineLog(final Log log) {
         singleton = log;
+        GENERATION.incrementAndGet();
     }
 
     /**
@@ -219,6 +244,72 @@ public class Log {
      */
     protected void setDebuglevel(final int debuglevel) {
         this.debuglevel = debuglevel;
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Sets the log level for a context and the contexts below it.  Context
+     * names are hierarchical at the dots, so a level for
+     * <code>"org.jfree.xml"</code> applies to
+     * <code>"org.jfree.xml.parser.RootXmlReadHandler"</code> unless a
+     * longer name has a level of its own.  Contexts without a level use the
+     * debug level of the log.
+     *
+     * @param context  the context name (<code>null</code> not permitted).
+     * @param level  the log level, one of the {@link LogTarget} constants.
+     */
+    public synchronized void setContextLevel(final String context,
+                                             final int level) {
+        if (context == null) {
+            throw new IllegalArgumentException("Null 'context' argument.");
+        }
+        this.contextLevels.put(context, new Integer(level));
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Removes the log level for a context, so that it inherits the level of
+     * its parent.
+     *
+     * @param context  the context name (<code>null</code> not permitted).
+     */
+    public synchronized void removeContextLevel(final String context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Null 'context' argument.");
+        }
+        this.contextLevels.remove(context);
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Returns the log level that applies to a context: the level of the
+     * context or its nearest parent, or the debug level of the log if
+     * neither has one.
+     *
+     * @param context  the context name (<code>null</code> permitted).
+     *
+     * @return The log level.
+     */
+    public synchronized int getEffectiveLevel(final String context) {
+        String name = context;
+        while (name != null && !this.contextLevels.isEmpty()) {
+            final Integer level = (Integer) this.contextLevels.get(name);
+            if (level != null) {
+                return level.intValue();
+            }
+            final int dot = name.lastIndexOf('.');
+            name = (dot < 0) ? null : name.substring(0, dot);
+        }
+        return this.debuglevel;
+    }
+
+    /**
+     * Returns a number that changes whenever a log level changes.
+     *
+     * @return The generation.
+     */
+    static int getGeneration() {
+        return GENERATION.get();
     }
 
     /**
@@ -294,6 +385,50 @@ public class Log {
         log(LogTarget.DEBUG, message, e);
     }
 
+    /**
+     * A convenience method for logging a 'debug' message.  This method
+     * exists so that calls with a string and an exception are not ambiguous.
+     *
+     * @param message the message.
+     * @param e       the exception.
+     */
+    public static void debug(final String message, final Exception e) {
+        log(LogTarget.DEBUG, message, e);
+    }
+
+    /**
+     * Logs a 'debug' message with a parameter.  The first <code>{}</code>
+     * in the pattern is replaced by the parameter.  Nothing is allocated
+     * unless debug messages are enabled.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the parameter.
+     */
+    public static void debug(final String pattern, final Object param1) {
+        final Log log = getInstance();
+        if (log.debuglevel >= LogTarget.DEBUG) {
+            log.logFormatted(LogTarget.DEBUG, null, pattern, 1, param1, null);
+        }
+    }
+
+    /**
+     * Logs a 'debug' message with two parameters, which replace the first
+     * two occurrences of <code>{}</code> in the pattern.  Nothing is
+     * allocated unless debug messages are enabled.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the first parameter.
+     * @param param2  the second parameter.
+     */
+    public static void debug(final String pattern, final Object param1,
+                             final Object param2) {
+        final Log log = getInstance();
+        if (log.debuglevel >= LogTarget.DEBUG) {
+            log.logFormatted(LogTarget.DEBUG, null, pattern, 2, param1,
+                    param2);
+        }
+    }
+
     /**
      * A convenience method for logging an 'info' message.
      *
@@ -313,6 +448,49 @@ public class Log {
         log(LogTarget.INFO, message, e);
     }
 
+    /**
+     * A convenience method for logging an 'info' message.  This method
+     * exists so that calls with a string and an exception are not ambiguous.
+     *
+     * @param message the message.
+     * @param e       the exception.
+     */
+    public static void info(final String message, final Exception e) {
+        log(LogTarget.INFO, message, e);
+    }
+
+    /**
+     * Logs an 'info' message with a parameter.  The first <code>{}</code>
+     * in the pattern is replaced by the parameter.  Nothing is allocated
+     * unless info messages are enabled.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the parameter.
+     */
+    public static void info(final String pattern, final Object param1) {
+        final Log log = getInstance();
+        if (log.debuglevel >= LogTarget.INFO) {
+            log.logFormatted(LogTarget.INFO, null, pattern, 1, param1, null);
+        }
+    }
+
+    /**
+     * Logs an 'info' message with two parameters, which replace the first
+     * two occurrences of <code>{}</code> in the pattern.  Nothing is
+     * allocated unless info messages are enabled.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the first parameter.
+     * @param param2  the second parameter.
+     */
+    public static void info(final String pattern, final Object param1,
+                            final Object param2) {
+        final Log log = getInstance();
+        if (log.debuglevel >= LogTarget.INFO) {
+            log.logFormatted(LogTarget.INFO, null, pattern, 2, param1, param2);
+        }
+    }
+
     /**
      * A convenience method for logging a 'warning' message.
      *
@@ -364,10 +542,7 @@ public class Log {
             level = 3;
         }
         if (level <= this.debuglevel) {
-            for (int i = 0; i < this.logTargets.length; i++) {
-                final LogTarget t = this.logTargets[i];
-                t.log(level, message);
-            }
+            dispatch(level, message, null);
         }
     }
 
@@ -415,8 +590,75 @@ public class Log {
         }
 
         if (level <= this.debuglevel) {
-            for (int i = 0; i < this.logTargets.length; i++) {
-                final LogTarget t = this.logTargets[i];
+            dispatch(level, message, e);
+        }
+    }
+
+    /**
+     * Formats a message into the calling thread's message buffer and sends
+     * it to all log targets, without checking the log level.  The targets
+     * receive the buffer itself as a <code>CharSequence</code>; it is only
+     * valid until the target returns, so targets that keep messages must
+     * copy them.
+     *
+     * @param level   log level of the message (at most {@link LogTarget#DEBUG}).
+     * @param prefix  the context prefix (<code>null</code> permitted).
+     * @param pattern the message pattern.
+     * @param count   the number of parameters (0 to 2).
+     * @param param1  the first parameter.
+     * @param param2  the second parameter.
+     */
+    protected void logFormatted(final int level, final String prefix,
+                                final String pattern, final int count,
+                                final Object param1, final Object param2) {
+        StringBuilder buffer = (StringBuilder) MESSAGE_BUFFER.get();
+        if (buffer == null) {
+            buffer = new StringBuilder(128);
+        }
+        else {
+            MESSAGE_BUFFER.set(null);
+        }
+        try {
+            if (prefix != null) {
+                buffer.append(prefix).append(':');
+            }
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                final int index = pattern.indexOf("{}", start);
+                if (index < 0) {
+                    break;
+                }
+                buffer.append(pattern, start, index);
+                buffer.append(i == 0 ? param1 : param2);
+                start = index + 2;
+            }
+            buffer.append(pattern, start, pattern.length());
+            dispatch(level, buffer, null);
+        }
+        finally {
+            if (buffer.capacity() <= MAX_BUFFER_CAPACITY) {
+                buffer.setLength(0);
+                MESSAGE_BUFFER.set(buffer);
+            }
+        }
+    }
+
+    /**
+     * Sends a message to all log targets, without checking the log level.
+     *
+     * @param level   log level of the message (at most {@link LogTarget#DEBUG}).
+     * @param message text to be logged.
+     * @param e       the exception (<code>null</code> permitted).
+     */
+    protected void dispatch(final int level, final Object message,
+                            final Exception e) {
+        final LogTarget[] targets = this.logTargets;
+        for (int i = 0; i < targets.length; i++) {
+            final LogTarget t = targets[i];
+            if (e == null) {
+                t.log(level, message);
+            }
+            else {
                 t.log(level, message, e);
             }
         }
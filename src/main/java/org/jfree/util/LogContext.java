@@ -37,21 +37,55 @@
  * Changes 
  * -------
  * 26-Apr-2004 : Initial version (TM);
+ * 16-Oct-2026 : Use the log level of the context, cached per generation;
+ * 16-Oct-2026 : Added debug() and info() methods with message parameters;
  *  
  */
 
 package org.jfree.util;
 
 /**
- * A log context.
+ * A log context.  Messages are filtered by the level of the context (see
+ * {@link Log#setContextLevel(String, int)}), which is cached until a log
+ * level changes.
  *
  * @author Thomas Morgner
  */
 public class LogContext {
 
+    /**
+     * The log level of a context, as of a given generation of the log
+     * configuration.
+     */
+    private static final class CachedLevel {
+
+        /** The generation the level was read in. */
+        private final int generation;
+
+        /** The log level. */
+        private final int level;
+
+        /**
+         * Creates a new cached level.
+         *
+         * @param generation  the generation.
+         * @param level  the log level.
+         */
+        private CachedLevel(final int generation, final int level) {
+            this.generation = generation;
+            this.level = level;
+        }
+    }
+
     /** The prefix string. */
     private String contextPrefix;
 
+    /**
+     * The cached log level (immutable, so it can be replaced without
+     * synchronization).
+     */
+    private CachedLevel cachedLevel;
+
     /**
      * Creates a new log context.
      * 
@@ -68,7 +102,7 @@ public class LogContext {
      * @return true, if messages with an log level of DEBUG are allowed.
      */
     public boolean isDebugEnabled() {
-        return Log.isDebugEnabled();
+        return getLevel() >= LogTarget.DEBUG;
     }
 
     /**
@@ -78,7 +112,7 @@ public class LogContext {
      * @return true, if messages with an log level of INFO are allowed.
      */
     public boolean isInfoEnabled() {
-        return Log.isInfoEnabled();
+        return getLevel() >= LogTarget.INFO;
     }
 
     /**
@@ -88,7 +122,7 @@ public class LogContext {
      * @return true, if messages with an log level of WARN are allowed.
      */
     public boolean isWarningEnabled() {
-        return Log.isWarningEnabled();
+        return getLevel() >= LogTarget.WARN;
     }
 
     /**
@@ -98,7 +132,24 @@ public class LogContext {
      * @return true, if messages with an log level of ERROR are allowed.
      */
     public boolean isErrorEnabled() {
-        return Log.isErrorEnabled();
+        return getLevel() >= LogTarget.ERROR;
+    }
+
+    /**
+     * Returns the log level for this context, reading it from the log only
+     * when a level has changed since it was last read.
+     *
+     * @return The log level.
+     */
+    private int getLevel() {
+        final int generation = Log.getGeneration();
+        CachedLevel cached = this.cachedLevel;
+        if (cached == null || cached.generation != generation) {
+            cached = new CachedLevel(generation,
+                    Log.getInstance().getEffectiveLevel(this.contextPrefix));
+            this.cachedLevel = cached;
+        }
+        return cached.level;
     }
 
 
@@ -121,6 +172,49 @@ public class LogContext {
         log(LogTarget.DEBUG, message, e);
     }
 
+    /**
+     * A convenience method for logging a 'debug' message.  This method
+     * exists so that calls with a string and an exception are not ambiguous.
+     *
+     * @param message the message.
+     * @param e       the exception.
+     */
+    public void debug(final String message, final Exception e) {
+        log(LogTarget.DEBUG, message, e);
+    }
+
+    /**
+     * Logs a 'debug' message with a parameter.  The first <code>{}</code>
+     * in the pattern is replaced by the parameter.  Nothing is allocated
+     * unless debug messages are enabled for this context.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the parameter.
+     */
+    public void debug(final String pattern, final Object param1) {
+        if (getLevel() >= LogTarget.DEBUG) {
+            Log.getInstance().logFormatted(LogTarget.DEBUG, this.contextPrefix,
+                    pattern, 1, param1, null);
+        }
+    }
+
+    /**
+     * Logs a 'debug' message with two parameters, which replace the first
+     * two occurrences of <code>{}</code> in the pattern.  Nothing is
+     * allocated unless debug messages are enabled for this context.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the first parameter.
+     * @param param2  the second parameter.
+     */
+    public void debug(final String pattern, final Object param1,
+                      final Object param2) {
+        if (getLevel() >= LogTarget.DEBUG) {
+            Log.getInstance().logFormatted(LogTarget.DEBUG, this.contextPrefix,
+                    pattern, 2, param1, param2);
+        }
+    }
+
     /**
      * A convenience method for logging an 'info' message.
      *
@@ -140,6 +234,49 @@ public class LogContext {
         log(LogTarget.INFO, message, e);
     }
 
+    /**
+     * A convenience method for logging an 'info' message.  This method
+     * exists so that calls with a string and an exception are not ambiguous.
+     *
+     * @param message the message.
+     * @param e       the exception.
+     */
+    public void info(final String message, final Exception e) {
+        log(LogTarget.INFO, message, e);
+    }
+
+    /**
+     * Logs an 'info' message with a parameter.  The first <code>{}</code>
+     * in the pattern is replaced by the parameter.  Nothing is allocated
+     * unless info messages are enabled for this context.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the parameter.
+     */
+    public void info(final String pattern, final Object param1) {
+        if (getLevel() >= LogTarget.INFO) {
+            Log.getInstance().logFormatted(LogTarget.INFO, this.contextPrefix,
+                    pattern, 1, param1, null);
+        }
+    }
+
+    /**
+     * Logs an 'info' message with two parameters, which replace the first
+     * two occurrences of <code>{}</code> in the pattern.  Nothing is
+     * allocated unless info messages are enabled for this context.
+     *
+     * @param pattern the message pattern.
+     * @param param1  the first parameter.
+     * @param param2  the second parameter.
+     */
+    public void info(final String pattern, final Object param1,
+                     final Object param2) {
+        if (getLevel() >= LogTarget.INFO) {
+            Log.getInstance().logFormatted(LogTarget.INFO, this.contextPrefix,
+                    pattern, 2, param1, param2);
+        }
+    }
+
     /**
      * A convenience method for logging a 'warning' message.
      *
@@ -180,25 +317,31 @@ public class LogContext {
 
     /**
      * Logs a message to the main log stream.  All attached log targets will also
-     * receive this message. If the given log-level is higher than the given debug-level
-     * in the main config file, no logging will be done.
+     * receive this message. If the given log-level is higher than the level of
+     * this context, no logging will be done.
      *
      * @param level   log level of the message.
      * @param message text to be logged.
      */
-    public void log(final int level, final Object message) {
+    public void log(int level, final Object message) {
+        if (level > LogTarget.DEBUG) {
+            level = LogTarget.DEBUG;
+        }
+        if (level > getLevel()) {
+            return;
+        }
         if (this.contextPrefix != null) {
-            Log.getInstance().doLog(level, new Log.SimpleMessage(this.contextPrefix, ":", message));
+            Log.getInstance().dispatch(level, new Log.SimpleMessage(this.contextPrefix, ":", message), null);
         }
         else {
-            Log.getInstance().doLog(level, message);
+            Log.getInstance().dispatch(level, message, null);
         }
     }
 
     /**
      * Logs a message to the main log stream. All attached logTargets will also
-     * receive this message. If the given log-level is higher than the given debug-level
-     * in the main config file, no logging will be done.
+     * receive this message. If the given log-level is higher than the level of
+     * this context, no logging will be done.
      * <p>
      * The exception's stacktrace will be appended to the log-stream</p>
      *
@@ -206,14 +349,20 @@ public class LogContext {
      * @param message text to be logged.
      * @param e       the exception, which should be logged.
      */
-    public void log(final int level, final Object message, final Exception e) {
+    public void log(int level, final Object message, final Exception e) {
+        if (level > LogTarget.DEBUG) {
+            level = LogTarget.DEBUG;
+        }
+        if (level > getLevel()) {
+            return;
+        }
         if (this.contextPrefix != null) {
-            Log.getInstance().doLog(
+            Log.getInstance().dispatch(
                 level, new Log.SimpleMessage(this.contextPrefix, ":", message), e
             );
         }
         else {
-            Log.getInstance().doLog(level, message, e);
+            Log.getInstance().dispatch(level, message, e);
         }
     }
 
@@ -0,0 +1,307 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * LongObjectMap.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from non-negative <code>long</code> keys to non-null objects,
+ * using open addressing with linear probing so that no entry objects are
+ * allocated.  It is used by {@link ObjectTable} to hold the cells of sparse
+ * tables, keyed on the row and column index.  This class is not
+ * synchronized.
+ */
+final class LongObjectMap {
+
+    /** The key used to mark empty slots. */
+    private static final long EMPTY = -1L;
+
+    /** The minimum capacity. */
+    private static final int MIN_CAPACITY = 16;
+
+    /** The keys ({@link #EMPTY} for unused slots). */
+    private long[] keys;
+
+    /** The values. */
+    private Object[] values;
+
+    /** The number of entries. */
+    private int size;
+
+    /** The mask used to wrap slot indices (capacity - 1). */
+    private int mask;
+
+    /**
+     * Creates a new map with room for the specified number of entries.
+     *
+     * @param expectedSize  the expected number of entries.
+     */
+    LongObjectMap(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Allocates empty tables.
+     *
+     * @param capacity  the capacity (a power of two).
+     */
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the key for a cell.
+     *
+     * @param row  the row index (non-negative).
+     * @param column  the column index (non-negative).
+     *
+     * @return The key.
+     */
+    static long key(final int row, final int column) {
+        return ((long) row << 32) | column;
+    }
+
+    /**
+     * Returns the row index from a key.
+     *
+     * @param key  the key.
+     *
+     * @return The row index.
+     */
+    static int row(final long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Returns the column index from a key.
+     *
+     * @param key  the key.
+     *
+     * @return The column index.
+     */
+    static int column(final long key) {
+        return (int) key;
+    }
+
+    /**
+     * Returns the home slot for a key.
+     *
+     * @param key  the key.
+     *
+     * @return The slot index.
+     */
+    private int slot(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & this.mask;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value for a key.
+     *
+     * @param key  the key.
+     *
+     * @return The value, or <code>null</code>.
+     */
+    Object get(final long key) {
+        int i = slot(key);
+        while (true) {
+            final long k = this.keys[i];
+            if (k == key) {
+                return this.values[i];
+            }
+            if (k == EMPTY) {
+                return null;
+            }
+            i = (i + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Sets the value for a key, removing the entry if the value is
+     * <code>null</code>.
+     *
+     * @param key  the key.
+     * @param value  the value (<code>null</code> permitted).
+     */
+    void put(final long key, final Object value) {
+        if (value == null) {
+            remove(key);
+            return;
+        }
+        int i = slot(key);
+        while (true) {
+            final long k = this.keys[i];
+            if (k == key) {
+                this.values[i] = value;
+                return;
+            }
+            if (k == EMPTY) {
+                break;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        this.size++;
+        if (this.size * 2 > this.keys.length) {
+            rehash(this.keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the entry for a key, if there is one.  Later entries in the
+     * same probe sequence are shifted back, so that no deletion markers are
+     * needed.
+     *
+     * @param key  the key.
+     */
+    void remove(final long key) {
+        int i = slot(key);
+        while (true) {
+            final long k = this.keys[i];
+            if (k == EMPTY) {
+                return;
+            }
+            if (k == key) {
+                break;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.size--;
+        int gap = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & this.mask;
+            final long k = this.keys[j];
+            if (k == EMPTY) {
+                break;
+            }
+            final int home = slot(k);
+            // move the entry back if its home slot is not in (gap, j]
+            if (((j - home) & this.mask) >= ((j - gap) & this.mask)) {
+                this.keys[gap] = k;
+                this.values[gap] = this.values[j];
+                gap = j;
+            }
+        }
+        this.keys[gap] = EMPTY;
+        this.values[gap] = null;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        allocate(MIN_CAPACITY);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of slots, for iterating with {@link #keyAt(int)}
+     * and {@link #valueAt(int)}.
+     *
+     * @return The capacity.
+     */
+    int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key in a slot.
+     *
+     * @param slot  the slot index.
+     *
+     * @return The key, or -1 if the slot is empty.
+     */
+    long keyAt(final int slot) {
+        return this.keys[slot];
+    }
+
+    /**
+     * Returns the value in a slot.
+     *
+     * @param slot  the slot index.
+     *
+     * @return The value, or <code>null</code> if the slot is empty.
+     */
+    Object valueAt(final int slot) {
+        return this.values[slot];
+    }
+
+    /**
+     * Moves the entries into new tables.
+     *
+     * @param capacity  the new capacity (a power of two).
+     */
+    private void rehash(final int capacity) {
+        final long[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long k = oldKeys[i];
+            if (k != EMPTY) {
+                int j = slot(k);
+                while (this.keys[j] != EMPTY) {
+                    j = (j + 1) & this.mask;
+                }
+                this.keys[j] = k;
+                this.values[j] = oldValues[i];
+            }
+        }
+    }
+
+}
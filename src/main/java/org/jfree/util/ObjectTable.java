@@ -39,6 +39,10 @@
  * 29-Apr-2003 : Version 1, based on PaintTable class (DG);
  * 21-May-2003 : Copied the array based implementation of StrokeTable and
  *               fixed the serialisation behaviour (TM).
+ * 16-Oct-2026 : Added sparse storage, selected automatically by fill
+ *               ratio, and geometric growth for dense storage.
+ * 17-Oct-2026 : Fixed copyRow() past the last row followed by a switch to
+ *               dense storage.
  */
 
 package org.jfree.util;
@@ -52,6 +56,11 @@ import java.util.Arrays;
 /**
  * A lookup table for objects. This implementation is not synchronized, it is up
  * to the caller to synchronize it properly.
+ * <p>
+ * The cells are held either in a dense array of rows, or (for tables where
+ * only a small fraction of the cells are filled) in a hash table keyed on the
+ * row and column index.  By default the storage is selected automatically
+ * from the fill ratio of the table, see {@link #setStoragePolicy(int)}.</p>
  *
  * @author Thomas Morgner
  */
@@ -63,6 +72,40 @@ public class ObjectTable implements Serializable
    */
   private static final long serialVersionUID = -3968322452944912066L;
 
+  /**
+   * The storage policy that switches between dense and sparse storage
+   * according to the fill ratio of the table.
+   */
+  public static final int STORAGE_AUTOMATIC = 0;
+
+  /**
+   * The storage policy that always uses an array of rows.
+   */
+  public static final int STORAGE_DENSE = 1;
+
+  /**
+   * The storage policy that always uses a hash table of cells.
+   */
+  public static final int STORAGE_SPARSE = 2;
+
+  /**
+   * Dense tables are not converted to sparse storage below this number of
+   * cells (rows x columns).
+   */
+  private static final int SPARSE_MIN_AREA = 4096;
+
+  /**
+   * Under automatic storage, a dense table that grows while less than
+   * 1/SPARSE_RATIO of its cells are filled is converted to sparse storage.
+   */
+  private static final int SPARSE_RATIO = 16;
+
+  /**
+   * Under automatic storage, a sparse table with more than 1/DENSE_RATIO of
+   * its cells filled is converted to dense storage.
+   */
+  private static final int DENSE_RATIO = 4;
+
   /**
    * The number of rows.
    */
@@ -75,9 +118,21 @@ public class ObjectTable implements Serializable
 
   /**
    * An array of objects.  The array may contain <code>null</code> values.
+   * This is <code>null</code> while the table uses sparse storage.
    */
   private transient Object[][] data;
 
+  /**
+   * The cells of a table with sparse storage, otherwise <code>null</code>.
+   */
+  private transient LongObjectMap cells;
+
+  /**
+   * The number of non-null cells in dense storage, or -1 if unknown (after
+   * the array has been handed out by {@link #getData()}).
+   */
+  private transient int denseCount;
+
   /**
    * Defines how many object-slots get reserved each time we run out of
    * space.
@@ -90,6 +145,11 @@ public class ObjectTable implements Serializable
    */
   private int columnIncrement;
 
+  /**
+   * The storage policy.
+   */
+  private int storagePolicy;
+
   /**
    * Creates a new table.
    */
@@ -115,6 +175,20 @@ public class ObjectTable implements Serializable
    * @param colIncrement the column size increment.
    */
   public ObjectTable(final int rowIncrement, final int colIncrement)
+  {
+    this(rowIncrement, colIncrement, STORAGE_AUTOMATIC);
+  }
+
+  /**
+   * Creates a new table.
+   *
+   * @param rowIncrement the row size increment.
+   * @param colIncrement the column size increment.
+   * @param storagePolicy the storage policy ({@link #STORAGE_AUTOMATIC},
+   *                      {@link #STORAGE_DENSE} or {@link #STORAGE_SPARSE}).
+   */
+  public ObjectTable(final int rowIncrement, final int colIncrement,
+                     final int storagePolicy)
   {
     if (rowIncrement < 1)
     {
@@ -132,6 +206,7 @@ public class ObjectTable implements Serializable
     this.columnIncrement = colIncrement;
 
     this.data = new Object[rowIncrement][];
+    setStoragePolicy(storagePolicy);
   }
 
   /**
@@ -154,20 +229,73 @@ public class ObjectTable implements Serializable
     return this.rowIncrement;
   }
 
+  /**
+   * Returns the storage policy.
+   *
+   * @return the storage policy.
+   */
+  public int getStoragePolicy()
+  {
+    return this.storagePolicy;
+  }
+
+  /**
+   * Sets the storage policy.  With {@link #STORAGE_AUTOMATIC} (the default)
+   * a table starts with dense storage, switches to sparse storage if it
+   * grows while less than 1/16 of its cells are filled, and switches back
+   * once more than 1/4 are filled.  The other policies fix the storage.
+   * The existing cells are converted if necessary.
+   *
+   * @param storagePolicy the storage policy ({@link #STORAGE_AUTOMATIC},
+   *                      {@link #STORAGE_DENSE} or {@link #STORAGE_SPARSE}).
+   */
+  public void setStoragePolicy(final int storagePolicy)
+  {
+    if (storagePolicy == STORAGE_DENSE)
+    {
+      toDense();
+    }
+    else if (storagePolicy == STORAGE_SPARSE)
+    {
+      toSparse();
+    }
+    else if (storagePolicy != STORAGE_AUTOMATIC)
+    {
+      throw new IllegalArgumentException("Invalid storage policy.");
+    }
+    this.storagePolicy = storagePolicy;
+  }
+
+  /**
+   * Returns <code>true</code> if the table currently uses sparse storage.
+   *
+   * @return A boolean.
+   */
+  public boolean isSparse()
+  {
+    return this.cells != null;
+  }
+
   /**
    * Checks that there is storage capacity for the specified row and resizes
-   * if necessary.
+   * if necessary.  The storage grows geometrically, so that filling a table
+   * row by row takes amortized constant time per row.
    *
    * @param row the row index.
    */
   protected void ensureRowCapacity(final int row)
   {
+    if (this.cells != null)
+    {
+      return;
+    }
 
     // does this increase the number of rows?  if yes, create new storage
     if (row >= this.data.length)
     {
 
-      final Object[][] enlarged = new Object[row + this.rowIncrement][];
+      final Object[][] enlarged = new Object[Math.max(row + this.rowIncrement,
+          this.data.length + (this.data.length >> 1))][];
       System.arraycopy(this.data, 0, enlarged, 0, this.data.length);
       // do not create empty arrays - this is more expensive than checking
       // for null-values.
@@ -192,6 +320,10 @@ public class ObjectTable implements Serializable
     {
       throw new IndexOutOfBoundsException("Column is invalid. " + column);
     }
+    if (this.cells != null)
+    {
+      return;
+    }
 
     ensureRowCapacity(row);
 
@@ -204,7 +336,8 @@ public class ObjectTable implements Serializable
     }
     else if (column >= current.length)
     {
-      final Object[] enlarged = new Object[column + this.columnIncrement];
+      final Object[] enlarged = new Object[Math.max(
+          column + this.columnIncrement, current.length + (current.length >> 1))];
       System.arraycopy(current, 0, enlarged, 0, current.length);
       this.data[row] = enlarged;
     }
@@ -230,6 +363,40 @@ public class ObjectTable implements Serializable
     return this.columns;
   }
 
+  /**
+   * Returns the number of cells in the table that are not
+   * <code>null</code>.
+   *
+   * @return The cell count.
+   */
+  public int getCellCount()
+  {
+    if (this.cells != null)
+    {
+      return this.cells.size();
+    }
+    if (this.denseCount < 0)
+    {
+      int count = 0;
+      for (int r = 0; r < this.data.length; r++)
+      {
+        final Object[] current = this.data[r];
+        if (current != null)
+        {
+          for (int c = 0; c < current.length; c++)
+          {
+            if (current[c] != null)
+            {
+              count++;
+            }
+          }
+        }
+      }
+      this.denseCount = count;
+    }
+    return this.denseCount;
+  }
+
   /**
    * Returns the object from a particular cell in the table. Returns null, if
    * there is no object at the given position.
@@ -243,6 +410,14 @@ public class ObjectTable implements Serializable
   protected Object getObject(final int row, final int column)
   {
 
+    if (this.cells != null)
+    {
+      if (row < 0 || column < 0)
+      {
+        throw new IndexOutOfBoundsException();
+      }
+      return this.cells.get(LongObjectMap.key(row, column));
+    }
     if (row < this.data.length)
     {
       final Object[] current = this.data[row];
@@ -271,11 +446,151 @@ public class ObjectTable implements Serializable
                            final Object object)
   {
 
+    if (this.cells == null && object != null
+        && this.storagePolicy == STORAGE_AUTOMATIC
+        && needsGrowth(row, column) && isSparseEnough(row, column))
+    {
+      toSparse();
+    }
     ensureCapacity(row, column);
 
-    this.data[row][column] = object;
     this.rows = Math.max(this.rows, row + 1);
     this.columns = Math.max(this.columns, column + 1);
+    if (this.cells != null)
+    {
+      this.cells.put(LongObjectMap.key(row, column), object);
+      if (this.storagePolicy == STORAGE_AUTOMATIC && object != null
+          && (long) this.cells.size() * DENSE_RATIO
+          > (long) this.rows * this.columns)
+      {
+        toDense();
+      }
+      return;
+    }
+    final Object[] current = this.data[row];
+    if (this.denseCount >= 0)
+    {
+      if (current[column] == null)
+      {
+        if (object != null)
+        {
+          this.denseCount++;
+        }
+      }
+      else if (object == null)
+      {
+        this.denseCount--;
+      }
+    }
+    current[column] = object;
+  }
+
+  /**
+   * Returns <code>true</code> if dense storage has to grow to hold the
+   * specified cell.
+   *
+   * @param row    the row index.
+   * @param column the column index.
+   * @return A boolean.
+   */
+  private boolean needsGrowth(final int row, final int column)
+  {
+    if (row >= this.data.length)
+    {
+      return true;
+    }
+    final Object[] current = this.data[row];
+    return current == null || column >= current.length;
+  }
+
+  /**
+   * Returns <code>true</code> if the table would have less than
+   * 1/{@link #SPARSE_RATIO} of its cells filled once the specified cell has
+   * been set, and is large enough for sparse storage to pay off.
+   *
+   * @param row    the row index.
+   * @param column the column index.
+   * @return A boolean.
+   */
+  private boolean isSparseEnough(final int row, final int column)
+  {
+    final long area = (long) Math.max(this.rows, row + 1)
+        * Math.max(this.columns, column + 1);
+    return area >= SPARSE_MIN_AREA
+        && (getCellCount() + 1L) * SPARSE_RATIO < area;
+  }
+
+  /**
+   * Moves the cells into sparse storage, if they are not already there.
+   */
+  private void toSparse()
+  {
+    if (this.cells != null)
+    {
+      return;
+    }
+    final LongObjectMap map = new LongObjectMap(getCellCount());
+    for (int r = 0; r < this.data.length; r++)
+    {
+      final Object[] current = this.data[r];
+      if (current != null)
+      {
+        for (int c = 0; c < current.length; c++)
+        {
+          if (current[c] != null)
+          {
+            map.put(LongObjectMap.key(r, c), current[c]);
+          }
+        }
+      }
+    }
+    this.cells = map;
+    this.data = null;
+  }
+
+  /**
+   * Moves the cells into dense storage, if they are not already there.
+   */
+  private void toDense()
+  {
+    if (this.cells == null)
+    {
+      return;
+    }
+    final LongObjectMap map = this.cells;
+    // size the storage from the stored keys as well, in case a cell lies
+    // outside the row or column count
+    int rowCount = this.rows;
+    int columnCount = this.columns;
+    for (int i = 0; i < map.capacity(); i++)
+    {
+      if (map.valueAt(i) != null)
+      {
+        final long key = map.keyAt(i);
+        rowCount = Math.max(rowCount, LongObjectMap.row(key) + 1);
+        columnCount = Math.max(columnCount, LongObjectMap.column(key) + 1);
+      }
+    }
+    this.cells = null;
+    this.data = new Object[Math.max(rowCount, this.rowIncrement)][];
+    this.denseCount = 0;
+    for (int i = 0; i < map.capacity(); i++)
+    {
+      final Object value = map.valueAt(i);
+      if (value != null)
+      {
+        final long key = map.keyAt(i);
+        final int row = LongObjectMap.row(key);
+        final int column = LongObjectMap.column(key);
+        if (this.data[row] == null)
+        {
+          this.data[row] = new Object[Math.max(columnCount,
+              this.columnIncrement)];
+        }
+        this.data[row][column] = value;
+        this.denseCount++;
+      }
+    }
   }
 
   /**
@@ -314,6 +629,30 @@ public class ObjectTable implements Serializable
       return false;
     }
 
+    if (this.cells != null)
+    {
+      // compare cell by cell, rather than scanning every row and column
+      if (getCellCount() != ot.getCellCount())
+      {
+        return false;
+      }
+      for (int i = 0; i < this.cells.capacity(); i++)
+      {
+        final Object value = this.cells.valueAt(i);
+        if (value != null)
+        {
+          final long key = this.cells.keyAt(i);
+          if (ObjectUtilities.equal(getObject(LongObjectMap.row(key),
+              LongObjectMap.column(key)), ot.getObject(LongObjectMap.row(key),
+              LongObjectMap.column(key))) == false)
+          {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
     for (int r = 0; r < getRowCount(); r++)
     {
       for (int c = 0; c < getColumnCount(); c++)
@@ -342,7 +681,8 @@ public class ObjectTable implements Serializable
   }
 
   /**
-   * Handles serialization.
+   * Handles serialization.  Dense tables are written row by row as before,
+   * sparse tables as a row count of -1 followed by the filled cells.
    *
    * @param stream the output stream.
    * @throws java.io.IOException if there is an I/O problem.
@@ -351,6 +691,23 @@ public class ObjectTable implements Serializable
       throws IOException
   {
     stream.defaultWriteObject();
+    if (this.cells != null)
+    {
+      stream.writeInt(-1);
+      stream.writeInt(this.cells.size());
+      for (int i = 0; i < this.cells.capacity(); i++)
+      {
+        final Object value = this.cells.valueAt(i);
+        if (value != null)
+        {
+          final long key = this.cells.keyAt(i);
+          stream.writeInt(LongObjectMap.row(key));
+          stream.writeInt(LongObjectMap.column(key));
+          writeSerializedData(stream, value);
+        }
+      }
+      return;
+    }
     final int rowCount = this.data.length;
     stream.writeInt(rowCount);
     for (int r = 0; r < rowCount; r++)
@@ -395,7 +752,21 @@ public class ObjectTable implements Serializable
   {
     stream.defaultReadObject();
     final int rowCount = stream.readInt();
+    if (rowCount < 0)
+    {
+      final int cellCount = stream.readInt();
+      this.cells = new LongObjectMap(cellCount);
+      for (int i = 0; i < cellCount; i++)
+      {
+        final int row = stream.readInt();
+        final int column = stream.readInt();
+        this.cells.put(LongObjectMap.key(row, column),
+            readSerializedData(stream));
+      }
+      return;
+    }
     this.data = new Object[rowCount][];
+    this.denseCount = -1;
     for (int r = 0; r < rowCount; r++)
     {
       final boolean isNotNull = stream.readBoolean();
@@ -434,6 +805,11 @@ public class ObjectTable implements Serializable
   {
     this.rows = 0;
     this.columns = 0;
+    if (this.cells != null)
+    {
+      this.cells.clear();
+      return;
+    }
     for (int i = 0; i < this.data.length; i++)
     {
       if (this.data[i] != null)
@@ -441,6 +817,7 @@ public class ObjectTable implements Serializable
         Arrays.fill(this.data[i], null);
       }
     }
+    this.denseCount = 0;
   }
 
   /**
@@ -466,6 +843,16 @@ public class ObjectTable implements Serializable
    */
   protected void copyRow(final int oldRow, final int newRow)
   {
+    this.rows = Math.max(this.rows, newRow + 1);
+    if (this.cells != null)
+    {
+      for (int c = 0; c < getColumnCount(); c++)
+      {
+        this.cells.put(LongObjectMap.key(newRow, c),
+            this.cells.get(LongObjectMap.key(oldRow, c)));
+      }
+      return;
+    }
     this.ensureCapacity(newRow, getColumnCount());
     final Object[] oldRowStorage = this.data[oldRow];
     if (oldRowStorage == null)
@@ -480,10 +867,11 @@ public class ObjectTable implements Serializable
     {
       this.data[newRow] = (Object[]) oldRowStorage.clone();
     }
+    this.denseCount = -1;
   }
 
   /**
-   * Sets the table data.
+   * Sets the table data.  This switches the table to dense storage.
    *
    * @param data  the data.
    * @param colCount  the number of columns.
@@ -497,19 +885,24 @@ public class ObjectTable implements Serializable
       throw new IndexOutOfBoundsException();
     }
 
+    this.cells = null;
     this.data = data;
+    this.denseCount = -1;
     this.rows = data.length;
     this.columns = colCount;
   }
 
   /**
-   * Returns the table data.
+   * Returns the table data.  A table with sparse storage is converted to
+   * dense storage first.
    *
    * @return The table data.
    */
   protected Object[][] getData()
   {
+    toDense();
+    // the caller may modify the array
+    this.denseCount = -1;
     return this.data;
   }
 }
-
@@ -0,0 +1,631 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * RollingFileLogTarget.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Stop writing after a failed roll, report errors once;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A log target that writes UTF-8 text to a file.  Messages are collected in
+ * a large direct buffer and written through a {@link FileChannel}, so a
+ * write system call is made only when the buffer fills up or is flushed.
+ * The buffer is flushed after each message at or above the flush level
+ * (by default {@link LogTarget#WARN}) and at a fixed interval.
+ * <p>
+ * The file is rolled over when it reaches the maximum size or when the
+ * roll interval has passed: it is renamed with a timestamp suffix (and
+ * optionally compressed with gzip in the background) and a new file is
+ * started.
+ * <p>
+ * Call {@link #close()} before the application exits, otherwise messages
+ * still in the buffer are lost.
+ * <p>
+ * The log system cannot report its own failures, so only the first I/O
+ * error is printed to <code>System.err</code>.  If the file cannot be
+ * renamed, messages are appended to it and the roll is tried again later;
+ * if the new file cannot be opened, later messages are ignored.
+ */
+public class RollingFileLogTarget implements LogTarget {
+
+    /** The default maximum file size (10 megabytes). */
+    public static final long DEFAULT_MAX_FILE_SIZE = 10L * 1024L * 1024L;
+
+    /** The default flush interval (one second). */
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+
+    /** The size of the output buffer. */
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /** The line separator. */
+    private static final String LINE_SEPARATOR
+            = System.getProperty("line.separator", "\n");
+
+    /** The log file. */
+    private final File file;
+
+    /** The maximum file size in bytes (zero for no limit). */
+    private long maxFileSize;
+
+    /** The roll interval in milliseconds (zero for none). */
+    private long rollInterval;
+
+    /** Compress rolled files? */
+    private boolean compressRolledFiles;
+
+    /** Messages at or above this level are flushed immediately. */
+    private int flushLevel;
+
+    /** Force the data to the storage device on each flush? */
+    private boolean syncOnFlush;
+
+    /** The flush interval in milliseconds (zero for none). */
+    private long flushInterval;
+
+    /** The channel for the current file. */
+    private FileChannel channel;
+
+    /**
+     * The number of bytes written to the current file (or since the last
+     * failed roll).
+     */
+    private long fileSize;
+
+    /** The time after which the file is rolled. */
+    private long nextRollTime;
+
+    /** The output buffer. */
+    private final ByteBuffer buffer;
+
+    /** The encoder. */
+    private final CharsetEncoder encoder;
+
+    /** The text of the current message. */
+    private final StringBuilder line;
+
+    /** Runs the scheduled flushes and the compression of rolled files. */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** The scheduled flush (<code>null</code> if there is none). */
+    private ScheduledFuture flushTask;
+
+    /** Set when the target has been closed. */
+    private boolean closed;
+
+    /** Set when the file could not be reopened after a roll. */
+    private boolean failed;
+
+    /** Set when an error has been reported. */
+    private boolean errorReported;
+
+    /**
+     * Creates a new target that appends to the given file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public RollingFileLogTarget(final File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = file;
+        this.maxFileSize = DEFAULT_MAX_FILE_SIZE;
+        this.flushLevel = WARN;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.encoder = Charset.forName("UTF-8").newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.line = new StringBuilder(256);
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactory() {
+                    public Thread newThread(final Runnable r) {
+                        final Thread t = new Thread(r, "RollingFileLogTarget");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+        openFile(currentTimeMillis());
+        setFlushInterval(DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Returns the log file.
+     *
+     * @return The file.
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the size at which the file is rolled.
+     *
+     * @return The size in bytes (zero for no limit).
+     */
+    public synchronized long getMaxFileSize() {
+        return this.maxFileSize;
+    }
+
+    /**
+     * Sets the size at which the file is rolled.
+     *
+     * @param maxFileSize  the size in bytes (zero for no limit).
+     */
+    public synchronized void setMaxFileSize(final long maxFileSize) {
+        if (maxFileSize < 0) {
+            throw new IllegalArgumentException("Requires maxFileSize >= 0.");
+        }
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Returns the time after which the file is rolled.
+     *
+     * @return The interval in milliseconds (zero for none).
+     */
+    public synchronized long getRollInterval() {
+        return this.rollInterval;
+    }
+
+    /**
+     * Sets the time after which the file is rolled, counted from when the
+     * current file was started.
+     *
+     * @param rollInterval  the interval in milliseconds (zero for none).
+     */
+    public synchronized void setRollInterval(final long rollInterval) {
+        if (rollInterval < 0) {
+            throw new IllegalArgumentException("Requires rollInterval >= 0.");
+        }
+        this.nextRollTime = this.nextRollTime - this.rollInterval
+                + rollInterval;
+        this.rollInterval = rollInterval;
+    }
+
+    /**
+     * Returns the flag that controls whether rolled files are compressed.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isCompressRolledFiles() {
+        return this.compressRolledFiles;
+    }
+
+    /**
+     * Sets the flag that controls whether rolled files are compressed with
+     * gzip (on a background thread).
+     *
+     * @param compress  the flag.
+     */
+    public synchronized void setCompressRolledFiles(final boolean compress) {
+        this.compressRolledFiles = compress;
+    }
+
+    /**
+     * Returns the level at or above which messages are flushed immediately.
+     *
+     * @return The flush level.
+     */
+    public synchronized int getFlushLevel() {
+        return this.flushLevel;
+    }
+
+    /**
+     * Sets the level at or above which messages are flushed immediately.
+     * Use -1 to flush only on the schedule.
+     *
+     * @param flushLevel  the flush level (one of the {@link LogTarget}
+     *     constants, or -1).
+     */
+    public synchronized void setFlushLevel(final int flushLevel) {
+        this.flushLevel = flushLevel;
+    }
+
+    /**
+     * Returns the flag that controls whether each flush forces the data to
+     * the storage device.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isSyncOnFlush() {
+        return this.syncOnFlush;
+    }
+
+    /**
+     * Sets the flag that controls whether each flush forces the data to
+     * the storage device (see {@link FileChannel#force(boolean)}).
+     *
+     * @param sync  the flag.
+     */
+    public synchronized void setSyncOnFlush(final boolean sync) {
+        this.syncOnFlush = sync;
+    }
+
+    /**
+     * Returns the interval between scheduled flushes.
+     *
+     * @return The interval in milliseconds (zero for none).
+     */
+    public synchronized long getFlushInterval() {
+        return this.flushInterval;
+    }
+
+    /**
+     * Sets the interval between scheduled flushes.
+     *
+     * @param flushInterval  the interval in milliseconds (zero for none).
+     */
+    public synchronized void setFlushInterval(final long flushInterval) {
+        if (flushInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Requires flushInterval >= 0.");
+        }
+        if (this.flushTask != null) {
+            this.flushTask.cancel(false);
+            this.flushTask = null;
+        }
+        this.flushInterval = flushInterval;
+        if (flushInterval > 0 && !this.closed) {
+            this.flushTask = this.executor.scheduleWithFixedDelay(
+                    new Runnable() {
+                        public void run() {
+                            flush();
+                        }
+                    }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Logs a message.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     */
+    public void log(final int level, final Object message) {
+        log(level, message, null);
+    }
+
+    /**
+     * Logs a message and the stack trace of an exception.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    public synchronized void log(int level, final Object message,
+                                 final Exception e) {
+        if (this.closed || this.failed) {
+            return;
+        }
+        if (level > DEBUG) {
+            level = DEBUG;
+        }
+        this.line.setLength(0);
+        this.line.append(LEVELS[level]);
+        if (message instanceof CharSequence) {
+            this.line.append((CharSequence) message);
+        }
+        else {
+            this.line.append(message);
+        }
+        this.line.append(LINE_SEPARATOR);
+        if (e != null) {
+            final StringWriter trace = new StringWriter();
+            e.printStackTrace(new PrintWriter(trace));
+            this.line.append(trace.getBuffer());
+        }
+        try {
+            final long now = currentTimeMillis();
+            if ((this.maxFileSize > 0 && this.fileSize
+                    + this.buffer.position() >= this.maxFileSize)
+                    || (this.rollInterval > 0 && now >= this.nextRollTime)) {
+                roll(now);
+            }
+            encode(this.line);
+            if (level <= this.flushLevel) {
+                writeBuffer();
+                if (this.syncOnFlush) {
+                    this.channel.force(false);
+                }
+            }
+        }
+        catch (IOException ioe) {
+            reportError(ioe);
+        }
+    }
+
+    /**
+     * Writes the buffered messages to the file.
+     */
+    public synchronized void flush() {
+        if (this.closed || this.failed) {
+            return;
+        }
+        try {
+            writeBuffer();
+            if (this.syncOnFlush) {
+                this.channel.force(false);
+            }
+        }
+        catch (IOException ioe) {
+            reportError(ioe);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the file could not be reopened after a
+     * roll, in which case messages are ignored.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isFailed() {
+        return this.failed;
+    }
+
+    /**
+     * Writes the buffered messages and closes the file, then waits for
+     * rolled files that are waiting to be compressed.  Later messages are
+     * ignored.
+     */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            if (!this.failed) {
+                try {
+                    writeBuffer();
+                    this.channel.force(false);
+                    this.channel.close();
+                }
+                catch (IOException ioe) {
+                    reportError(ioe);
+                }
+            }
+            this.closed = true;
+        }
+        // cancels the scheduled flush, but runs the pending compressions
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(Long.MAX_VALUE,
+                    TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the current time.  Tests override this to control when the
+     * file is rolled.
+     *
+     * @return The time in milliseconds.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Prints the first error to <code>System.err</code> and ignores the
+     * others, so that a broken file does not flood the console.
+     *
+     * @param ioe  the error.
+     */
+    private void reportError(final IOException ioe) {
+        if (!this.errorReported) {
+            this.errorReported = true;
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Opens the log file for appending.
+     *
+     * @param now  the current time.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    private void openFile(final long now) throws IOException {
+        this.channel = new FileOutputStream(this.file, true).getChannel();
+        this.fileSize = this.channel.size();
+        this.nextRollTime = now + this.rollInterval;
+    }
+
+    /**
+     * Encodes text into the buffer, writing the buffer to the file whenever
+     * it is full.
+     *
+     * @param text  the text.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void encode(final CharSequence text) throws IOException {
+        final CharBuffer in = CharBuffer.wrap(text);
+        while (true) {
+            final CoderResult result = this.encoder.encode(in, this.buffer,
+                    true);
+            if (result.isOverflow()) {
+                writeBuffer();
+            }
+            else {
+                break;
+            }
+        }
+        while (this.encoder.flush(this.buffer).isOverflow()) {
+            writeBuffer();
+        }
+        this.encoder.reset();
+    }
+
+    /**
+     * Writes the buffer to the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeBuffer() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.fileSize += this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Renames the current file and starts a new one.  If the file cannot be
+     * renamed, it is reopened and the roll is tried again after another
+     * maximum file size or roll interval.  If it cannot be reopened, the
+     * target is marked as failed.
+     *
+     * @param now  the current time.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void roll(final long now) throws IOException {
+        writeBuffer();
+        this.channel.close();
+        final File rolled = createRolledFileName(now);
+        final boolean renamed = this.file.renameTo(rolled);
+        try {
+            openFile(now);
+        }
+        catch (IOException ioe) {
+            this.failed = true;
+            throw ioe;
+        }
+        if (!renamed) {
+            this.fileSize = 0L;
+            reportError(new IOException("Unable to rename " + this.file
+                    + " to " + rolled + "."));
+        }
+        else if (this.compressRolledFiles) {
+            this.executor.execute(new Runnable() {
+                public void run() {
+                    compress(rolled);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns an unused name for a rolled file: the name of the log file
+     * followed by a timestamp (and a counter, if needed).
+     *
+     * @param now  the current time.
+     *
+     * @return The file.
+     */
+    private File createRolledFileName(final long now) {
+        final String base = this.file.getName() + "."
+                + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(now));
+        final File dir = this.file.getAbsoluteFile().getParentFile();
+        String name = base;
+        int counter = 1;
+        while (new File(dir, name).exists()
+                || new File(dir, name + ".gz").exists()) {
+            name = base + "-" + counter;
+            counter++;
+        }
+        return new File(dir, name);
+    }
+
+    /**
+     * Compresses a rolled file with gzip and deletes the original.  If the
+     * compression fails, the original is kept.
+     *
+     * @param rolled  the rolled file.
+     */
+    private static void compress(final File rolled) {
+        final File target = new File(rolled.getPath() + ".gz");
+        boolean done = false;
+        try {
+            final InputStream in = new FileInputStream(rolled);
+            try {
+                final OutputStream out = new GZIPOutputStream(
+                        new FileOutputStream(target));
+                try {
+                    final byte[] data = new byte[8192];
+                    int count;
+                    while ((count = in.read(data)) >= 0) {
+                        out.write(data, 0, count);
+                    }
+                }
+                finally {
+                    out.close();
+                }
+            }
+            finally {
+                in.close();
+            }
+            done = true;
+        }
+        catch (IOException ioe) {
+            ioe.printStackTrace();
+        }
+        if (done) {
+            rolled.delete();
+        }
+        else {
+            target.delete();
+        }
+    }
+
+}
@@ -37,6 +37,7 @@
  * Changes
  * -------
  * 24.09.2003 : Initial version
+ * 16-Oct-2026 : Use a parameterized debug message;
  *
  */
 
@@ -71,7 +72,7 @@ public class IntegerAttributeHandler implements AttributeHandler {
         }
         catch (ClassCastException cce) {
             if (o != null) {
-                Log.debug("ClassCastException: Expected Integer, found " + o.getClass());
+                Log.debug("ClassCastException: Expected Integer, found {}", o.getClass());
             }
             throw cce;
         }
@@ -37,6 +37,7 @@
  * Changes
  * -------
  * 21-Jun-2003 : Initial version (TM);
+ * 16-Oct-2026 : Use a parameterized debug message;
  *
  */
 
@@ -169,7 +170,7 @@ public class DescriptionModel {
         for (int i = 0; i < cds.length; i++) {
             if (cds[i].isUndefined()) {
                 removeClassDescription(cds[i]);
-                Log.debug("Pruned: " + cds[i].getName());
+                Log.debug("Pruned: {}", cds[i].getName());
             }
         }
     }
@@ -38,6 +38,7 @@
  * -------
  * 25-Sep-2003 : Initial version (TM);
  * 26-Nov-2003 : Javadoc updates (DG);
+ * 16-Oct-2026 : Added clear() and indexed accessors for the writer;
  *
  */
 
@@ -270,4 +271,47 @@ public class AttributeList {
             }
         }
     }
+
+    /**
+     * Removes all attributes from the list, so that it can be reused for
+     * another element.
+     */
+    public synchronized void clear() {
+        this.entryList.clear();
+    }
+
+    /**
+     * Returns the number of attributes in the list. Like the other indexed 
+     * accessors, this method is not synchronized; it is used by the 
+     * {@link XMLWriterSupport} on the thread that filled the list.
+     *
+     * @return The number of attributes.
+     */
+    int getLength() {
+        return this.entryList.size();
+    }
+
+    /**
+     * Returns the name of the attribute at the given position.
+     *
+     * @param index  the index (in the range <code>0</code> to 
+     *     <code>getLength() - 1</code>).
+     *
+     * @return The attribute name.
+     */
+    String getName(final int index) {
+        return ((AttributeEntry) this.entryList.get(index)).getName();
+    }
+
+    /**
+     * Returns the value of the attribute at the given position.
+     *
+     * @param index  the index (in the range <code>0</code> to 
+     *     <code>getLength() - 1</code>).
+     *
+     * @return The attribute value.
+     */
+    String getValue(final int index) {
+        return ((AttributeEntry) this.entryList.get(index)).getValue();
+    }
 }
@@ -37,6 +37,7 @@
  * Changes
  * -------
  * 23-Dec-2003 : Added missing Javadocs (DG);
+ * 16-Oct-2026 : Cache the handler classes loaded by loadHandlerClass();
  *
  */
 package org.jfree.xml.writer;
@@ -57,6 +58,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jfree.util.ObjectUtilities;
 import org.jfree.xml.util.ManualMappingDefinition;
@@ -83,6 +85,9 @@ public abstract class RootXmlWriteHandler {
     /** A map containg the manual mappings. */
     private SimpleObjectFactory classToHandlerMapping;
 
+    /** The handler classes that have been loaded, keyed by class name. */
+    private final ConcurrentHashMap handlerClasses = new ConcurrentHashMap();
+
     /**
      * Creates a new RootXmlWrite handler with the default mappings enabled.
      */
@@ -312,7 +317,11 @@ public abstract class RootXmlWriteHandler {
             throw new XMLWriterException("LoadHanderClass: Class name not defined");
         }
         try {
-            final Class c = ObjectUtilities.getClassLoader(getClass()).loadClass(className);
+            Class c = (Class) this.handlerClasses.get(className);
+            if (c == null) {
+                c = ObjectUtilities.getClassLoader(getClass()).loadClass(className);
+                this.handlerClasses.put(className, c);
+            }
             return (XmlWriteHandler) c.newInstance();
         }
         catch (Exception e) {
@@ -0,0 +1,215 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------------
+ * UnsynchronizedBufferedWriter.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Writing to a closed writer throws an IOException;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A character buffer in front of another writer.  Unlike 
+ * {@link java.io.BufferedWriter}, none of the methods take a lock, so this 
+ * writer must only be used by one thread at a time.  The {@link XMLWriter} 
+ * uses it in buffered mode, where a document is written through many small 
+ * <code>write()</code> calls.
+ */
+final class UnsynchronizedBufferedWriter extends Writer {
+
+    /** The default buffer size (in characters). */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The underlying writer (<code>null</code> once closed). */
+    private Writer out;
+
+    /** The buffer. */
+    private final char[] buffer;
+
+    /** The number of characters in the buffer. */
+    private int count;
+
+    /**
+     * Creates a new writer with the default buffer size.
+     *
+     * @param out  the underlying writer (<code>null</code> not permitted).
+     */
+    UnsynchronizedBufferedWriter(final Writer out) {
+        if (out == null) {
+            throw new NullPointerException("Writer must not be null.");
+        }
+        this.out = out;
+        this.buffer = new char[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c  the character.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final int c) throws IOException {
+        ensureOpen();
+        if (this.count == this.buffer.length) {
+            flushBuffer();
+        }
+        this.buffer[this.count++] = (char) c;
+    }
+
+    /**
+     * Writes a portion of an array of characters.
+     *
+     * @param cbuf  the characters.
+     * @param off  the offset of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final char[] cbuf, final int off, final int len)
+            throws IOException {
+        ensureOpen();
+        if (len >= this.buffer.length) {
+            flushBuffer();
+            ensureOpen().write(cbuf, off, len);
+            return;
+        }
+        if (len > this.buffer.length - this.count) {
+            flushBuffer();
+        }
+        System.arraycopy(cbuf, off, this.buffer, this.count, len);
+        this.count += len;
+    }
+
+    /**
+     * Writes a portion of a string.
+     *
+     * @param str  the string.
+     * @param off  the offset of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final String str, final int off, final int len)
+            throws IOException {
+        ensureOpen();
+        if (len >= this.buffer.length) {
+            flushBuffer();
+            ensureOpen().write(str, off, len);
+            return;
+        }
+        if (len > this.buffer.length - this.count) {
+            flushBuffer();
+        }
+        str.getChars(off, off + len, this.buffer, this.count);
+        this.count += len;
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param str  the string.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    /**
+     * Flushes the buffer and the underlying writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        ensureOpen().flush();
+    }
+
+    /**
+     * Flushes the buffer and closes the underlying writer.  Closing a 
+     * closed writer has no effect.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        if (this.out == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+        }
+        finally {
+            this.out.close();
+            this.out = null;
+        }
+    }
+
+    /**
+     * Passes the buffered characters to the underlying writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flushBuffer() throws IOException {
+        if (this.count > 0) {
+            ensureOpen().write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Returns the underlying writer.
+     *
+     * @return The underlying writer.
+     *
+     * @throws IOException if the writer has been closed.
+     */
+    private Writer ensureOpen() throws IOException {
+        if (this.out == null) {
+            throw new IOException("Writer closed.");
+        }
+        return this.out;
+    }
+
+}
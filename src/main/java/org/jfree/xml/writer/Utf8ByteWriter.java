@@ -0,0 +1,362 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * Utf8ByteWriter.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Writing to a closed writer throws an IOException;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A writer that encodes characters as UTF-8 into a byte buffer of its own
+ * and passes the bytes straight to an {@link OutputStream} or a 
+ * {@link WritableByteChannel}.  This replaces the 
+ * <code>BufferedWriter</code> and <code>OutputStreamWriter</code> that 
+ * would otherwise sit between an {@link XMLWriter} and the output.  The 
+ * many small writes made for every tag only copy characters into a char 
+ * array; the encoder then converts a whole block at a time, using the 
+ * JDK's fast path for runs of ASCII characters.
+ * <p>
+ * The buffers and the encoder are kept per thread and reused by the next 
+ * writer that is created after this one is closed.  None of the methods 
+ * take a lock, so the writer must only be used by one thread at a time.
+ */
+final class Utf8ByteWriter extends Writer {
+
+    /** The size of the character buffer. */
+    static final int CHAR_BUFFER_SIZE = 8192;
+
+    /** The size of the byte buffer. */
+    static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+    /** The buffers left by the last writer closed on each thread. */
+    private static final ThreadLocal BUFFERS = new ThreadLocal();
+
+    /**
+     * The buffers and the encoder used by one writer.
+     */
+    private static final class Buffers {
+
+        /** The character buffer. */
+        final char[] chars;
+
+        /** A character buffer wrapping {@link #chars}. */
+        final CharBuffer charBuffer;
+
+        /** The byte buffer. */
+        final ByteBuffer byteBuffer;
+
+        /** The encoder. */
+        final CharsetEncoder encoder;
+
+        /**
+         * Creates new buffers and a UTF-8 encoder that replaces unpaired 
+         * surrogates with '?'.
+         */
+        Buffers() {
+            this.chars = new char[CHAR_BUFFER_SIZE];
+            this.charBuffer = CharBuffer.wrap(this.chars);
+            this.byteBuffer = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+            this.encoder = Charset.forName("UTF-8").newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+    }
+
+    /** The output stream (<code>null</code> if writing to a channel). */
+    private OutputStream out;
+
+    /** The channel (<code>null</code> if writing to an output stream). */
+    private WritableByteChannel channel;
+
+    /** The buffers (<code>null</code> once closed). */
+    private Buffers buffers;
+
+    /** The character buffer (<code>null</code> once closed). */
+    private char[] chars;
+
+    /** The number of characters in the character buffer. */
+    private int count;
+
+    /**
+     * Creates a new writer for an output stream.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     */
+    Utf8ByteWriter(final OutputStream out) {
+        if (out == null) {
+            throw new NullPointerException("OutputStream must not be null.");
+        }
+        this.out = out;
+        acquireBuffers();
+    }
+
+    /**
+     * Creates a new writer for a channel.
+     *
+     * @param channel  the channel (<code>null</code> not permitted).
+     */
+    Utf8ByteWriter(final WritableByteChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Channel must not be null.");
+        }
+        this.channel = channel;
+        acquireBuffers();
+    }
+
+    /**
+     * Takes the buffers that were left by a closed writer on this thread, 
+     * or creates new ones.
+     */
+    private void acquireBuffers() {
+        Buffers b = (Buffers) BUFFERS.get();
+        if (b != null) {
+            BUFFERS.set(null);
+            b.byteBuffer.clear();
+            b.encoder.reset();
+        }
+        else {
+            b = new Buffers();
+        }
+        this.buffers = b;
+        this.chars = b.chars;
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c  the character.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final int c) throws IOException {
+        ensureOpen();
+        if (this.count == this.chars.length) {
+            encodeChars(false);
+        }
+        this.chars[this.count++] = (char) c;
+    }
+
+    /**
+     * Writes a portion of an array of characters.
+     *
+     * @param cbuf  the characters.
+     * @param off  the offset of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final char[] cbuf, final int off, final int len)
+            throws IOException {
+        ensureOpen();
+        int i = off;
+        final int end = off + len;
+        while (i < end) {
+            if (this.count == this.chars.length) {
+                encodeChars(false);
+            }
+            final int n = Math.min(end - i, this.chars.length - this.count);
+            System.arraycopy(cbuf, i, this.chars, this.count, n);
+            this.count += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Writes a portion of a string.
+     *
+     * @param str  the string.
+     * @param off  the offset of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final String str, final int off, final int len)
+            throws IOException {
+        ensureOpen();
+        int i = off;
+        final int end = off + len;
+        while (i < end) {
+            if (this.count == this.chars.length) {
+                encodeChars(false);
+            }
+            final int n = Math.min(end - i, this.chars.length - this.count);
+            str.getChars(i, i + n, this.chars, this.count);
+            this.count += n;
+            i += n;
+        }
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param str  the string.
+     *
+     * @throws IOException if there is an I/O problem or the writer has been
+     *     closed.
+     */
+    public void write(final String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    /**
+     * Writes the buffered characters and flushes the output stream.  A 
+     * high surrogate at the end of the text written so far is kept until 
+     * the next character arrives.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        encodeChars(false);
+        writeBytes();
+        if (this.out != null) {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * Writes the buffered characters and closes the output stream or 
+     * channel.  The buffers go back to the pool for this thread, so later 
+     * writes throw an exception.  Closing a closed writer has no effect.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        if (this.buffers == null) {
+            return;
+        }
+        try {
+            encodeChars(true);
+            final ByteBuffer bytes = this.buffers.byteBuffer;
+            while (this.buffers.encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        }
+        finally {
+            BUFFERS.set(this.buffers);
+            this.buffers = null;
+            this.chars = null;
+            this.count = 0;
+            if (this.out != null) {
+                this.out.close();
+            }
+            else {
+                this.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Encodes the buffered characters into the byte buffer, writing the 
+     * byte buffer whenever it is full.  Unless this is the end of the 
+     * input, a trailing high surrogate stays in the character buffer.
+     *
+     * @param endOfInput  a flag that indicates the end of the input.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void encodeChars(final boolean endOfInput) throws IOException {
+        final Buffers b = ensureOpen();
+        final CharBuffer in = b.charBuffer;
+        in.limit(this.count);
+        in.position(0);
+        while (b.encoder.encode(in, b.byteBuffer, endOfInput).isOverflow()) {
+            writeBytes();
+        }
+        final int remaining = in.remaining();
+        if (remaining > 0) {
+            System.arraycopy(this.chars, in.position(), this.chars, 0, 
+                    remaining);
+        }
+        this.count = remaining;
+    }
+
+    /**
+     * Passes the encoded bytes to the output stream or channel.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeBytes() throws IOException {
+        final ByteBuffer bytes = ensureOpen().byteBuffer;
+        if (bytes.position() == 0) {
+            return;
+        }
+        if (this.out != null) {
+            this.out.write(bytes.array(), bytes.arrayOffset(), 
+                    bytes.position());
+        }
+        else {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                this.channel.write(bytes);
+            }
+        }
+        bytes.clear();
+    }
+
+    /**
+     * Returns the buffers.
+     *
+     * @return The buffers.
+     *
+     * @throws IOException if the writer has been closed.
+     */
+    private Buffers ensureOpen() throws IOException {
+        if (this.buffers == null) {
+            throw new IOException("Writer closed.");
+        }
+        return this.buffers;
+    }
+
+}
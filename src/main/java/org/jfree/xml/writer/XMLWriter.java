@@ -37,13 +37,20 @@
  * Changes (from 26-Nov-2003)
  * --------------------------
  * 26-Nov-2003 : Added standard header and Javadocs (DG);
+ * 16-Oct-2026 : Added buffered mode, flush(), getAttributeBuffer() and 
+ *               writeNormalizedText(), and write empty tags without an 
+ *               attribute list;
+ * 17-Oct-2026 : Added constructors for UTF-8 output to an OutputStream or 
+ *               a WritableByteChannel;
  *
  */
 
 package org.jfree.xml.writer;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Properties;
 
 /**
@@ -56,6 +63,9 @@ public class XMLWriter extends XMLWriterSupport {
      */
     private Writer writer;
 
+    /** A reusable attribute list (see {@link #getAttributeBuffer()}). */
+    private AttributeList attributeBuffer;
+
     /**
      * Creates a new XML writer for the specified character stream.  By 
      * default, four spaces are used for indentation.
@@ -74,12 +84,70 @@ public class XMLWriter extends XMLWriterSupport {
      *                     white space, for example four spaces).
      */
     public XMLWriter(final Writer writer, final String indentString) {
+        this(writer, indentString, false);
+    }
+
+    /**
+     * Creates a new XML writer for the specified character stream.  In 
+     * buffered mode the output is collected in an unsynchronized buffer and 
+     * passed to the character stream in large blocks, which is much faster 
+     * than the many small writes otherwise made for every tag and 
+     * attribute.  A buffered writer must only be used by one thread, and 
+     * its output is complete only after {@link #flush()} or 
+     * {@link #close()} has been called.
+     *
+     * @param writer       the character stream.
+     * @param indentString the string used for indentation (should contain 
+     *                     white space, for example four spaces).
+     * @param buffered     a flag that controls whether the output is 
+     *                     buffered.
+     */
+    public XMLWriter(final Writer writer, final String indentString, 
+            final boolean buffered) {
         super(new SafeTagList(), 0, indentString);
         if (writer == null) {
             throw new NullPointerException("Writer must not be null.");
         }
 
-        this.writer = writer;
+        if (buffered) {
+            this.writer = new UnsynchronizedBufferedWriter(writer);
+        }
+        else {
+            this.writer = writer;
+        }
+    }
+
+    /**
+     * Creates a new XML writer that writes UTF-8 encoded bytes to the 
+     * specified output stream.  The characters are encoded straight into a 
+     * byte buffer, so the stream should not be wrapped in a 
+     * <code>BufferedOutputStream</code>.  The writer must only be used by 
+     * one thread, and its output is complete only after {@link #flush()} or
+     * {@link #close()} has been called.
+     *
+     * @param out          the output stream.
+     * @param indentString the string used for indentation (should contain 
+     *                     white space, for example four spaces).
+     */
+    public XMLWriter(final OutputStream out, final String indentString) {
+        super(new SafeTagList(), 0, indentString);
+        this.writer = new Utf8ByteWriter(out);
+    }
+
+    /**
+     * Creates a new XML writer that writes UTF-8 encoded bytes to the 
+     * specified channel.  The writer must only be used by one thread, and 
+     * its output is complete only after {@link #flush()} or {@link #close()}
+     * has been called.
+     *
+     * @param channel      the channel.
+     * @param indentString the string used for indentation (should contain 
+     *                     white space, for example four spaces).
+     */
+    public XMLWriter(final WritableByteChannel channel, 
+            final String indentString) {
+        super(new SafeTagList(), 0, indentString);
+        this.writer = new Utf8ByteWriter(channel);
     }
 
     /**
@@ -105,7 +173,7 @@ public class XMLWriter extends XMLWriterSupport {
     public void writeTag(final String name, final boolean close) 
             throws IOException {
         if (close) {
-            writeTag(this.writer, name, new AttributeList(), close);
+            writeTag(this.writer, name, null, null, close);
         }
         else {
             writeTag(this.writer, name);
@@ -175,6 +243,50 @@ public class XMLWriter extends XMLWriterSupport {
         this.writer.write(text);
     }
 
+    /**
+     * Writes some text to the character stream, escaping the characters 
+     * that have a special meaning in XML.  Unlike 
+     * <code>writeText(normalize(text))</code>, this does not create a copy 
+     * of the text.
+     *
+     * @param text  the text (<code>null</code> is ignored).
+     * @throws IOException if there is a problem writing to the character 
+     *                     stream.
+     */
+    public void writeNormalizedText(final String text) throws IOException {
+        writeNormalized(this.writer, text);
+    }
+
+    /**
+     * Returns an empty attribute list owned by this writer.  Write handlers 
+     * can fill this list and pass it to 
+     * {@link #writeTag(String, AttributeList, boolean)} instead of creating 
+     * a new list for every element.  The list is cleared by the next call 
+     * to this method, so it must be written before any nested object is 
+     * written.
+     *
+     * @return An empty attribute list.
+     */
+    public AttributeList getAttributeBuffer() {
+        if (this.attributeBuffer == null) {
+            this.attributeBuffer = new AttributeList();
+        }
+        else {
+            this.attributeBuffer.clear();
+        }
+        return this.attributeBuffer;
+    }
+
+    /**
+     * Flushes any buffered output and the underlying character stream.
+     * 
+     * @throws IOException if there is a problem flushing the character 
+     *                     stream.
+     */
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
     /**
      * Closes the underlying character stream.
      * 
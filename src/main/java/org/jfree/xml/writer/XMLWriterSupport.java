@@ -38,6 +38,8 @@
  * -------
  * 21-Jun-2003 : Initial version (TM);
  * 26-Nov-2003 : Updated Javadocs (DG);
+ * 16-Oct-2026 : Write escaped text straight to the writer and avoid the
+ *               temporary attribute list for single attributes;
  *
  */
 
@@ -45,8 +47,8 @@ package org.jfree.xml.writer;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.io.StringWriter;
 import java.util.Enumeration;
-import java.util.Iterator;
 import java.util.Properties;
 
 /**
@@ -236,11 +238,15 @@ public class XMLWriterSupport {
     public void writeTag(final Writer w, final String name, 
             final String attributeName, final String attributeValue,
             final boolean close) throws IOException {
-        final AttributeList attr = new AttributeList();
+        if (attributeName != null && attributeValue == null) {
+            throw new NullPointerException("Value must not be null. [" 
+                    + attributeName + ", " + attributeValue + "]");
+        }
+        writeTagStart(w, name);
         if (attributeName != null) {
-            attr.setAttribute(attributeName, attributeValue);
+            writeAttribute(w, attributeName, attributeValue);
         }
-        writeTag(w, name, attr, close);
+        writeTagEnd(w, name, close);
     }
 
     /**
@@ -280,24 +286,63 @@ public class XMLWriterSupport {
             final AttributeList attributes, final boolean close)
             throws IOException {
 
+        writeTagStart(w, name);
+        final int count = attributes.getLength();
+        for (int i = 0; i < count; i++) {
+            writeAttribute(w, attributes.getName(i), attributes.getValue(i));
+        }
+        writeTagEnd(w, name, close);
+    }
+
+    /**
+     * Writes the start of an opening tag, up to and including the tag name.
+     *
+     * @param w  the writer.
+     * @param name  the tag name.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeTagStart(final Writer w, final String name) 
+            throws IOException {
         if (this.newLineOk) {
             w.write(getLineSeparator());
             this.newLineOk = false;
         }
         indent(w, OPEN_TAG_INCREASE);
 
-        w.write("<");
+        w.write('<');
         w.write(name);
-        final Iterator keys = attributes.keys();
-        while (keys.hasNext()) {
-            final String key = (String) keys.next();
-            final String value = attributes.getAttribute(key);
-            w.write(" ");
-            w.write(key);
-            w.write("=\"");
-            w.write(normalize(value));
-            w.write("\"");
-        }
+    }
+
+    /**
+     * Writes a single attribute/value pair, escaping the value as required.
+     *
+     * @param w  the writer.
+     * @param name  the attribute name.
+     * @param value  the attribute value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeAttribute(final Writer w, final String name, 
+            final String value) throws IOException {
+        w.write(' ');
+        w.write(name);
+        w.write("=\"");
+        writeNormalized(w, value);
+        w.write('"');
+    }
+
+    /**
+     * Writes the end of an opening tag.
+     *
+     * @param w  the writer.
+     * @param name  the tag name.
+     * @param close  controls whether the tag is closed.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeTagEnd(final Writer w, final String name, 
+            final boolean close) throws IOException {
         if (close) {
             w.write("/>");
             if (getSafeTags().isSafeForClose(name)) {
@@ -306,7 +351,7 @@ public class XMLWriterSupport {
             decreaseIndent();
         }
         else {
-            w.write(">");
+            w.write('>');
             if (getSafeTags().isSafeForOpen(name)) {
                 w.write(getLineSeparator());
             }
@@ -325,58 +370,118 @@ public class XMLWriterSupport {
         if (s == null) {
             return "";
         }
-        final StringBuffer str = new StringBuffer();
-        final int len = s.length();
+        if (!needsNormalization(s)) {
+            return s;
+        }
+        final StringWriter str = new StringWriter(s.length() + 16);
+        try {
+            writeNormalized(str, s);
+        }
+        catch (IOException e) {
+            // a StringWriter never throws an IOException
+            throw new IllegalStateException(e.getMessage());
+        }
+        return str.toString();
+    }
 
+    /**
+     * Writes a string to the given writer, replacing certain characters with 
+     * their escape sequences so that the XML text is not corrupted. The 
+     * output is the same as <code>w.write(normalize(s))</code>, but runs of 
+     * characters that need no escaping are passed to the writer directly 
+     * instead of being copied into a temporary buffer first.
+     *
+     * @param w  the writer.
+     * @param s  the string (<code>null</code> is written as an empty string).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeNormalized(final Writer w, final String s) 
+            throws IOException {
+        if (s == null) {
+            return;
+        }
+        final int len = s.length();
+        int start = 0;
+        // the last character written for the previous linefeed
+        char newLineEnd = 0;
         for (int i = 0; i < len; i++) {
-            final char ch = s.charAt(i);
-
-            switch (ch) {
+            final String replacement;
+            switch (s.charAt(i)) {
                 case '<':
                     {
-                        str.append("&lt;");
+                        replacement = "&lt;";
                         break;
                     }
                 case '>':
                     {
-                        str.append("&gt;");
+                        replacement = "&gt;";
                         break;
                     }
                 case '&':
                     {
-                        str.append("&amp;");
+                        replacement = "&amp;";
                         break;
                     }
                 case '"':
                     {
-                        str.append("&quot;");
+                        replacement = "&quot;";
                         break;
                     }
                 case '\n':
                     {
+                        char lastChar = 0;
                         if (i > 0) {
-                            final char lastChar = str.charAt(str.length() - 1);
-
-                            if (lastChar != '\r') {
-                                str.append(getLineSeparator());
-                            }
-                            else {
-                                str.append('\n');
+                            lastChar = s.charAt(i - 1);
+                            if (lastChar == '\n') {
+                                lastChar = newLineEnd;
                             }
                         }
+                        if (lastChar != '\r') {
+                            replacement = getLineSeparator();
+                        }
                         else {
-                            str.append(getLineSeparator());
+                            replacement = "\n";
                         }
+                        newLineEnd = replacement.charAt(
+                                replacement.length() - 1);
                         break;
                     }
                 default :
                     {
-                        str.append(ch);
+                        continue;
                     }
             }
+            if (start < i) {
+                w.write(s, start, i - start);
+            }
+            w.write(replacement);
+            start = i + 1;
         }
+        if (start < len) {
+            w.write(s, start, len - start);
+        }
+    }
 
-        return (str.toString());
+    /**
+     * Returns <code>true</code> if the string contains a character that is 
+     * changed by {@link #normalize(String)}, and <code>false</code> 
+     * otherwise.
+     *
+     * @param s  the string (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean needsNormalization(final String s) {
+        final int len = s.length();
+        for (int i = 0; i < len; i++) {
+            final char ch = s.charAt(i);
+            if (ch == '<' || ch == '>' || ch == '&' || ch == '"' 
+                    || ch == '\n') {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
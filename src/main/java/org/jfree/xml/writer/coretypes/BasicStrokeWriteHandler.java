@@ -38,6 +38,7 @@
  * -------
  * 12-Nov-2003 : Initial version (TM);
  * 25-Nov-2003 : Updated header (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  * 
  */
 
@@ -85,7 +86,7 @@ public class BasicStrokeWriteHandler extends AbstractXmlWriteHandler  {
         final int lineJoin = stroke.getLineJoin();
         final float lineWidth = stroke.getLineWidth();
         final float miterLimit = stroke.getMiterLimit();
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
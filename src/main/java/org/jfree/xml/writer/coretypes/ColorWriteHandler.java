@@ -37,6 +37,7 @@
  * Changes (from 23-Dec-2003)
  * --------------------------
  * 23-Dec-2003 : Added standard header and Javadocs (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  *
  */
 
@@ -78,7 +79,7 @@ public class ColorWriteHandler extends AbstractXmlWriteHandler  {
                       final String mPlexAttribute, final String mPlexValue)
         throws IOException, XMLWriterException {
         final Color color = (Color) object;
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
@@ -37,6 +37,7 @@
  * Changes (from 25-Nov-2003)
  * --------------------------
  * 25-Nov-2003 : Added standard header (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  *
  */
 
@@ -78,7 +79,7 @@ public class FontWriteHandler extends AbstractXmlWriteHandler  {
                       final String mPlexAttribute, final String mPlexValue)
         throws IOException, XMLWriterException {
         final Font font = (Font) object;
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
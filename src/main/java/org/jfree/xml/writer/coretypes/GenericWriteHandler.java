@@ -38,6 +38,8 @@
  * -------
  * 23-Sep-2003 : Initial version (TM);
  * 23-Dec-2003 : Added missing Javadocs (DG);
+ * 16-Oct-2026 : Use a parameterized debug message;
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  * 
  */
 
@@ -92,7 +94,7 @@ public class GenericWriteHandler extends AbstractXmlWriteHandler {
         try {
             this.factory.readProperties(object);
 
-            final AttributeList attributes = new AttributeList();
+            final AttributeList attributes = writer.getAttributeBuffer();
             if (mPlexAttribute != null) {
                 attributes.setAttribute(mPlexAttribute, mPlexValue);
             }
@@ -103,9 +105,8 @@ public class GenericWriteHandler extends AbstractXmlWriteHandler {
                 final String pName = adef.getAttributeName();
                 final Object propValue = this.factory.getProperty(adef.getPropertyName());
                 if (propValue != null) {
-                    Log.debug(
-                        "Here: " + this.factory.getBaseClass() + " -> " + adef.getPropertyName()
-                    );
+                    Log.debug("Here: {} -> {}", this.factory.getBaseClass(),
+                        adef.getPropertyName());
                     final String value = adef.getHandler().toAttributeValue(propValue);
                     if (value != null) {
                         attributes.setAttribute(pName, value);
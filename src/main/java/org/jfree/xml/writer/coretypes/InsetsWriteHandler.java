@@ -38,6 +38,7 @@
  * -------
  * 22-Nov-2003 : Initial version (TM);
  * 23-Dec-2003 : Added missing Javadocs (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  * 
  */
 
@@ -79,7 +80,7 @@ public class InsetsWriteHandler extends AbstractXmlWriteHandler {
     public void write(final String tagName, final Object object, final XMLWriter writer,
                       final String mPlexAttribute, final String mPlexValue)
         throws IOException, XMLWriterException {
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
@@ -37,6 +37,7 @@
  * Changes (from 25-Nov-2003)
  * --------------------------
  * 25-Nov-2003 : Added standard header (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  *
  */
 
@@ -80,7 +81,7 @@ public class Point2DWriteHandler extends AbstractXmlWriteHandler {
         final Point2D point = (Point2D) object;
         final double x = point.getX();
         final double y = point.getY();
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
@@ -37,6 +37,7 @@
  * Changes (from 25-Nov-2003)
  * --------------------------
  * 25-Nov-2003 : Added standard header (DG);
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  *
  */
 
@@ -82,7 +83,7 @@ public class Rectangle2DWriteHandler extends AbstractXmlWriteHandler {
         final double y = rect.getY();
         final double w = rect.getWidth();
         final double h = rect.getHeight();
-        final AttributeList attribs = new AttributeList();
+        final AttributeList attribs = writer.getAttributeBuffer();
         if (mPlexAttribute != null) {
             attribs.setAttribute(mPlexAttribute, mPlexValue);
         }
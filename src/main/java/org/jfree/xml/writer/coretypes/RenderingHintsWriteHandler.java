@@ -37,6 +37,7 @@
  * Changes 
  * -------------------------
  * 22.11.2003 : Initial version
+ * 16-Oct-2026 : Use the writer's attribute buffer;
  *  
  */
 
@@ -91,7 +92,7 @@ public class RenderingHintsWriteHandler extends AbstractXmlWriteHandler {
             final RenderingHints.Key key = (RenderingHints.Key) it.next();
             final String keyname = hintFieldToString(key);
             final String value = hintFieldToString(hints.get(key));
-            final AttributeList attribs = new AttributeList();
+            final AttributeList attribs = writer.getAttributeBuffer();
             attribs.setAttribute("key", keyname);
             attribs.setAttribute("value", value);
             writer.writeTag("entry", attribs, XMLWriterSupport.CLOSE);
@@ -0,0 +1,512 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * PngEncoderTest.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added tests for parallel compression;
+ * 16-Oct-2026 : Added tests for adaptive filtering;
+ * 16-Oct-2026 : Added tests for indexed-colour output;
+ * 16-Oct-2026 : Added tests for the different pixel sources;
+ * 16-Oct-2026 : Added tests for the static encode methods;
+ *
+ */
+
+package com.keypoint;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.awt.image.MemoryImageSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+
+import javax.imageio.ImageIO;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link PngEncoder} class.
+ */
+public class PngEncoderTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PngEncoderTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PngEncoderTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a chart-like test image.  The height is chosen so that the
+     * encoder has to process the pixels in several blocks of rows.
+     *
+     * @param type  the image type.
+     *
+     * @return The image.
+     */
+    private BufferedImage createImage(int type) {
+        BufferedImage image = new BufferedImage(123, 257, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.white);
+        g2.fillRect(0, 0, 123, 257);
+        g2.setPaint(new Color(255, 0, 0, 128));
+        g2.fillRect(10, 20, 60, 200);
+        g2.setPaint(Color.blue);
+        g2.setStroke(new BasicStroke(2.0f));
+        g2.drawLine(0, 256, 122, 0);
+        g2.setPaint(new Color(0, 128, 0, 0));
+        g2.fillRect(100, 100, 20, 20);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Decodes the given bytes and checks that they match the original image.
+     *
+     * @param image  the original image.
+     * @param png  the encoded image.
+     * @param alpha  was the alpha channel encoded?
+     *
+     * @throws IOException if there is a problem decoding the bytes.
+     */
+    private void assertDecodesTo(BufferedImage image, byte[] png,
+            boolean alpha) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(decoded);
+        assertEquals(image.getWidth(), decoded.getWidth());
+        assertEquals(image.getHeight(), decoded.getHeight());
+        int mask = alpha ? 0xffffffff : 0x00ffffff;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                assertEquals("Pixel (" + x + ", " + y + ")",
+                        image.getRGB(x, y) & mask,
+                        decoded.getRGB(x, y) & mask);
+            }
+        }
+    }
+
+    /**
+     * Checks that every filter produces an image that decodes to the
+     * original pixels.
+     *
+     * @throws IOException if there is a problem decoding the image.
+     */
+    public void testFilters() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        for (int f = PngEncoder.FILTER_NONE; f <= PngEncoder.FILTER_LAST;
+                f++) {
+            PngEncoder encoder = new PngEncoder(image, true, f, 9);
+            assertDecodesTo(image, encoder.pngEncode(), true);
+            encoder = new PngEncoder(image, false, f, 1);
+            assertDecodesTo(image, encoder.pngEncode(), false);
+        }
+    }
+
+    /**
+     * Checks that the streaming encoder produces a valid image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testEncodeToStream() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        for (int f = PngEncoder.FILTER_NONE; f <= PngEncoder.FILTER_LAST;
+                f++) {
+            PngEncoder encoder = new PngEncoder(image, true, f, 6);
+            encoder.setDpi(300, 300);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            encoder.encode(out);
+            assertDecodesTo(image, out.toByteArray(), true);
+        }
+    }
+
+    /**
+     * Checks that the streaming encoder splits the image data into bounded
+     * IDAT chunks when writing to a channel.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testEncodeToChannel() throws IOException {
+        BufferedImage image = new BufferedImage(400, 400,
+                BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 400; y++) {
+            for (int x = 0; x < 400; x++) {
+                image.setRGB(x, y, (x * 31) ^ (y * 17) ^ (x * y));
+            }
+        }
+        PngEncoder encoder = new PngEncoder(image, false,
+                PngEncoder.FILTER_NONE, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(Channels.newChannel(out));
+        byte[] png = out.toByteArray();
+        assertDecodesTo(image, png, false);
+
+        // walk the chunks and check that no IDAT exceeds the limit
+        int pos = 8;
+        int idatCount = 0;
+        while (pos < png.length) {
+            int length = ((png[pos] & 0xff) << 24) | ((png[pos + 1] & 0xff)
+                    << 16) | ((png[pos + 2] & 0xff) << 8) | (png[pos + 3]
+                    & 0xff);
+            if (png[pos + 4] == 'I' && png[pos + 5] == 'D') {
+                assertTrue(length <= PngEncoder.IDAT_CHUNK_SIZE);
+                idatCount++;
+            }
+            pos += length + 12;
+        }
+        assertEquals(png.length, pos);
+        assertTrue(idatCount > 1);
+    }
+
+    /**
+     * Checks that parallel compression produces an image that decodes to the
+     * original pixels, for every filter and with either entry point.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testParallel() throws IOException {
+        BufferedImage image = new BufferedImage(600, 500,
+                BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(42L);
+        for (int y = 0; y < 500; y++) {
+            for (int x = 0; x < 600; x++) {
+                int v = (x / 7) * 0x010203 + (y / 5) * 0x030201;
+                if (random.nextInt(10) == 0) {
+                    v = random.nextInt();
+                }
+                image.setRGB(x, y, v);
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int f = PngEncoder.FILTER_NONE; f <= PngEncoder.FILTER_LAST;
+                    f++) {
+                PngEncoder encoder = new PngEncoder(image, true, f, 6);
+                encoder.setParallelism(4);
+                assertDecodesTo(image, encoder.pngEncode(), true);
+
+                encoder = new PngEncoder(image, false, f, 1);
+                encoder.setParallelism(3);
+                encoder.setExecutor(executor);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                encoder.encode(out);
+                assertDecodesTo(image, out.toByteArray(), false);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Checks the combination of Adler-32 checksums.
+     */
+    public void testCombineAdler32() {
+        byte[] data = new byte[100000];
+        new Random(1L).nextBytes(data);
+        Adler32 all = new Adler32();
+        all.update(data);
+        Adler32 first = new Adler32();
+        first.update(data, 0, 70001);
+        Adler32 second = new Adler32();
+        second.update(data, 70001, data.length - 70001);
+        assertEquals(all.getValue(), StripeCompressor.combineAdler32(
+                first.getValue(), second.getValue(), data.length - 70001));
+        assertEquals(first.getValue(), StripeCompressor.combineAdler32(
+                first.getValue(), 1L, 0));
+    }
+
+    /**
+     * Checks the filter setting and that adaptive filtering compresses an
+     * image with a gradient background better than no filtering.
+     */
+    public void testAdaptiveFilter() {
+        PngEncoder encoder = new PngEncoder();
+        encoder.setFilter(PngEncoder.FILTER_ADAPTIVE);
+        assertEquals(PngEncoder.FILTER_ADAPTIVE, encoder.getFilter());
+        encoder.setFilter(PngEncoder.FILTER_LAST + 1);
+        assertEquals(PngEncoder.FILTER_NONE, encoder.getFilter());
+
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0f, 0f, Color.white, 300f, 200f,
+                Color.darkGray));
+        g2.fillRect(0, 0, 300, 200);
+        g2.setPaint(Color.red);
+        g2.drawLine(0, 199, 299, 0);
+        g2.dispose();
+        byte[] none = new PngEncoder(image, false, PngEncoder.FILTER_NONE,
+                9).pngEncode();
+        byte[] adaptive = new PngEncoder(image, false,
+                PngEncoder.FILTER_ADAPTIVE, 9).pngEncode();
+        assertTrue(adaptive.length < none.length);
+    }
+
+    /**
+     * Checks that an image with few colours is written with a palette and
+     * decodes to the original pixels, for every filter.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testIndexedColor() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        for (int f = PngEncoder.FILTER_NONE; f <= PngEncoder.FILTER_LAST;
+                f++) {
+            PngEncoder encoder = new PngEncoder(image, true, f, 9);
+            encoder.setIndexedColor(true);
+            byte[] png = encoder.pngEncode();
+            assertEquals(3, png[25]);  // colour type
+            assertDecodesTo(image, png, true);
+
+            encoder.setEncodeAlpha(false);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            encoder.encode(out);
+            png = out.toByteArray();
+            assertEquals(3, png[25]);
+            assertDecodesTo(image, png, false);
+        }
+    }
+
+    /**
+     * Checks the bit depth chosen for small palettes, using a width that does
+     * not fill the last byte of each scan line.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testIndexedColorBitDepth() throws IOException {
+        int[] colors = {0xff000000, 0xffffffff, 0xffff0000, 0xff00ff00,
+            0xff0000ff, 0xffffff00};
+        int[] counts = {2, 4, 5};
+        int[] depths = {1, 2, 4};
+        for (int k = 0; k < counts.length; k++) {
+            BufferedImage image = new BufferedImage(13, 7,
+                    BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < 7; y++) {
+                for (int x = 0; x < 13; x++) {
+                    image.setRGB(x, y, colors[(x * 3 + y) % counts[k]]);
+                }
+            }
+            PngEncoder encoder = new PngEncoder(image, false,
+                    PngEncoder.FILTER_ADAPTIVE, 9);
+            encoder.setIndexedColor(true);
+            byte[] png = encoder.pngEncode();
+            assertEquals(depths[k], png[24]);  // bit depth
+            assertDecodesTo(image, png, false);
+        }
+    }
+
+    /**
+     * Checks that an image with more than 256 colours falls back to
+     * truecolour, and that parallel compression works with a palette.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testIndexedColorFallback() throws IOException {
+        BufferedImage image = new BufferedImage(1000, 600,
+                BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 1000; x++) {
+                image.setRGB(x, y, (x / 10) * 0x020100 + (y / 100));
+            }
+        }
+        PngEncoder encoder = new PngEncoder(image, false,
+                PngEncoder.FILTER_UP, 6);
+        encoder.setIndexedColor(true);
+        encoder.setParallelism(4);
+        byte[] png = encoder.pngEncode();
+        assertEquals(2, png[25]);
+        assertDecodesTo(image, png, false);
+
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 1000; x++) {
+                image.setRGB(x, y, ((x / 100) + (y / 100) * 10) * 0x010203);
+            }
+        }
+        png = encoder.pngEncode();
+        assertEquals(3, png[25]);
+        assertDecodesTo(image, png, false);
+    }
+
+    /**
+     * Checks the pixels read from each supported image layout, including
+     * sub-images that share the data buffer of a larger image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testImageTypes() throws IOException {
+        int[] types = {BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_4BYTE_ABGR, BufferedImage.TYPE_3BYTE_BGR,
+            BufferedImage.TYPE_INT_ARGB_PRE};
+        for (int t = 0; t < types.length; t++) {
+            BufferedImage image = createImage(types[t]);
+            boolean alpha = image.getColorModel().hasAlpha()
+                    && !image.isAlphaPremultiplied();
+            PngEncoder encoder = new PngEncoder(image, alpha,
+                    PngEncoder.FILTER_SUB, 6);
+            assertDecodesTo(image, encoder.pngEncode(), alpha);
+
+            BufferedImage sub = image.getSubimage(7, 11, 50, 60);
+            encoder.setImage(sub);
+            assertDecodesTo(sub, encoder.pngEncode(), alpha);
+        }
+    }
+
+    /**
+     * Checks that an image that is not a <code>BufferedImage</code> is still
+     * encoded correctly.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testProducerImage() throws IOException {
+        BufferedImage original = createImage(BufferedImage.TYPE_INT_ARGB);
+        int w = original.getWidth();
+        int h = original.getHeight();
+        int[] pixels = original.getRGB(0, 0, w, h, null, 0, w);
+        Image image = Toolkit.getDefaultToolkit().createImage(
+                new MemoryImageSource(w, h, pixels, 0, w));
+        PngEncoder encoder = new PngEncoder(image, true,
+                PngEncoder.FILTER_PAETH, 6);
+        assertDecodesTo(original, encoder.pngEncode(), true);
+    }
+
+    /**
+     * Checks that the static encode method, which reuses a per-thread
+     * encoder, gives the same bytes as a new encoder for a sequence of
+     * images with different sizes and settings.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public void testStaticEncode() throws IOException {
+        BufferedImage[] images = {createImage(BufferedImage.TYPE_INT_ARGB),
+            new BufferedImage(17, 3, BufferedImage.TYPE_INT_RGB),
+            createImage(BufferedImage.TYPE_4BYTE_ABGR)};
+        int[] filters = {PngEncoder.FILTER_UP, PngEncoder.FILTER_ADAPTIVE,
+            PngEncoder.FILTER_UP};
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < images.length; i++) {
+                PngEncoderOptions options = new PngEncoderOptions();
+                options.setEncodeAlpha(true);
+                options.setFilter(filters[i]);
+                options.setCompressionLevel(round == 0 ? 9 : 1);
+                options.setDpi(72, 72);
+                options.setIndexedColor(round == 1);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                PngEncoder.encode(images[i], options, out);
+
+                PngEncoder encoder = new PngEncoder(images[i], true,
+                        filters[i], round == 0 ? 9 : 1);
+                encoder.setDpi(72, 72);
+                encoder.setIndexedColor(round == 1);
+                ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                encoder.encode(expected);
+                assertTrue(Arrays.equals(expected.toByteArray(),
+                        out.toByteArray()));
+                assertDecodesTo(images[i], out.toByteArray(), true);
+            }
+        }
+    }
+
+    /**
+     * Encodes images from several threads at once with the static encode
+     * method.
+     *
+     * @throws Exception if there is a problem encoding an image.
+     */
+    public void testStaticEncodeConcurrently() throws Exception {
+        final BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        final PngEncoderOptions options = new PngEncoderOptions();
+        options.setEncodeAlpha(true);
+        options.setFilter(PngEncoder.FILTER_PAETH);
+        final List results = new ArrayList();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < 5; i++) {
+                            ByteArrayOutputStream out
+                                    = new ByteArrayOutputStream();
+                            PngEncoder.encode(image, options, out);
+                            synchronized (results) {
+                                results.add(out.toByteArray());
+                            }
+                        }
+                    }
+                    catch (IOException e) {
+                        synchronized (results) {
+                            results.add(e);
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(20, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertTrue(results.get(i) instanceof byte[]);
+            assertDecodesTo(image, (byte[]) results.get(i), true);
+        }
+    }
+
+}
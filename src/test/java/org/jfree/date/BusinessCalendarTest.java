@@ -0,0 +1,260 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * BusinessCalendarTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jfree.daydate.Day;
+import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.WeekInMonth;
+import org.jfree.daydate.WeekdayRange;
+
+/**
+ * Tests for the {@link BusinessCalendar} class.
+ */
+public class BusinessCalendarTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BusinessCalendarTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BusinessCalendarTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns some holiday rules.
+     *
+     * @return The rules.
+     */
+    private static AnnualDateRule[] getHolidays() {
+        final AnnualDateRule easter = new EasterSundayRule();
+        return new AnnualDateRule[] {
+            new DayAndMonthRule(1, MonthConstants.JANUARY),
+            new RelativeDayOfWeekRule(easter, Day.FRIDAY.toInt(), 
+                    WeekdayRange.LAST),
+            new RelativeDayOfWeekRule(easter, Day.MONDAY.toInt(), 
+                    WeekdayRange.NEXT),
+            new DayOfWeekInMonthRule(WeekInMonth.LAST.toInt(), 
+                    Day.MONDAY.toInt(), MonthConstants.MAY),
+            new DayOfWeekInMonthRule(WeekInMonth.FOURTH.toInt(), 
+                    Day.THURSDAY.toInt(), MonthConstants.NOVEMBER),
+            new DayAndMonthRule(25, MonthConstants.DECEMBER),
+            new DayAndMonthRule(26, MonthConstants.DECEMBER)
+        };
+    }
+
+    /**
+     * Returns true if a date is a business day, without using the calendar.
+     *
+     * @param serial  the serial number.
+     * @param holidays  the holiday rules.
+     * @param weekendDays  the weekend days.
+     *
+     * @return A boolean.
+     */
+    private static boolean isBusinessDay(final int serial, 
+            final AnnualDateRule[] holidays, final int[] weekendDays) {
+        final DayDate date = DayDateFactory.makeDate(serial);
+        for (int i = 0; i < weekendDays.length; i++) {
+            if (date.getDayOfWeek().toInt() == weekendDays[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < holidays.length; i++) {
+            if (date.equals(holidays[i].getDate(date.getYear()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Every day in the calendar is checked against the rules.
+     */
+    public void testIsBusinessDay() {
+        final AnnualDateRule[] holidays = getHolidays();
+        final int[] weekend = {Day.SATURDAY.toInt(), Day.SUNDAY.toInt()};
+        final BusinessCalendar c = new BusinessCalendar(holidays, 1999, 2011);
+        final int first = SpreadsheetDate.toOrdinal(1, 1, 1999);
+        final int last = SpreadsheetDate.toOrdinal(31, 12, 2011);
+        for (int s = first; s <= last; s++) {
+            assertEquals(isBusinessDay(s, holidays, weekend), 
+                    c.isBusinessDay(s));
+        }
+
+        // Christmas Day and Boxing Day 2002, then a Friday
+        assertFalse(c.isBusinessDay(DayDateFactory.make(25, 12, 2002)));
+        assertFalse(c.isBusinessDay(DayDateFactory.make(26, 12, 2002)));
+        assertTrue(c.isBusinessDay(DayDateFactory.make(27, 12, 2002)));
+        assertFalse(c.isBusinessDay(DayDateFactory.make(28, 12, 2002)));
+
+        // a weekend of Friday and Saturday
+        final int[] other = {Day.FRIDAY.toInt(), Day.SATURDAY.toInt()};
+        final BusinessCalendar c2 = new BusinessCalendar(holidays, other, 
+                2002, 2003);
+        for (int s = SpreadsheetDate.toOrdinal(1, 1, 2002); 
+                s <= SpreadsheetDate.toOrdinal(31, 12, 2003); s++) {
+            assertEquals(isBusinessDay(s, holidays, other), 
+                    c2.isBusinessDay(s));
+        }
+    }
+
+    /**
+     * Some checks for the businessDaysBetween() method.
+     */
+    public void testBusinessDaysBetween() {
+        final AnnualDateRule[] holidays = getHolidays();
+        final BusinessCalendar c = new BusinessCalendar(holidays, 2000, 2010);
+        final int first = SpreadsheetDate.toOrdinal(1, 1, 2000);
+        final int last = SpreadsheetDate.toOrdinal(31, 12, 2010);
+        final Random random = new Random(7L);
+        for (int i = 0; i < 200; i++) {
+            final int s1 = first + random.nextInt(last - first + 1);
+            final int s2 = Math.min(last, s1 + random.nextInt(400));
+            int expected = 0;
+            for (int s = s1 + 1; s <= s2; s++) {
+                if (c.isBusinessDay(s)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, c.businessDaysBetween(s1, s2));
+            assertEquals(-expected, c.businessDaysBetween(s2, s1));
+        }
+        assertEquals(0, c.businessDaysBetween(first, first));
+
+        // the week before Christmas 2002
+        assertEquals(3, c.businessDaysBetween(
+                DayDateFactory.make(20, 12, 2002), 
+                DayDateFactory.make(27, 12, 2002)));
+    }
+
+    /**
+     * Some checks for the addBusinessDays() method.
+     */
+    public void testAddBusinessDays() {
+        final AnnualDateRule[] holidays = getHolidays();
+        final BusinessCalendar c = new BusinessCalendar(holidays, 2000, 2010);
+        final int first = SpreadsheetDate.toOrdinal(1, 1, 2000);
+        final int last = SpreadsheetDate.toOrdinal(31, 12, 2010);
+        final Random random = new Random(11L);
+        for (int i = 0; i < 500; i++) {
+            final int s = first + 400 + random.nextInt(last - first - 800);
+            final int days = random.nextInt(201) - 100;
+            int expected = s;
+            for (int n = Math.abs(days); n > 0; n--) {
+                expected += (days > 0) ? 1 : -1;
+                while (!c.isBusinessDay(expected)) {
+                    expected += (days > 0) ? 1 : -1;
+                }
+            }
+            assertEquals(expected, c.addBusinessDays(s, days));
+        }
+
+        // T+2 from Tuesday 24 December 2002 is Monday 30 December
+        assertEquals(DayDateFactory.make(30, 12, 2002), c.addBusinessDays(
+                DayDateFactory.make(24, 12, 2002), 2));
+        assertEquals(DayDateFactory.make(24, 12, 2002), c.addBusinessDays(
+                DayDateFactory.make(28, 12, 2002), -2));
+        assertEquals(first, c.addBusinessDays(first, 0));
+
+        try {
+            c.addBusinessDays(last, 1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            c.addBusinessDays(first, -1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            c.isBusinessDay(last + 1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks the arguments for the constructor.
+     */
+    public void testConstructor() {
+        try {
+            new BusinessCalendar(null, 2000, 2001);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new BusinessCalendar(getHolidays(), 2001, 2000);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        final BusinessCalendar c = new BusinessCalendar(
+                new AnnualDateRule[0], 9999, 9999);
+        assertEquals(9999, c.getStartYear());
+        assertEquals(9999, c.getEndYear());
+        assertTrue(c.isBusinessDay(SpreadsheetDate.LATEST_DATE_ORDINAL));
+    }
+
+}
@@ -0,0 +1,186 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * CachedAnnualDateRuleTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jfree.daydate.Day;
+import org.jfree.daydate.WeekdayRange;
+
+/**
+ * Tests for the {@link CachedAnnualDateRule} class.
+ */
+public class CachedAnnualDateRuleTest extends TestCase {
+
+    /**
+     * A rule that counts the number of times it is evaluated, and has no 
+     * date in odd years.
+     */
+    static class CountingRule extends AnnualDateRule {
+
+        /** The number of calls. */
+        int calls;
+
+        /**
+         * Returns 1 May for even years, and <code>null</code> for odd years.
+         *
+         * @param year  the year.
+         *
+         * @return The date.
+         */
+        public DayDate getDate(final int year) {
+            this.calls++;
+            if (year % 2 != 0) {
+                return null;
+            }
+            return new SpreadsheetDate(1, MonthConstants.MAY, year);
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CachedAnnualDateRuleTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CachedAnnualDateRuleTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * The cached rule gives the same dates as the wrapped rule.
+     */
+    public void testSameDates() {
+        final AnnualDateRule easter = new EasterSundayRule();
+        final AnnualDateRule cached = new CachedAnnualDateRule(easter);
+        final AnnualDateRule goodFriday = new RelativeDayOfWeekRule(cached, 
+                Day.FRIDAY.toInt(), WeekdayRange.LAST);
+        final AnnualDateRule goodFriday2 = new RelativeDayOfWeekRule(easter, 
+                Day.FRIDAY.toInt(), WeekdayRange.LAST);
+        for (int pass = 0; pass < 2; pass++) {
+            for (int year = 1900; year <= 9999; year++) {
+                assertEquals(easter.getOrdinal(year), cached.getOrdinal(year));
+                assertEquals(goodFriday2.getOrdinal(year), 
+                        goodFriday.getOrdinal(year));
+            }
+        }
+        assertEquals(easter.getDate(2002), cached.getDate(2002));
+        assertEquals(goodFriday2.getDate(2002), goodFriday.getDate(2002));
+    }
+
+    /**
+     * The wrapped rule is only evaluated once for each year in the range,
+     * including years with no date.
+     */
+    public void testCaching() {
+        final CountingRule rule = new CountingRule();
+        final CachedAnnualDateRule cached = new CachedAnnualDateRule(rule, 
+                2000, 2009);
+        for (int i = 0; i < 3; i++) {
+            for (int year = 2000; year <= 2009; year++) {
+                cached.getOrdinal(year);
+            }
+        }
+        assertEquals(10, rule.calls);
+        assertNull(cached.getDate(2001));
+        assertEquals(0, cached.getOrdinal(2001));
+        assertEquals(new SpreadsheetDate(1, MonthConstants.MAY, 2002), 
+                cached.getDate(2002));
+        assertEquals(10, rule.calls);
+
+        // years outside the range are not cached
+        cached.getOrdinal(2010);
+        cached.getOrdinal(2010);
+        assertEquals(12, rule.calls);
+
+        // clear() forgets the results
+        cached.clear();
+        cached.getOrdinal(2002);
+        assertEquals(13, rule.calls);
+    }
+
+    /**
+     * A clone has its own copy of the rule and its own cache.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        final CachedAnnualDateRule r1 = new CachedAnnualDateRule(
+                new DayAndMonthRule(25, MonthConstants.DECEMBER));
+        assertEquals(new SpreadsheetDate(25, MonthConstants.DECEMBER, 2002), 
+                r1.getDate(2002));
+        final CachedAnnualDateRule r2 = (CachedAnnualDateRule) r1.clone();
+        assertNotSame(r1.getRule(), r2.getRule());
+        ((DayAndMonthRule) r2.getRule()).setDayOfMonth(26);
+        assertEquals(new SpreadsheetDate(26, MonthConstants.DECEMBER, 2002), 
+                r2.getDate(2002));
+        assertEquals(new SpreadsheetDate(25, MonthConstants.DECEMBER, 2002), 
+                r1.getDate(2002));
+    }
+
+    /**
+     * Checks the arguments for the constructor.
+     */
+    public void testConstructor() {
+        try {
+            new CachedAnnualDateRule(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new CachedAnnualDateRule(new EasterSundayRule(), 1899, 2000);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -39,6 +39,8 @@
  * 16-Nov-2001 : Version 1 (DG);
  * 25-Jun-2002 : Added SerialDateUtilitiesTest (DG);
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Added BusinessCalendarTest, CachedAnnualDateRuleTest and
+ *               DateRangeCursorTest;
  *
  */
 
@@ -60,6 +62,9 @@ public class DatePackageTests extends TestCase {
      */
     public static Test suite() {
         final TestSuite suite = new TestSuite("org.jfree.date");
+        suite.addTestSuite(BusinessCalendarTest.class);
+        suite.addTestSuite(CachedAnnualDateRuleTest.class);
+        suite.addTestSuite(DateRangeCursorTest.class);
         suite.addTestSuite(DayDateTest.class);
         suite.addTestSuite(SerialDateUtilitiesTest.class);
         suite.addTestSuite(SpreadsheetDateTest.class);
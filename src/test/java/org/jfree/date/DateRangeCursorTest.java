@@ -0,0 +1,202 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * DateRangeCursorTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.date;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.jfree.daydate.DateInterval;
+import org.jfree.daydate.Day;
+import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.WeekInMonth;
+
+/**
+ * Tests for the {@link DateRangeCursor} class.
+ */
+public class DateRangeCursorTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DateRangeCursorTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DateRangeCursorTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Without filters the cursor visits every day, with the same fields as
+     * the dates.
+     */
+    public void testAllDays() {
+        final int start = SpreadsheetDate.toOrdinal(25, 12, 1999);
+        final int end = SpreadsheetDate.toOrdinal(10, 3, 2005);
+        final DateRangeCursor cursor = new DateRangeCursor(start, end);
+        int expected = start;
+        while (cursor.next()) {
+            final DayDate d = DayDateFactory.makeDate(expected);
+            assertEquals(expected, cursor.getSerial());
+            assertEquals(d.getDayOfMonth(), cursor.getDayOfMonth());
+            assertEquals(d.getMonth(), cursor.getMonth());
+            assertEquals(d.getYear(), cursor.getYear());
+            assertEquals(d.getDayOfWeek().toInt(), cursor.getDayOfWeek());
+            expected++;
+        }
+        assertEquals(end + 1, expected);
+        assertFalse(cursor.next());
+
+        // the last supported day
+        final DateRangeCursor c2 = new DateRangeCursor(
+                SpreadsheetDate.LATEST_DATE_ORDINAL - 1, 
+                SpreadsheetDate.LATEST_DATE_ORDINAL);
+        assertEquals(2, c2.toArray().length);
+    }
+
+    /**
+     * The end points are included according to the interval.
+     */
+    public void testInterval() {
+        assertEquals(11, new DateRangeCursor(110, 100).toArray().length);
+        assertEquals(9, new DateRangeCursor(100, 110, 
+                DateInterval.OPEN).toArray().length);
+        final int[] left = new DateRangeCursor(100, 110, 
+                DateInterval.CLOSED_LEFT).toArray();
+        assertEquals(10, left.length);
+        assertEquals(100, left[0]);
+        assertEquals(109, left[9]);
+        final int[] right = new DateRangeCursor(110, 100, 
+                DateInterval.CLOSED_RIGHT).toArray();
+        assertEquals(10, right.length);
+        assertEquals(101, right[0]);
+        assertEquals(0, new DateRangeCursor(100, 100, 
+                DateInterval.OPEN).toArray().length);
+        try {
+            new DateRangeCursor(1, 100);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The third Wednesday and last Friday of each month agree with 
+     * {@link DayOfWeekInMonthRule}.
+     */
+    public void testWeekInMonth() {
+        final DateRangeCursor cursor = new DateRangeCursor(
+                SpreadsheetDate.toOrdinal(1, 1, 2000), 
+                SpreadsheetDate.toOrdinal(31, 12, 2029));
+        cursor.setDaysOfWeek(new Day[] {Day.WEDNESDAY});
+        cursor.setWeekInMonth(WeekInMonth.THIRD);
+        int count = 0;
+        while (cursor.next()) {
+            final DayOfWeekInMonthRule rule = new DayOfWeekInMonthRule(
+                    WeekInMonth.THIRD.toInt(), Day.WEDNESDAY.toInt(), 
+                    cursor.getMonth());
+            assertEquals(rule.getOrdinal(cursor.getYear()), 
+                    cursor.getSerial());
+            count++;
+        }
+        assertEquals(360, count);
+
+        cursor.reset();
+        cursor.setDaysOfWeek(new Day[] {Day.FRIDAY});
+        cursor.setWeekInMonth(WeekInMonth.LAST);
+        count = 0;
+        while (cursor.next()) {
+            final DayOfWeekInMonthRule rule = new DayOfWeekInMonthRule(
+                    WeekInMonth.LAST.toInt(), Day.FRIDAY.toInt(), 
+                    cursor.getMonth());
+            assertEquals(rule.getOrdinal(cursor.getYear()), 
+                    cursor.getSerial());
+            count++;
+        }
+        assertEquals(360, count);
+    }
+
+    /**
+     * Some checks for the days-of-the-week and end-of-month filters.
+     */
+    public void testDaysOfWeekAndEndOfMonth() {
+        final int start = SpreadsheetDate.toOrdinal(1, 1, 2002);
+        final int end = SpreadsheetDate.toOrdinal(31, 12, 2002);
+        final DateRangeCursor cursor = new DateRangeCursor(start, end);
+        cursor.setDaysOfWeek(new Day[] {Day.SATURDAY, Day.SUNDAY});
+        int count = 0;
+        while (cursor.next()) {
+            final Day day = DayDateFactory.makeDate(
+                    cursor.getSerial()).getDayOfWeek();
+            assertTrue(day == Day.SATURDAY || day == Day.SUNDAY);
+            count++;
+        }
+        assertEquals(104, count);
+
+        final DateRangeCursor c2 = new DateRangeCursor(start, end);
+        c2.setEndOfMonth(true);
+        final int[] ends = c2.toArray();
+        assertEquals(12, ends.length);
+        for (int i = 0; i < ends.length; i++) {
+            final DayDate d = DayDateFactory.make(1, i + 1, 2002);
+            assertEquals(d.getEndOfMonth(d).getOrdinalDay(), ends[i]);
+        }
+
+        // month ends that are business days
+        c2.reset();
+        c2.setDaysOfWeek(new Day[] {Day.MONDAY, Day.TUESDAY, Day.WEDNESDAY,
+                Day.THURSDAY, Day.FRIDAY});
+        assertEquals(8, c2.toArray().length);
+        c2.setDaysOfWeek(null);
+        assertEquals(0, c2.toArray().length);
+        c2.reset();
+        assertEquals(12, c2.toArray().length);
+    }
+
+}
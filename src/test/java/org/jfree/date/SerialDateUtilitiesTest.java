@@ -38,6 +38,7 @@
  * -------
  * 25-Jun-2002 : Version 1 (DG);
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
+ * 17-Oct-2026 : Added tests for the serial number methods;
  *
  */
 
@@ -46,7 +47,12 @@ package org.jfree.date;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import org.jfree.daydate.Day;
 import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.WeekInMonth;
+import org.jfree.daydate.WeekdayRange;
+
+import java.util.Random;
 
 /**
  * Some tests for the SerialDateUtilities class.
@@ -122,4 +128,200 @@ public class SerialDateUtilitiesTest extends TestCase {
         assertEquals(1, count);
     }
 
+    /**
+     * Equal dates have a day count of zero.
+     */
+    public void testDayCount30EqualDates() {
+        final DayDate d = DayDateFactory.make(1, MonthConstants.APRIL, 2002);
+        assertEquals(0, SerialDateUtilities.dayCount30(d, d));
+        assertEquals(0, SerialDateUtilities.dayCount30(d.getOrdinalDay(), 
+                d.getOrdinalDay()));
+    }
+
+    /**
+     * Some checks for the countFeb29s() method.
+     */
+    public void testCountFeb29s() {
+        final DayDate d1 = DayDateFactory.make(1, MonthConstants.JANUARY, 2000);
+        final DayDate d2 = DayDateFactory.make(1, MonthConstants.JANUARY, 2009);
+        final DayDate d3 = DayDateFactory.make(29, MonthConstants.FEBRUARY, 2004);
+        assertEquals(3, SerialDateUtilities.countFeb29s(d1, d2));
+        assertEquals(3, SerialDateUtilities.countFeb29s(d2, d1));
+        assertEquals(1, SerialDateUtilities.countFeb29s(d3, d2));
+        assertEquals(2, SerialDateUtilities.countFeb29s(d1, d3));
+        assertEquals(0, SerialDateUtilities.countFeb29s(d3, d3));
+        assertEquals(3, SerialDateUtilities.countFeb29s(d1.getOrdinalDay(), 
+                d2.getOrdinalDay()));
+        assertEquals(1, SerialDateUtilities.countFeb29s(d3.getOrdinalDay(), 
+                d2.getOrdinalDay()));
+    }
+
+    /**
+     * The serial number methods give the same results as the methods that 
+     * take dates.
+     */
+    public void testSerialDayCounts() {
+        final Random random = new Random(20021231L);
+        for (int i = 0; i < 20000; i++) {
+            final int s1 = randomSerial(random);
+            final int s2 = (i % 10 == 0) ? s1 : randomSerial(random);
+            final DayDate d1 = DayDateFactory.makeDate(s1);
+            final DayDate d2 = DayDateFactory.makeDate(s2);
+            assertEquals(SerialDateUtilities.dayCountActual(d1, d2), 
+                    SerialDateUtilities.dayCountActual(s1, s2));
+            assertEquals(SerialDateUtilities.dayCount30(d1, d2), 
+                    SerialDateUtilities.dayCount30(s1, s2));
+            assertEquals(SerialDateUtilities.dayCount30ISDA(d1, d2), 
+                    SerialDateUtilities.dayCount30ISDA(s1, s2));
+            assertEquals(SerialDateUtilities.dayCount30PSA(d1, d2), 
+                    SerialDateUtilities.dayCount30PSA(s1, s2));
+            assertEquals(SerialDateUtilities.dayCount30E(d1, d2), 
+                    SerialDateUtilities.dayCount30E(s1, s2));
+            assertEquals(SerialDateUtilities.isLastDayOfFebruary(d1), 
+                    SerialDateUtilities.isLastDayOfFebruary(s1));
+            if (Math.abs(s1 - s2) < 3000) {
+                assertEquals(SerialDateUtilities.countFeb29s(d1, d2), 
+                        SerialDateUtilities.countFeb29s(s1, s2));
+            }
+        }
+    }
+
+    /**
+     * The array methods give the same results as the single value methods.
+     */
+    public void testArrayDayCounts() {
+        final Random random = new Random(42L);
+        final int[] starts = new int[500];
+        final int[] ends = new int[500];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = randomSerial(random);
+            ends[i] = randomSerial(random);
+        }
+        final int[] result = new int[500];
+        SerialDateUtilities.dayCountActual(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(ends[i] - starts[i], result[i]);
+        }
+        SerialDateUtilities.dayCount30(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(SerialDateUtilities.dayCount30(starts[i], ends[i]), 
+                    result[i]);
+        }
+        SerialDateUtilities.dayCount30ISDA(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(SerialDateUtilities.dayCount30ISDA(starts[i], 
+                    ends[i]), result[i]);
+        }
+        SerialDateUtilities.dayCount30PSA(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(SerialDateUtilities.dayCount30PSA(starts[i], 
+                    ends[i]), result[i]);
+        }
+        SerialDateUtilities.dayCount30E(starts, ends, result);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(SerialDateUtilities.dayCount30E(starts[i], ends[i]), 
+                    result[i]);
+        }
+
+        try {
+            SerialDateUtilities.dayCount30(starts, ends, new int[499]);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            SerialDateUtilities.dayCount30(null, ends, result);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the YYYYMMDD conversions.
+     */
+    public void testYYYYMMDD() {
+        final DayDate d = DayDateFactory.make(31, MonthConstants.DECEMBER, 2002);
+        assertEquals(20021231, SpreadsheetDate.toYYYYMMDD(d.getOrdinalDay()));
+        assertEquals(d.getOrdinalDay(), SpreadsheetDate.fromYYYYMMDD(20021231));
+        assertEquals(19000101, SpreadsheetDate.toYYYYMMDD(
+                SpreadsheetDate.EARLIEST_DATE_ORDINAL));
+        assertEquals(99991231, SpreadsheetDate.toYYYYMMDD(
+                SpreadsheetDate.LATEST_DATE_ORDINAL));
+        for (int s = SpreadsheetDate.EARLIEST_DATE_ORDINAL; 
+                s <= SpreadsheetDate.LATEST_DATE_ORDINAL; s += 97) {
+            assertEquals(s, SpreadsheetDate.fromYYYYMMDD(
+                    SpreadsheetDate.toYYYYMMDD(s)));
+            assertEquals(DayDateFactory.makeDate(s).getDayOfWeek().toInt(), 
+                    SpreadsheetDate.dayOfWeek(s));
+        }
+        try {
+            SpreadsheetDate.fromYYYYMMDD(20020230);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            SpreadsheetDate.toYYYYMMDD(1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The getOrdinal() method of each annual date rule agrees with getDate().
+     */
+    public void testAnnualDateRuleOrdinals() {
+        final AnnualDateRule easter = new EasterSundayRule();
+        final AnnualDateRule[] rules = new AnnualDateRule[] {
+            easter,
+            new DayAndMonthRule(1, MonthConstants.MARCH),
+            new DayAndMonthRule(25, MonthConstants.DECEMBER),
+            new DayOfWeekInMonthRule(WeekInMonth.FIRST.toInt(), 
+                    Day.MONDAY.toInt(), MonthConstants.SEPTEMBER),
+            new DayOfWeekInMonthRule(WeekInMonth.FOURTH.toInt(), 
+                    Day.THURSDAY.toInt(), MonthConstants.NOVEMBER),
+            new DayOfWeekInMonthRule(WeekInMonth.LAST.toInt(), 
+                    Day.MONDAY.toInt(), MonthConstants.MAY),
+            new RelativeDayOfWeekRule(easter, Day.FRIDAY.toInt(), 
+                    WeekdayRange.LAST),
+            new RelativeDayOfWeekRule(easter, Day.SUNDAY.toInt(), 
+                    WeekdayRange.NEAREST),
+            new RelativeDayOfWeekRule(easter, Day.WEDNESDAY.toInt(), 
+                    WeekdayRange.NEAREST),
+            new RelativeDayOfWeekRule(easter, Day.MONDAY.toInt(), 
+                    WeekdayRange.NEXT)
+        };
+        for (int r = 0; r < rules.length; r++) {
+            for (int year = 1900; year <= 9999; year += 7) {
+                assertEquals(rules[r].getDate(year).getOrdinalDay(), 
+                        rules[r].getOrdinal(year));
+            }
+        }
+    }
+
+    /**
+     * Returns a random serial number, choosing the last days of months 
+     * (the interesting cases for the 30/360 conventions) more often.
+     *
+     * @param random  the random number generator.
+     *
+     * @return A serial number.
+     */
+    private static int randomSerial(final Random random) {
+        final int serial = SpreadsheetDate.EARLIEST_DATE_ORDINAL + random.nextInt(
+                SpreadsheetDate.LATEST_DATE_ORDINAL 
+                - SpreadsheetDate.EARLIEST_DATE_ORDINAL + 1);
+        if (random.nextBoolean()) {
+            return serial;
+        }
+        final DayDate d = DayDateFactory.makeDate(serial);
+        return d.getEndOfMonth(d).getOrdinalDay();
+    }
+
 }
@@ -39,6 +39,8 @@
  * 15-Nov-2001 : Version 1 (DG);
  * 24-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 29-Aug-2006 : Added checks for get/setDescription (DG);
+ * 17-Oct-2026 : Added tests for the full serial range, toOrdinal() and
+ *               the factory cache;
  *
  */
 
@@ -47,7 +49,12 @@ package org.jfree.date;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import org.jfree.daydate.DateUtil;
 import org.jfree.daydate.Day;
+import org.jfree.daydate.DayDateFactory;
+import org.jfree.daydate.Month;
+import org.jfree.daydate.SpreadSheetDateFactory;
+import org.jfree.daydate.WeekdayRange;
 
 import java.io.*;
 
@@ -316,4 +323,125 @@ public class SpreadsheetDateTest extends TestCase {
         assertEquals(d1, d2);
 
     }
+
+    /**
+     * Decode every serial number in the supported range and check it 
+     * against a day-by-day count from 1 January 1900.
+     */
+    public void testFullRange() {
+        int day = 1;
+        int month = 1;
+        int year = 1900;
+        for (int serial = SpreadsheetDate.EARLIEST_DATE_ORDINAL; 
+                serial <= SpreadsheetDate.LATEST_DATE_ORDINAL; serial++) {
+            final SpreadsheetDate d = new SpreadsheetDate(serial);
+            if (d.getDayOfMonth() != day || d.getMonth() != month 
+                    || d.getYear() != year) {
+                fail("Serial " + serial + " decoded as " + d.getDayOfMonth() 
+                        + "/" + d.getMonth() + "/" + d.getYear());
+            }
+            assertEquals(serial, SpreadsheetDate.toOrdinal(day, month, year));
+            day++;
+            if (day > DateUtil.lastDayOfMonth(Month.fromInt(month), year)) {
+                day = 1;
+                month++;
+                if (month > 12) {
+                    month = 1;
+                    year++;
+                }
+            }
+        }
+        assertEquals(10000, year);
+    }
+
+    /**
+     * Some checks for the toOrdinal() method.
+     */
+    public void testToOrdinal() {
+        assertEquals(2, SpreadsheetDate.toOrdinal(1, 1, 1900));
+        assertEquals(36585, SpreadsheetDate.toOrdinal(29, 2, 2000));
+        assertEquals(2958465, SpreadsheetDate.toOrdinal(31, 12, 9999));
+        try {
+            SpreadsheetDate.toOrdinal(29, 2, 1900);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            SpreadsheetDate.toOrdinal(1, 13, 2000);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            SpreadsheetDate.toOrdinal(1, 1, 10000);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The serial number methods agree with the {@link DayDate} methods for
+     * days of the week and the end of the month.
+     */
+    public void testRelativeDayOfWeekAndEndOfMonth() {
+        for (int s = 40000; s < 40400; s++) {
+            final DayDate d = DayDateFactory.makeDate(s);
+            assertEquals(d.getEndOfMonth(d).getOrdinalDay(), 
+                    SpreadsheetDate.endOfMonth(s));
+            for (int i = 0; i < 7; i++) {
+                final Day day = Day.fromInt(Day.SUNDAY.toInt() + i);
+                assertEquals(d.getPreviousDayOfWeek(day).getOrdinalDay(), 
+                        SpreadsheetDate.relativeDayOfWeek(s, day.toInt(), 
+                        WeekdayRange.LAST));
+                assertEquals(d.getNearestDayOfWeek(day).getOrdinalDay(), 
+                        SpreadsheetDate.relativeDayOfWeek(s, day.toInt(), 
+                        WeekdayRange.NEAREST));
+                assertEquals(d.getFollowingDayOfWeek(day).getOrdinalDay(), 
+                        SpreadsheetDate.relativeDayOfWeek(s, day.toInt(), 
+                        WeekdayRange.NEXT));
+            }
+        }
+        try {
+            SpreadsheetDate.relativeDayOfWeek(
+                    SpreadsheetDate.EARLIEST_DATE_ORDINAL, 
+                    Day.SUNDAY.toInt(), WeekdayRange.LAST);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The factory hands out the same instance for a date while it is cached.
+     */
+    public void testFactoryCache() {
+        final DayDate d1 = DayDateFactory.makeDate(40000);
+        assertSame(d1, DayDateFactory.makeDate(40000));
+        final DayDate d2 = d1.plusDays(1);
+        assertEquals(40001, d2.getOrdinalDay());
+        assertSame(d2, DayDateFactory.make(d2.getDayOfMonth(), d2.getMonth(), 
+                d2.getYear()));
+
+        // a date with the same cache slot replaces the first one
+        final int other = 40000 + SpreadSheetDateFactory.CACHE_SIZE;
+        final DayDate d3 = DayDateFactory.makeDate(other);
+        assertEquals(other, d3.getOrdinalDay());
+        final DayDate d4 = DayDateFactory.makeDate(40000);
+        assertEquals(d1, d4);
+        assertNotSame(d1, d4);
+
+        try {
+            DayDateFactory.makeDate(1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
 }
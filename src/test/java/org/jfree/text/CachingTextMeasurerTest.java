@@ -0,0 +1,173 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * CachingTextMeasurerTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextAttribute;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link CachingTextMeasurer} class.
+ */
+public class CachingTextMeasurerTest extends TestCase {
+
+    /** The font. */
+    private static final Font FONT = new Font("SansSerif", Font.PLAIN, 12);
+
+    /** The font render context. */
+    private static final FontRenderContext FRC = new FontRenderContext(null,
+            false, false);
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CachingTextMeasurerTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CachingTextMeasurerTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the width of a range of text measured by the font.
+     *
+     * @param font  the font.
+     * @param text  the text.
+     * @param start  the start index.
+     * @param end  the end index.
+     *
+     * @return The width.
+     */
+    private static float expectedWidth(Font font, String text, int start,
+            int end) {
+        return (float) font.getStringBounds(text, start, end,
+                FRC).getWidth();
+    }
+
+    /**
+     * Simple text is measured as the sum of its advances.
+     */
+    public void testSimpleText() {
+        String text = "Revenue (USD millions), 2026";
+        TextMeasurer m = new CachingTextMeasurer(FONT, FRC);
+        assertEquals(expectedWidth(FONT, text, 0, text.length()),
+                m.getStringWidth(text, 0, text.length()), 0.01f);
+        assertEquals(expectedWidth(FONT, text, 8, 11),
+                m.getStringWidth(text, 8, 11), 0.01f);
+        assertEquals(0.0f, m.getStringWidth(text, 5, 5), 0.0f);
+
+        // a second measurer shares the cached advances
+        TextMeasurer m2 = new CachingTextMeasurer(FONT, FRC);
+        assertEquals(m.getStringWidth(text, 0, text.length()),
+                m2.getStringWidth(text, 0, text.length()), 0.0f);
+    }
+
+    /**
+     * Complex text and kerned fonts fall back to full layout.
+     */
+    public void testLayoutFallback() {
+        String text = "\u00e9t\u00e9 \u05e9\u05dc\u05d5\u05dd";
+        TextMeasurer m = new CachingTextMeasurer(FONT, FRC);
+        assertEquals(expectedWidth(FONT, text, 0, text.length()),
+                m.getStringWidth(text, 0, text.length()), 0.0f);
+
+        Map attributes = new HashMap();
+        attributes.put(TextAttribute.KERNING, TextAttribute.KERNING_ON);
+        Font kerned = FONT.deriveFont(attributes);
+        String word = "AVAWATAY";
+        m = new CachingTextMeasurer(kerned, FRC);
+        assertEquals(expectedWidth(kerned, word, 0, word.length()),
+                m.getStringWidth(word, 0, word.length()), 0.0f);
+    }
+
+    /**
+     * The measurer follows the font of a graphics device.
+     */
+    public void testGraphicsFont() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setFont(FONT);
+        TextMeasurer m = new CachingTextMeasurer(g2);
+        float w1 = m.getStringWidth("Hello", 0, 5);
+        g2.setFont(FONT.deriveFont(24.0f));
+        float w2 = m.getStringWidth("Hello", 0, 5);
+        assertTrue(w2 > w1 * 1.5f);
+        g2.dispose();
+    }
+
+    /**
+     * A word wider than the line is broken at the last character that fits,
+     * as with the G2TextMeasurer.
+     */
+    public void testLongWordBreak() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setFont(FONT);
+        String text = "Supercalifragilisticexpialidocious is long";
+        TextBlock b1 = TextUtilities.createTextBlock(text, FONT, Color.black,
+                40.0f, new CachingTextMeasurer(g2));
+        TextBlock b2 = TextUtilities.createTextBlock(text, FONT, Color.black,
+                40.0f, new G2TextMeasurer(g2));
+        assertEquals(b2, b1);
+        assertTrue(b1.getLines().size() > 3);
+        g2.dispose();
+    }
+
+}
@@ -0,0 +1,190 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * GlyphRunCacheTest.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.ui.TextAnchor;
+
+/**
+ * Tests for the {@link GlyphRunCache} class.
+ */
+public class GlyphRunCacheTest extends TestCase {
+
+    /** The graphics device. */
+    private Graphics2D g2;
+
+    /** The cache in use before the test. */
+    private GlyphRunCache saved;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(GlyphRunCacheTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public GlyphRunCacheTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the graphics device.
+     */
+    protected void setUp() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        this.g2 = image.createGraphics();
+        this.g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        this.saved = TextUtilities.getGlyphRunCache();
+    }
+
+    /**
+     * Restores the shared cache.
+     */
+    protected void tearDown() {
+        TextUtilities.setGlyphRunCache(this.saved);
+        this.g2.dispose();
+    }
+
+    /**
+     * Repeated bounds calculations hit the cache.
+     */
+    public void testHitsAndMisses() {
+        GlyphRunCache cache = new GlyphRunCache();
+        TextUtilities.setGlyphRunCache(cache);
+        TextUtilities.calculateRotatedStringBounds("Axis", this.g2, 0.0f,
+                0.0f, 1.0, 0.0f, 0.0f);
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        TextUtilities.calculateRotatedStringBounds("Axis", this.g2, 5.0f,
+                5.0f, 0.5, 0.0f, 0.0f);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1, cache.getSize());
+
+        this.g2.setFont(new Font("Serif", Font.BOLD, 14));
+        TextUtilities.calculateRotatedStringBounds("Axis", this.g2, 0.0f,
+                0.0f, 1.0, 0.0f, 0.0f);
+        assertEquals(2L, cache.getMissCount());
+        assertEquals(2, cache.getSize());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(0L, cache.getMissCount());
+    }
+
+    /**
+     * The cache does not grow past its capacity.
+     */
+    public void testEviction() {
+        GlyphRunCache cache = new GlyphRunCache(16);
+        TextUtilities.setGlyphRunCache(cache);
+        for (int i = 0; i < 100; i++) {
+            TextUtilities.calculateRotatedStringBounds("Label " + i,
+                    this.g2, 0.0f, 0.0f, 1.0, 0.0f, 0.0f);
+            assertTrue(cache.getSize() <= 16);
+        }
+        // the most recent entry survives
+        TextUtilities.calculateRotatedStringBounds("Label 99", this.g2,
+                0.0f, 0.0f, 1.0, 0.0f, 0.0f);
+        assertEquals(1L, cache.getHitCount());
+    }
+
+    /**
+     * Cached and uncached results are the same.
+     */
+    public void testSameResults() {
+        TextUtilities.setGlyphRunCache(null);
+        Shape s1 = TextUtilities.calculateRotatedStringBounds("Value",
+                this.g2, 10.0f, 20.0f, TextAnchor.CENTER, 1.2,
+                TextAnchor.BOTTOM_RIGHT);
+        TextUtilities.setGlyphRunCache(new GlyphRunCache());
+        Shape s2 = TextUtilities.calculateRotatedStringBounds("Value",
+                this.g2, 10.0f, 20.0f, TextAnchor.CENTER, 1.2,
+                TextAnchor.BOTTOM_RIGHT);
+        Shape s3 = TextUtilities.calculateRotatedStringBounds("Value",
+                this.g2, 10.0f, 20.0f, TextAnchor.CENTER, 1.2,
+                TextAnchor.BOTTOM_RIGHT);
+        assertEquals(s1.getBounds2D(), s2.getBounds2D());
+        assertEquals(s1.getBounds2D(), s3.getBounds2D());
+
+        boolean workaround = TextUtilities.isUseDrawRotatedStringWorkaround();
+        try {
+            TextUtilities.setUseDrawRotatedStringWorkaround(true);
+            TextUtilities.drawRotatedString("Value", this.g2, 10.0f, 20.0f,
+                    TextAnchor.CENTER, 1.2, TextAnchor.BOTTOM_RIGHT);
+            TextUtilities.drawRotatedString("Value", this.g2, 10.0f, 20.0f,
+                    TextAnchor.CENTER, 1.2, TextAnchor.BOTTOM_RIGHT);
+        }
+        finally {
+            TextUtilities.setUseDrawRotatedStringWorkaround(workaround);
+        }
+    }
+
+    /**
+     * A capacity of zero is rejected.
+     */
+    public void testConstructor() {
+        try {
+            new GlyphRunCache(0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -37,11 +37,17 @@
  * Changes:
  * --------
  * 22-Mar-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added test for cached dimensions;
  *
  */
 
 package org.jfree.text;
 
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -53,6 +59,8 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.ui.Size2D;
+
 /**
  * Tests for the {@link TextBlock} class.
  */
@@ -116,4 +124,79 @@ public class TextBlockTest extends TestCase {
 
     }
 
+    /**
+     * A fragment that counts the number of times it is measured.
+     */
+    static class CountingFragment extends TextFragment {
+
+        /** The number of measurements. */
+        int count;
+
+        /**
+         * Creates a new fragment.
+         *
+         * @param text  the text.
+         */
+        CountingFragment(String text) {
+            super(text, new Font("SansSerif", Font.PLAIN, 12), Color.black);
+        }
+
+        /**
+         * Counts and performs the measurement.
+         *
+         * @param g2  the graphics device.
+         *
+         * @return The dimensions.
+         */
+        public Size2D calculateDimensions(Graphics2D g2) {
+            this.count++;
+            return super.calculateDimensions(g2);
+        }
+
+    }
+
+    /**
+     * The dimensions are measured once per font render context, and again
+     * after the text changes.
+     */
+    public void testCachedDimensions() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        CountingFragment f1 = new CountingFragment("Hello");
+        TextLine line = new TextLine();
+        line.addFragment(f1);
+        TextBlock block = new TextBlock();
+        block.addLine(line);
+
+        Size2D d1 = block.calculateDimensions(g2);
+        d1.setWidth(-1.0);  // the cached value must not change
+        Size2D d2 = block.calculateDimensions(g2);
+        block.calculateBounds(g2, 0.0f, 0.0f, TextBlockAnchor.CENTER, 0.0f,
+                0.0f, 0.0);
+        assertEquals(1, f1.count);
+        assertTrue(d2.getWidth() > 0.0);
+
+        // a change to a line is seen by the block
+        CountingFragment f2 = new CountingFragment(" World");
+        line.addFragment(f2);
+        Size2D d3 = block.calculateDimensions(g2);
+        assertEquals(2, f1.count);
+        assertTrue(d3.getWidth() > d2.getWidth());
+
+        // ...and so is a new line
+        block.addLine("Second line of text", f1.getFont(), Color.black);
+        Size2D d4 = block.calculateDimensions(g2);
+        assertEquals(2, f1.count);
+        assertTrue(d4.getWidth() > d3.getWidth());
+
+        // a different font render context measures again
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        block.calculateDimensions(g2);
+        assertEquals(3, f1.count);
+        assertEquals(2, f2.count);
+        g2.dispose();
+    }
+
 }
@@ -37,6 +37,9 @@
  * Changes:
  * --------
  * 22-Mar-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added tests for CachingTextMeasurer class;
+ * 16-Oct-2026 : Added tests for TextUtilities class;
+ * 16-Oct-2026 : Added tests for GlyphRunCache class;
  *
  */
 
@@ -60,11 +63,14 @@ public class TextPackageTests extends TestCase {
      */
     public static Test suite() {
         final TestSuite suite = new TestSuite("org.jfree.text");
+        suite.addTestSuite(CachingTextMeasurerTest.class);
+        suite.addTestSuite(GlyphRunCacheTest.class);
         suite.addTestSuite(TextBlockTest.class);
         suite.addTestSuite(TextBlockAnchorTest.class);
         suite.addTestSuite(TextBoxTest.class);
         suite.addTestSuite(TextFragmentTest.class);
         suite.addTestSuite(TextLineTest.class);
+        suite.addTestSuite(TextUtilitiesTest.class);
         return suite;
     }
 
@@ -0,0 +1,200 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * TextUtilitiesTest.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testCreateGlyphRunCache();
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.ui.Size2D;
+
+/**
+ * Tests for the {@link TextUtilities} class.
+ */
+public class TextUtilitiesTest extends TestCase {
+
+    /** The font. */
+    private static final Font FONT = new Font("SansSerif", Font.PLAIN, 12);
+
+    /** The graphics device. */
+    private Graphics2D g2;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TextUtilitiesTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TextUtilitiesTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the graphics device.
+     */
+    protected void setUp() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        this.g2 = image.createGraphics();
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    protected void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Returns some labels.
+     *
+     * @param count  the number of labels.
+     *
+     * @return The labels.
+     */
+    private static List createLabels(int count) {
+        List result = new ArrayList();
+        for (int i = 0; i < count; i++) {
+            result.add("Category " + i + (i % 3 == 0
+                    ? " with a rather long description" : ""));
+        }
+        return result;
+    }
+
+    /**
+     * The batch method gives the same blocks and dimensions as laying out
+     * each string on its own.
+     */
+    public void testCreateTextBlocks() {
+        List labels = createLabels(50);
+        Size2D[] dimensions = new Size2D[labels.size()];
+        TextBlock[] blocks = TextUtilities.createTextBlocks(labels, FONT,
+                Color.black, 60.0f, 2, this.g2, dimensions, null);
+        assertEquals(labels.size(), blocks.length);
+        TextMeasurer measurer = new CachingTextMeasurer(FONT,
+                this.g2.getFontRenderContext());
+        for (int i = 0; i < blocks.length; i++) {
+            TextBlock expected = TextUtilities.createTextBlock(
+                    (String) labels.get(i), FONT, Color.black, 60.0f, 2,
+                    measurer);
+            assertEquals(expected, blocks[i]);
+            assertEquals(blocks[i].calculateDimensions(this.g2),
+                    dimensions[i]);
+        }
+    }
+
+    /**
+     * Laying out the strings on several threads gives the same result as on
+     * the calling thread.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testCreateTextBlocksInParallel()
+            throws InterruptedException {
+        List labels = createLabels(2000);
+        Size2D[] d1 = new Size2D[labels.size()];
+        Size2D[] d2 = new Size2D[labels.size()];
+        TextBlock[] b1 = TextUtilities.createTextBlocks(labels, FONT,
+                Color.black, 60.0f, 3, this.g2, d1, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TextBlock[] b2 = TextUtilities.createTextBlocks(labels, FONT,
+                    Color.black, 60.0f, 3, this.g2, d2, executor);
+            for (int i = 0; i < b1.length; i++) {
+                assertEquals(b1[i], b2[i]);
+                assertEquals(d1[i], d2[i]);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Null strings are rejected.
+     */
+    public void testCreateTextBlocksNull() {
+        List labels = new ArrayList();
+        labels.add("A");
+        labels.add(null);
+        try {
+            TextUtilities.createTextBlocks(labels, FONT, Color.black, 60.0f,
+                    2, this.g2, null, null);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A malformed cache size falls back to the default capacity, and zero
+     * disables the cache.
+     */
+    public void testCreateGlyphRunCache() {
+        assertEquals(GlyphRunCache.DEFAULT_CAPACITY, 
+                TextUtilities.createGlyphRunCache(null).getCapacity());
+        assertEquals(GlyphRunCache.DEFAULT_CAPACITY, 
+                TextUtilities.createGlyphRunCache("lots").getCapacity());
+        assertEquals(10, 
+                TextUtilities.createGlyphRunCache(" 10 ").getCapacity());
+        assertNull(TextUtilities.createGlyphRunCache("0"));
+    }
+
+}
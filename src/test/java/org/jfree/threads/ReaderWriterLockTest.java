@@ -0,0 +1,239 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ReaderWriterLockTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Wait longer when a lock is expected to be acquired;
+ *
+ */
+
+package org.jfree.threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link ReaderWriterLock} class.
+ */
+public class ReaderWriterLockTest extends TestCase {
+
+    /** 
+     * The time (in milliseconds) to wait for a lock that should be acquired. 
+     * This is generous, so that a slow machine does not fail the test. 
+     */
+    private static final long ACQUIRE_TIMEOUT = 10000L;
+
+    /** 
+     * The time (in milliseconds) to wait before deciding that a lock is 
+     * blocked. 
+     */
+    private static final long BLOCK_TIMEOUT = 200L;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ReaderWriterLockTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ReaderWriterLockTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that another thread can acquire a lock.
+     *
+     * @param lock  the lock.
+     * @param write  acquire the write lock?
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private void assertAcquired(final ReaderWriterLock lock, 
+            final boolean write) throws InterruptedException {
+        assertTrue(acquiredByOtherThread(lock, write, ACQUIRE_TIMEOUT));
+    }
+
+    /**
+     * Checks that another thread cannot acquire a lock (it stays queued, and
+     * gets the lock once the lock is released).
+     *
+     * @param lock  the lock.
+     * @param write  acquire the write lock?
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private void assertBlocked(final ReaderWriterLock lock, 
+            final boolean write) throws InterruptedException {
+        assertFalse(acquiredByOtherThread(lock, write, BLOCK_TIMEOUT));
+    }
+
+    /**
+     * Tries to acquire a lock from another thread and reports whether it
+     * succeeded within the timeout.  The lock is released again by the other
+     * thread.
+     *
+     * @param lock  the lock.
+     * @param write  acquire the write lock?
+     * @param timeout  the time to wait (in milliseconds).
+     *
+     * @return A boolean.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private boolean acquiredByOtherThread(final ReaderWriterLock lock,
+            final boolean write, final long timeout) 
+            throws InterruptedException {
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread t = new Thread() {
+            public void run() {
+                if (write) {
+                    lock.lockWrite();
+                }
+                else {
+                    lock.lockRead();
+                }
+                acquired.countDown();
+                lock.unlock();
+            }
+        };
+        t.setDaemon(true);
+        t.start();
+        return acquired.await(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Several threads can hold the read lock, but the write lock excludes
+     * them.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testSharedAndExclusive() throws InterruptedException {
+        ReaderWriterLock lock = new ReaderWriterLock();
+        lock.lockRead();
+        assertAcquired(lock, false);
+        assertBlocked(lock, true);
+        lock.unlock();
+
+        // the queued writer gets the lock once the read lock is released
+        lock.lockWrite();
+        lock.unlock();
+
+        lock.lockWrite();
+        assertBlocked(lock, false);
+        lock.unlock();
+    }
+
+    /**
+     * Both locks are reentrant, and need one unlock per acquire.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testReentrancy() throws InterruptedException {
+        ReaderWriterLock lock = new ReaderWriterLock();
+        lock.lockWrite();
+        lock.lockWrite();
+        lock.unlock();
+        assertTrue(lock.isWriteLockedByCurrentThread());
+        lock.unlock();
+        assertFalse(lock.isWriteLockedByCurrentThread());
+
+        lock.lockRead();
+        lock.lockRead();
+        assertEquals(2, lock.getReadHoldCount());
+        lock.unlock();
+        lock.unlock();
+        assertEquals(0, lock.getReadHoldCount());
+        assertAcquired(lock, true);
+    }
+
+    /**
+     * A write lock can be downgraded to a read lock.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public void testDowngrade() throws InterruptedException {
+        ReaderWriterLock lock = new ReaderWriterLock();
+        lock.lockWrite();
+        lock.lockRead();
+        lock.unlock();
+        assertFalse(lock.isWriteLockedByCurrentThread());
+        assertEquals(1, lock.getReadHoldCount());
+        assertAcquired(lock, false);
+        lock.unlock();
+        assertAcquired(lock, true);
+    }
+
+    /**
+     * Upgrading a read lock is not supported.
+     */
+    public void testUpgrade() {
+        ReaderWriterLock lock = new ReaderWriterLock();
+        lock.lockRead();
+        try {
+            lock.lockWrite();
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        lock.unlock();
+    }
+
+    /**
+     * Unlocking a lock that is not held is an error.
+     */
+    public void testUnlockNotHeld() {
+        ReaderWriterLock lock = new ReaderWriterLock(true);
+        try {
+            lock.unlock();
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,274 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * AsyncLogTargetTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link AsyncLogTarget} class.
+ */
+public class AsyncLogTargetTest extends TestCase {
+
+    /**
+     * A log target that records the messages it receives, optionally
+     * waiting for a latch before the first one.
+     */
+    static class RecordingLogTarget implements LogTarget {
+
+        /** The messages. */
+        final List messages = new ArrayList();
+
+        /** The latch to wait for (<code>null</code> permitted). */
+        final CountDownLatch gate;
+
+        /**
+         * Creates a new target.
+         *
+         * @param gate  the latch to wait for (<code>null</code> permitted).
+         */
+        RecordingLogTarget(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the message.
+         */
+        public void log(int level, Object message) {
+            if (this.gate != null) {
+                try {
+                    this.gate.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this.messages) {
+                this.messages.add(message);
+            }
+        }
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the message.
+         * @param e  the exception.
+         */
+        public void log(int level, Object message, Exception e) {
+            log(level, message + ": " + e.getMessage());
+        }
+
+        /**
+         * Returns a copy of the messages.
+         *
+         * @return The messages.
+         */
+        List getMessages() {
+            synchronized (this.messages) {
+                return new ArrayList(this.messages);
+            }
+        }
+
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(AsyncLogTargetTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public AsyncLogTargetTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Messages are delivered in order, from several threads.
+     */
+    public void testOrderAndFlush() throws InterruptedException {
+        RecordingLogTarget recorder = new RecordingLogTarget(null);
+        final AsyncLogTarget target = new AsyncLogTarget(recorder, 16,
+                AsyncLogTarget.OVERFLOW_BLOCK, 1);
+        assertEquals(16, target.getCapacity());
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final String prefix = "T" + t + "-";
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        target.log(LogTarget.INFO, prefix + i);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        target.log(LogTarget.ERROR, "Failed", new Exception("reason"));
+        target.flush();
+        List messages = recorder.getMessages();
+        assertEquals(4001, messages.size());
+        assertEquals("Failed: reason", messages.get(4000));
+        // the messages from each thread arrive in the order they were sent
+        int[] next = new int[threads.length];
+        for (int i = 0; i < 4000; i++) {
+            String m = (String) messages.get(i);
+            int t = m.charAt(1) - '0';
+            assertEquals("T" + t + "-" + next[t], m);
+            next[t]++;
+        }
+        assertEquals(0L, target.getDroppedCount());
+        target.close();
+    }
+
+    /**
+     * With the drop policy, messages that find the buffer full are
+     * discarded and counted.
+     */
+    public void testDrop() {
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingLogTarget recorder = new RecordingLogTarget(gate);
+        AsyncLogTarget target = new AsyncLogTarget(recorder, 4,
+                AsyncLogTarget.OVERFLOW_DROP, 1);
+        // the worker takes at most one message and then waits on the gate,
+        // so at least 100 - 4 - 1 messages are dropped
+        for (int i = 0; i < 100; i++) {
+            target.log(LogTarget.WARN, "M" + i);
+        }
+        assertTrue(target.getDroppedCount() >= 95);
+        gate.countDown();
+        target.close();
+        assertEquals(100L, recorder.getMessages().size()
+                + target.getDroppedCount());
+        assertEquals("M0", recorder.getMessages().get(0));
+    }
+
+    /**
+     * With the sample policy, one in every n overflowing messages is kept.
+     */
+    public void testSample() {
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingLogTarget recorder = new RecordingLogTarget(gate);
+        final AsyncLogTarget target = new AsyncLogTarget(recorder, 4,
+                AsyncLogTarget.OVERFLOW_SAMPLE, 10);
+        for (int i = 0; i < 10; i++) {
+            target.log(LogTarget.WARN, "M" + i);
+        }
+        long dropped = target.getDroppedCount();
+        assertTrue(dropped > 0);
+        gate.countDown();
+        target.close();
+        assertEquals(10L, recorder.getMessages().size() + dropped);
+    }
+
+    /**
+     * After close() messages are delivered on the caller's thread.
+     */
+    public void testClose() {
+        RecordingLogTarget recorder = new RecordingLogTarget(null);
+        AsyncLogTarget target = new AsyncLogTarget(recorder);
+        target.log(LogTarget.DEBUG, "A");
+        target.close();
+        assertEquals(1, recorder.getMessages().size());
+        target.log(LogTarget.DEBUG, "B");
+        assertEquals(2, recorder.getMessages().size());
+    }
+
+    /**
+     * Messages in a reused buffer are copied before they are queued.
+     */
+    public void testCharSequenceMessage() {
+        RecordingLogTarget recorder = new RecordingLogTarget(null);
+        AsyncLogTarget target = new AsyncLogTarget(recorder);
+        StringBuilder buffer = new StringBuilder("first");
+        target.log(LogTarget.INFO, buffer);
+        buffer.setLength(0);
+        buffer.append("second");
+        target.log(LogTarget.INFO, buffer);
+        target.close();
+        assertEquals("first", recorder.getMessages().get(0));
+        assertEquals("second", recorder.getMessages().get(1));
+    }
+
+    /**
+     * Checks the constructor arguments.
+     */
+    public void testConstructor() {
+        RecordingLogTarget recorder = new RecordingLogTarget(null);
+        try {
+            new AsyncLogTarget(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new AsyncLogTarget(recorder, 16, 3, 1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        AsyncLogTarget target = new AsyncLogTarget(recorder, 100,
+                AsyncLogTarget.OVERFLOW_DROP, 1);
+        assertEquals(128, target.getCapacity());
+        assertSame(recorder, target.getTarget());
+        target.close();
+    }
+
+}
@@ -0,0 +1,232 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * BooleanBitListTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link BooleanBitList} class.
+ */
+public class BooleanBitListTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BooleanBitListTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BooleanBitListTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for getBoolean() and setBoolean(), including growth.
+     */
+    public void testGetAndSet() {
+        final BooleanBitList l = new BooleanBitList();
+        assertEquals(0, l.size());
+        assertFalse(l.getBoolean(0));
+        l.setBoolean(3, true);
+        l.setBoolean(1000, true);
+        assertEquals(1001, l.size());
+        assertTrue(l.getBoolean(3));
+        assertTrue(l.getBoolean(1000));
+        assertFalse(l.getBoolean(999));
+        assertFalse(l.getBoolean(-1));
+        assertFalse(l.getBoolean(5000));
+        assertEquals(Boolean.FALSE, l.getValue(4));
+        assertNull(l.getValue(1001));
+        l.setBoolean(3, false);
+        assertFalse(l.getBoolean(3));
+        try {
+            l.setBoolean(-1, true);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            l.setValue(2, null);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        l.clear();
+        assertEquals(0, l.size());
+        assertFalse(l.getBoolean(1000));
+    }
+
+    /**
+     * Checks the null values in a tri-state list.
+     */
+    public void testTriState() {
+        final BooleanBitList l = new BooleanBitList(true);
+        l.setValue(0, Boolean.TRUE);
+        l.setValue(1, Boolean.FALSE);
+        l.setValue(70, null);
+        assertEquals(71, l.size());
+        assertEquals(Boolean.TRUE, l.getValue(0));
+        assertEquals(Boolean.FALSE, l.getValue(1));
+        assertNull(l.getValue(2));
+        assertNull(l.getValue(70));
+        assertTrue(l.isNull(70));
+        assertFalse(l.isNull(1));
+        l.setValue(0, null);
+        assertNull(l.getValue(0));
+        assertFalse(l.getBoolean(0));
+    }
+
+    /**
+     * Checks the bulk operations across word boundaries.
+     */
+    public void testCardinalityAndNextSetBit() {
+        final BooleanBitList l = new BooleanBitList();
+        assertEquals(-1, l.nextSetBit(0));
+        assertEquals(0, l.nextClearBit(0));
+        for (int i = 60; i < 130; i++) {
+            l.setBoolean(i, true);
+        }
+        l.setBoolean(500, true);
+        assertEquals(71, l.cardinality());
+        assertEquals(60, l.nextSetBit(0));
+        assertEquals(64, l.nextSetBit(64));
+        assertEquals(500, l.nextSetBit(130));
+        assertEquals(-1, l.nextSetBit(501));
+        assertEquals(0, l.nextClearBit(0));
+        assertEquals(130, l.nextClearBit(60));
+        assertEquals(501, l.nextClearBit(500));
+        assertEquals(600, l.nextClearBit(600));
+
+        int count = 0;
+        for (int i = l.nextSetBit(0); i >= 0; i = l.nextSetBit(i + 1)) {
+            count++;
+        }
+        assertEquals(l.cardinality(), count);
+    }
+
+    /**
+     * Tests the equals() method.
+     */
+    public void testEquals() {
+        final BooleanBitList l1 = new BooleanBitList(true);
+        final BooleanBitList l2 = new BooleanBitList(true);
+        assertTrue(l1.equals(l2));
+        l1.setValue(0, Boolean.TRUE);
+        assertFalse(l1.equals(l2));
+        l2.setValue(0, Boolean.TRUE);
+        assertTrue(l1.equals(l2));
+        assertEquals(l1.hashCode(), l2.hashCode());
+        l1.setValue(1, Boolean.FALSE);
+        assertFalse(l1.equals(l2));
+        l2.setValue(1, null);
+        assertFalse(l1.equals(l2));
+        l2.setValue(1, Boolean.FALSE);
+        assertTrue(l1.equals(l2));
+
+        final BooleanBitList l3 = new BooleanBitList(false);
+        l3.setBoolean(0, true);
+        l3.setBoolean(1, false);
+        assertFalse(l1.equals(l3));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if the list cannot be cloned.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        final BooleanBitList l1 = new BooleanBitList(true);
+        l1.setValue(0, Boolean.TRUE);
+        l1.setValue(1, Boolean.FALSE);
+        l1.setValue(2, null);
+        final BooleanBitList l2 = (BooleanBitList) l1.clone();
+        assertTrue(l1 != l2);
+        assertTrue(l1.equals(l2));
+        l2.setValue(2, Boolean.TRUE);
+        assertFalse(l1.equals(l2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        final BooleanBitList l1 = new BooleanBitList(true);
+        l1.setValue(0, Boolean.TRUE);
+        l1.setValue(1, Boolean.FALSE);
+        l1.setValue(2, null);
+        l1.setValue(199, Boolean.TRUE);
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(l1);
+        out.close();
+
+        final ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        final BooleanBitList l2 = (BooleanBitList) in.readObject();
+        in.close();
+        assertEquals(l1, l2);
+        assertNull(l2.getValue(2));
+        l2.setValue(300, Boolean.TRUE);
+        assertTrue(l2.getBoolean(300));
+    }
+
+}
@@ -38,10 +38,15 @@
  * -------
  * 21-Feb-2004 : Initial version
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Added test for context log levels;
+ * 16-Oct-2026 : Added test for parameterized messages;
  */
 
 package org.jfree.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import junit.framework.TestCase;
 
 /**
@@ -135,4 +140,99 @@ public class LogTest extends TestCase {
         assertEquals("Context Test", ctx2, Log.createContext("Test"));
 
     }
+
+    /**
+     * Tests the log levels of log contexts.
+     */
+    public void testContextLevels() {
+        final List messages = new ArrayList();
+        final LogTarget recorder = new LogTargetImpl() {
+            public void log(final int level, final Object message) {
+                messages.add(message.toString());
+            }
+        };
+        final Log log = Log.getInstance();
+        final int saved = log.getDebuglevel();
+        log.addTarget(recorder);
+        try {
+            log.setDebuglevel(LogTarget.WARN);
+            final LogContext xml = Log.createContext("org.jfree.xml.Parser");
+            final LogContext xmlish = Log.createContext("org.jfree.xmlish");
+            final LogContext other = Log.createContext("org.jfree.ui.Align");
+            assertFalse(xml.isDebugEnabled());
+            assertTrue(xml.isWarningEnabled());
+
+            log.setContextLevel("org.jfree.xml", LogTarget.DEBUG);
+            assertTrue(xml.isDebugEnabled());
+            assertFalse(xmlish.isDebugEnabled());
+            assertFalse(other.isInfoEnabled());
+            xml.debug("A");
+            xmlish.debug("B");
+            other.debug("C");
+            other.warn("D");
+            assertEquals(2, messages.size());
+            assertEquals("org.jfree.xml.Parser:A", messages.get(0));
+            assertEquals("org.jfree.ui.Align:D", messages.get(1));
+
+            // a more specific level wins
+            log.setContextLevel("org.jfree.xml.Parser", LogTarget.ERROR);
+            assertFalse(xml.isWarningEnabled());
+            assertEquals(LogTarget.DEBUG,
+                    log.getEffectiveLevel("org.jfree.xml.Writer"));
+
+            log.removeContextLevel("org.jfree.xml.Parser");
+            log.removeContextLevel("org.jfree.xml");
+            assertFalse(xml.isDebugEnabled());
+            log.setDebuglevel(LogTarget.DEBUG);
+            assertTrue(other.isDebugEnabled());
+        }
+        finally {
+            log.removeTarget(recorder);
+            log.setDebuglevel(saved);
+        }
+    }
+
+    /**
+     * Tests the methods that take message parameters.
+     */
+    public void testParameterizedMessages() {
+        final List messages = new ArrayList();
+        final LogTarget recorder = new LogTargetImpl() {
+            public void log(final int level, final Object message) {
+                messages.add(message.toString());
+                if (messages.size() == 1) {
+                    // a target that logs must not disturb the message
+                    Log.info("nested {}", "message");
+                    messages.add(message.toString());
+                }
+            }
+        };
+        final Log log = Log.getInstance();
+        final int saved = log.getDebuglevel();
+        log.addTarget(recorder);
+        try {
+            log.setDebuglevel(LogTarget.INFO);
+            final LogContext ctx = Log.createContext("org.jfree.Params");
+            ctx.info("{} + {} = 3", new Integer(1), new Integer(2));
+            assertEquals(3, messages.size());
+            assertEquals("org.jfree.Params:1 + 2 = 3", messages.get(0));
+            assertEquals("nested message", messages.get(1));
+            assertEquals("org.jfree.Params:1 + 2 = 3", messages.get(2));
+
+            ctx.debug("hidden {}", "message");
+            Log.debug("hidden {}", "message");
+            assertEquals(3, messages.size());
+
+            Log.info("{} and {} {}", "one", "two");
+            Log.info("no placeholder", "ignored");
+            ctx.info("{}", (Object) null);
+            assertEquals("one and two {}", messages.get(3));
+            assertEquals("no placeholder", messages.get(4));
+            assertEquals("org.jfree.Params:null", messages.get(5));
+        }
+        finally {
+            log.removeTarget(recorder);
+            log.setDebuglevel(saved);
+        }
+    }
 }
@@ -37,12 +37,22 @@
  * Changes
  * -------
  * 29-Apr-2003 : Version 1 (DG);
+ * 16-Oct-2026 : Added tests for sparse storage;
+ * 17-Oct-2026 : Added testCopyRowPastEnd();
  *
  */
 
 package org.jfree.util;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -56,7 +66,7 @@ public class ObjectTableTest extends TestCase {
     /**
      * Basic object table.
      */
-    public class TObjectTable extends ObjectTable {
+    public static class TObjectTable extends ObjectTable {
 
         /**
          * Constructor.
@@ -65,6 +75,15 @@ public class ObjectTableTest extends TestCase {
             super();
         }
 
+        /**
+         * Creates a table with the specified storage policy.
+         *
+         * @param storagePolicy  the storage policy.
+         */
+        public TObjectTable(final int storagePolicy) {
+            super(5, 5, storagePolicy);
+        }
+
         /**
          * Returns the object from a particular cell in the table.
          * Returns null, if there is no object at the given position.
@@ -140,4 +159,169 @@ public class ObjectTableTest extends TestCase {
 
     }
 
+    /**
+     * A large table with few cells switches to sparse storage, and back to
+     * dense storage once it fills up.
+     */
+    public void testAutomaticStorage() {
+        final TObjectTable t = new TObjectTable();
+        t.setObject(0, 0, Color.red);
+        assertFalse(t.isSparse());
+        t.setObject(9999, 999, Color.blue);
+        assertTrue(t.isSparse());
+        assertEquals(10000, t.getRowCount());
+        assertEquals(1000, t.getColumnCount());
+        assertEquals(2, t.getCellCount());
+        assertEquals(Color.red, t.getObject(0, 0));
+        assertEquals(Color.blue, t.getObject(9999, 999));
+        assertNull(t.getObject(5000, 500));
+
+        final TObjectTable t2 = new TObjectTable();
+        for (int r = 0; r < 100; r++) {
+            t2.setObject(r, 99 - r, Color.green);
+        }
+        assertTrue(t2.isSparse());
+        for (int r = 0; r < 100; r++) {
+            for (int c = 0; c < 30; c++) {
+                t2.setObject(r, c, Color.yellow);
+            }
+        }
+        assertFalse(t2.isSparse());
+        assertEquals(Color.green, t2.getObject(0, 99));
+        assertEquals(Color.yellow, t2.getObject(99, 0));
+        assertEquals(3070, t2.getCellCount());
+    }
+
+    /**
+     * Tables with the same cells are equal, whatever their storage.
+     */
+    public void testEqualsAcrossStorage() {
+        final TObjectTable t1 = new TObjectTable(ObjectTable.STORAGE_DENSE);
+        final TObjectTable t2 = new TObjectTable(ObjectTable.STORAGE_SPARSE);
+        t1.setObject(3, 4, Color.red);
+        t2.setObject(3, 4, Color.red);
+        t1.setObject(20, 1, null);
+        t2.setObject(20, 1, null);
+        assertTrue(t1.equals(t2));
+        assertTrue(t2.equals(t1));
+        t2.setObject(0, 0, Color.blue);
+        assertFalse(t1.equals(t2));
+        assertFalse(t2.equals(t1));
+
+        t1.setStoragePolicy(ObjectTable.STORAGE_SPARSE);
+        t2.setStoragePolicy(ObjectTable.STORAGE_DENSE);
+        assertTrue(t1.isSparse());
+        assertFalse(t2.isSparse());
+        t1.setObject(0, 0, Color.blue);
+        assertTrue(t1.equals(t2));
+    }
+
+    /**
+     * Copying a row past the last row extends the table, and the copy
+     * survives a change of storage.
+     */
+    public void testCopyRowPastEnd() {
+        // sparse, then dense
+        TObjectTable t = new TObjectTable();
+        t.setObject(0, 0, Color.red);
+        t.setObject(9999, 999, Color.blue);
+        assertTrue(t.isSparse());
+        t.copyRow(0, 20000);
+        assertEquals(20001, t.getRowCount());
+        t.setStoragePolicy(ObjectTable.STORAGE_DENSE);
+        assertFalse(t.isSparse());
+        assertEquals(Color.red, t.getObject(20000, 0));
+        assertEquals(Color.blue, t.getObject(9999, 999));
+
+        // sparse, then dense by automatic switching
+        t = new TObjectTable();
+        t.setObject(0, 0, Color.red);
+        t.setObject(99, 99, Color.blue);
+        assertTrue(t.isSparse());
+        t.copyRow(0, 150);
+        for (int r = 0; r < 100; r++) {
+            for (int c = 0; c < 50; c++) {
+                t.setObject(r, c, Color.yellow);
+            }
+        }
+        assertFalse(t.isSparse());
+        assertEquals(Color.red, t.getObject(150, 0));
+
+        // dense, then sparse, then dense
+        t = new TObjectTable(ObjectTable.STORAGE_DENSE);
+        t.setObject(0, 0, Color.red);
+        t.copyRow(0, 30);
+        assertEquals(31, t.getRowCount());
+        t.setStoragePolicy(ObjectTable.STORAGE_SPARSE);
+        t.setStoragePolicy(ObjectTable.STORAGE_DENSE);
+        assertEquals(Color.red, t.getObject(30, 0));
+        assertEquals(2, t.getCellCount());
+    }
+
+    /**
+     * Sets and removes random cells in a sparse table and checks them against
+     * a map.
+     */
+    public void testSparseSetAndRemove() {
+        final TObjectTable t = new TObjectTable(ObjectTable.STORAGE_SPARSE);
+        final Map expected = new HashMap();
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final int row = random.nextInt(200);
+            final int column = random.nextInt(200);
+            final Integer value = random.nextInt(3) == 0 ? null
+                    : new Integer(i);
+            t.setObject(row, column, value);
+            final Long key = new Long(row * 1000L + column);
+            if (value == null) {
+                expected.remove(key);
+            }
+            else {
+                expected.put(key, value);
+            }
+        }
+        assertEquals(expected.size(), t.getCellCount());
+        final Iterator iterator = expected.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry entry = (Map.Entry) iterator.next();
+            final long key = ((Long) entry.getKey()).longValue();
+            assertEquals(entry.getValue(), t.getObject((int) (key / 1000),
+                    (int) (key % 1000)));
+        }
+        t.clear();
+        assertEquals(0, t.getCellCount());
+        assertEquals(0, t.getRowCount());
+        assertNull(t.getObject(1, 1));
+    }
+
+    /**
+     * Serialize sparse and dense tables, restore them, and check for
+     * equality.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        final int[] policies = {ObjectTable.STORAGE_DENSE,
+            ObjectTable.STORAGE_SPARSE};
+        for (int i = 0; i < policies.length; i++) {
+            final TObjectTable t1 = new TObjectTable(policies[i]);
+            t1.setObject(2, 3, Color.red);
+            t1.setObject(700, 50, Color.blue);
+
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final ObjectOutputStream out = new ObjectOutputStream(buffer);
+            out.writeObject(t1);
+            out.close();
+            final ObjectInputStream in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            final TObjectTable t2 = (TObjectTable) in.readObject();
+            in.close();
+            assertEquals(t1, t2);
+            assertEquals(t1.isSparse(), t2.isSparse());
+            assertEquals(Color.blue, t2.getObject(700, 50));
+            t2.setObject(800, 1, Color.green);
+            assertEquals(Color.green, t2.getObject(800, 1));
+        }
+    }
+
 }
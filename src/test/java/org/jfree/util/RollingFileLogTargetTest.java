@@ -0,0 +1,348 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * RollingFileLogTargetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.zip.GZIPInputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link RollingFileLogTarget} class.
+ */
+public class RollingFileLogTargetTest extends TestCase {
+
+    /** A directory for the log files. */
+    private File dir;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RollingFileLogTargetTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RollingFileLogTargetTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the directory for the log files.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.dir = File.createTempFile("jcommon-logtest", "");
+        this.dir.delete();
+        assertTrue(this.dir.mkdir());
+    }
+
+    /**
+     * Deletes the log files.
+     */
+    protected void tearDown() {
+        File[] files = this.dir.listFiles();
+        for (int i = 0; i < files.length; i++) {
+            files[i].delete();
+        }
+        this.dir.delete();
+    }
+
+    /**
+     * A target with a clock that is set by the test.
+     */
+    static class ClockedTarget extends RollingFileLogTarget {
+
+        /** The current time (zero while the constructor runs). */
+        long now;
+
+        /**
+         * Creates a new target.
+         *
+         * @param file  the file.
+         *
+         * @throws IOException if the file cannot be opened.
+         */
+        ClockedTarget(File file) throws IOException {
+            super(file);
+        }
+
+        /**
+         * Returns the time set by the test.
+         *
+         * @return The time.
+         */
+        long currentTimeMillis() {
+            return this.now;
+        }
+    }
+
+    /**
+     * Reads the lines of a (possibly compressed) log file.
+     *
+     * @param file  the file.
+     *
+     * @return The number of lines.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int countLines(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        if (file.getName().endsWith(".gz")) {
+            in = new GZIPInputStream(in);
+        }
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, "UTF-8"));
+        try {
+            int count = 0;
+            while (reader.readLine() != null) {
+                count++;
+            }
+            return count;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Messages are written as UTF-8 lines, with the stack trace of an
+     * exception.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWrite() throws IOException {
+        File file = new File(this.dir, "test.log");
+        RollingFileLogTarget target = new RollingFileLogTarget(file);
+        target.log(LogTarget.INFO, "Caf\u00e9");
+        target.log(LogTarget.DEBUG, new StringBuilder("builder"));
+        target.log(LogTarget.ERROR, "failed", new Exception("reason"));
+        target.close();
+        target.log(LogTarget.INFO, "ignored");
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), "UTF-8"));
+        try {
+            assertEquals("INFO:  Caf\u00e9", reader.readLine());
+            assertEquals("DEBUG: builder", reader.readLine());
+            assertEquals("ERROR: failed", reader.readLine());
+            assertEquals("java.lang.Exception: reason", reader.readLine());
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Messages at or above the flush level reach the file immediately.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testFlushLevel() throws IOException {
+        File file = new File(this.dir, "flush.log");
+        RollingFileLogTarget target = new RollingFileLogTarget(file);
+        target.setFlushInterval(0L);
+        target.log(LogTarget.INFO, "buffered");
+        assertEquals(0L, file.length());
+        target.log(LogTarget.WARN, "flushed");
+        assertEquals(2, countLines(file));
+        target.log(LogTarget.DEBUG, "buffered");
+        target.flush();
+        assertEquals(3, countLines(file));
+        target.close();
+    }
+
+    /**
+     * The file is rolled when it reaches the maximum size, and the rolled
+     * files are compressed.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testRollBySize() throws IOException {
+        File file = new File(this.dir, "size.log");
+        RollingFileLogTarget target = new RollingFileLogTarget(file);
+        target.setMaxFileSize(1000L);
+        target.setCompressRolledFiles(true);
+        for (int i = 0; i < 200; i++) {
+            target.log(LogTarget.INFO, "Message number " + i);
+        }
+        target.close();
+
+        File[] files = this.dir.listFiles();
+        assertTrue(files.length > 3);
+        int lines = 0;
+        for (int i = 0; i < files.length; i++) {
+            if (!files[i].equals(file)) {
+                assertTrue(files[i].getName().startsWith("size.log."));
+                assertTrue(files[i].getName().endsWith(".gz"));
+            }
+            lines += countLines(files[i]);
+        }
+        assertEquals(200, lines);
+    }
+
+    /**
+     * The file is rolled when the roll interval has passed.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testRollByTime() throws Exception {
+        File file = new File(this.dir, "time.log");
+        ClockedTarget target = new ClockedTarget(file);
+        target.setRollInterval(1000L);
+        target.now = 999L;
+        target.log(LogTarget.INFO, "first");
+        target.now = 1000L;
+        target.log(LogTarget.INFO, "second");
+        target.log(LogTarget.INFO, "third");
+        target.close();
+        File[] files = this.dir.listFiles();
+        assertEquals(2, files.length);
+        assertEquals(2, countLines(file));
+    }
+
+    /**
+     * Logs messages with <code>System.err</code> captured.
+     *
+     * @param target  the target.
+     * @param count  the number of messages.
+     *
+     * @return The text printed to <code>System.err</code>.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private String logCapturingErrors(RollingFileLogTarget target, int count)
+            throws IOException {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream saved = System.err;
+        System.setErr(new PrintStream(err, true, "UTF-8"));
+        try {
+            for (int i = 0; i < count; i++) {
+                target.log(LogTarget.WARN, "Message number " + i);
+            }
+            target.close();
+        }
+        finally {
+            System.setErr(saved);
+        }
+        return err.toString("UTF-8");
+    }
+
+    /**
+     * Counts the occurrences of a string.
+     *
+     * @param text  the text.
+     * @param s  the string to find.
+     *
+     * @return The count.
+     */
+    private static int count(String text, String s) {
+        int count = 0;
+        int index = text.indexOf(s);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(s, index + s.length());
+        }
+        return count;
+    }
+
+    /**
+     * If the file cannot be renamed, messages are appended to it and the
+     * error is reported once.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testRenameFailure() throws IOException {
+        File file = new File(this.dir, "rename.log");
+        RollingFileLogTarget target = new RollingFileLogTarget(file);
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            b.append("0123456789");
+        }
+        target.log(LogTarget.WARN, b);
+        target.setMaxFileSize(file.length());
+        // the next message rolls the file, but there is no file to rename
+        assertTrue(file.delete());
+        String err = logCapturingErrors(target, 10);
+        assertEquals(1, count(err, "Unable to rename"));
+        assertFalse(target.isFailed());
+        assertEquals(1, this.dir.listFiles().length);
+        assertEquals(10, countLines(file));
+    }
+
+    /**
+     * If the file cannot be reopened after a roll, later messages are
+     * ignored and the error is reported once.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testReopenFailure() throws IOException {
+        File sub = new File(this.dir, "sub");
+        assertTrue(sub.mkdir());
+        File file = new File(sub, "reopen.log");
+        RollingFileLogTarget target = new RollingFileLogTarget(file);
+        target.setMaxFileSize(1L);
+        target.log(LogTarget.WARN, "first");
+        assertTrue(file.delete());
+        assertTrue(sub.delete());
+        String err = logCapturingErrors(target, 10);
+        assertTrue(target.isFailed());
+        assertEquals(1, count(err, "Exception:"));
+        assertEquals(0, count(err, "ClosedChannelException"));
+    }
+
+}
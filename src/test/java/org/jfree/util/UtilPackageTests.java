@@ -40,6 +40,9 @@
  * 08-Oct-2004 : Added tests for UnitType class (DG);
  * 26-Oct-2004 : Added tests for ShapeUtilities class (DG);
  * 17-Jun-2008 : Added tests for ShapeList class (DG);
+ * 16-Oct-2026 : Added tests for BooleanBitList class;
+ * 16-Oct-2026 : Added tests for AsyncLogTarget class;
+ * 16-Oct-2026 : Added tests for RollingFileLogTarget class;
  *
  */
 
@@ -64,12 +67,15 @@ public class UtilPackageTests extends TestCase {
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.util");
         suite.addTestSuite(ArrayUtilitiesTest.class);
+        suite.addTestSuite(AsyncLogTargetTest.class);
+        suite.addTestSuite(BooleanBitListTest.class);
         suite.addTestSuite(BooleanListTest.class);
         suite.addTestSuite(ObjectListTest.class);
         suite.addTestSuite(ObjectTableTest.class);
         suite.addTestSuite(ObjectUtilitiesTest.class);
         suite.addTestSuite(PaintListTest.class);
         suite.addTestSuite(PaintUtilitiesTest.class);
+        suite.addTestSuite(RollingFileLogTargetTest.class);
         suite.addTestSuite(RotationTest.class);
         suite.addTestSuite(ShapeListTest.class);
         suite.addTestSuite(ShapeUtilitiesTest.class);
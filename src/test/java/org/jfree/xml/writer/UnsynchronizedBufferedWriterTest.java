@@ -0,0 +1,154 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------------
+ * UnsynchronizedBufferedWriterTest.java
+ * -------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link UnsynchronizedBufferedWriter} class.
+ */
+public class UnsynchronizedBufferedWriterTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(UnsynchronizedBufferedWriterTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public UnsynchronizedBufferedWriterTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Writes of every size, across the end of the buffer, reach the
+     * underlying writer in order.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWrite() throws IOException {
+        StringWriter out = new StringWriter();
+        UnsynchronizedBufferedWriter writer
+                = new UnsynchronizedBufferedWriter(out);
+        StringBuilder expected = new StringBuilder();
+        int size = UnsynchronizedBufferedWriter.DEFAULT_BUFFER_SIZE;
+        int[] lengths = {1, 7, size - 1, size, size + 1, 3 * size, 100};
+        for (int i = 0; i < lengths.length; i++) {
+            StringBuilder b = new StringBuilder();
+            for (int j = 0; j < lengths[i]; j++) {
+                b.append((char) ('a' + (i + j) % 26));
+            }
+            String s = b.toString();
+            writer.write(s);
+            writer.write(s.toCharArray(), 0, s.length());
+            writer.write(s, 1, s.length() - 1);
+            writer.write('|');
+            expected.append(s).append(s).append(s.substring(1)).append('|');
+        }
+        writer.flush();
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    /**
+     * Every write method throws an exception once the writer is closed.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWriteAfterClose() throws IOException {
+        StringWriter out = new StringWriter();
+        UnsynchronizedBufferedWriter writer
+                = new UnsynchronizedBufferedWriter(out);
+        writer.write("text");
+        writer.close();
+        assertEquals("text", out.toString());
+        writer.close();
+        try {
+            writer.write('x');
+            fail("write(int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer.write(new char[] {'x'}, 0, 1);
+            fail("write(char[], int, int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer.write("x");
+            fail("write(String) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer.write("x", 0, 1);
+            fail("write(String, int, int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer.flush();
+            fail("flush() after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        assertEquals("text", out.toString());
+    }
+
+}
@@ -0,0 +1,273 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * Utf8ByteWriterTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.channels.Channels;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link Utf8ByteWriter} class.
+ */
+public class Utf8ByteWriterTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(Utf8ByteWriterTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public Utf8ByteWriterTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Returns text that is longer than the character buffer and encodes to
+     * more than the byte buffer, with the given sample at every offset
+     * around the end of the character buffer.
+     *
+     * @param sample  the sample.
+     *
+     * @return The text.
+     */
+    private static String createText(String sample) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            while (b.length() < (i + 1) * Utf8ByteWriter.CHAR_BUFFER_SIZE
+                    - 2 + i) {
+                b.append('x');
+            }
+            b.append(sample);
+        }
+        while (b.length() < Utf8ByteWriter.BYTE_BUFFER_SIZE) {
+            b.append(sample).append('y');
+        }
+        return b.toString();
+    }
+
+    /**
+     * Returns the samples: ASCII, BMP and supplementary characters and
+     * unpaired surrogates.
+     *
+     * @return The samples.
+     */
+    private static String[] createSamples() {
+        return new String[] {
+            "ascii",
+            "\u00e9\u20ac\u4e2d",
+            "\ud83d\ude00",
+            "a\ud83d\ude00\ud834\udd1eb",
+            "\ud800x",
+            "\udc00",
+            "\udc00\ud800",
+            "\ud800",
+        };
+    }
+
+    /**
+     * Returns the expected bytes.
+     *
+     * @param s  the text.
+     *
+     * @return The bytes.
+     *
+     * @throws UnsupportedEncodingException never.
+     */
+    private static byte[] utf8(String s) throws UnsupportedEncodingException {
+        return s.getBytes("UTF-8");
+    }
+
+    /**
+     * Checks that two byte arrays are equal.
+     *
+     * @param message  the message.
+     * @param expected  the expected bytes.
+     * @param actual  the actual bytes.
+     */
+    private static void assertBytes(String message, byte[] expected,
+            byte[] actual) {
+        assertEquals(message, expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i]) {
+                fail(message + ": bytes differ at " + i);
+            }
+        }
+    }
+
+    /**
+     * The text written with each write method is encoded as by
+     * <code>String.getBytes("UTF-8")</code>.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncoding() throws IOException {
+        String[] samples = createSamples();
+        for (int i = 0; i < samples.length; i++) {
+            String s = createText(samples[i]);
+            byte[] expected = utf8(s);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Utf8ByteWriter writer = new Utf8ByteWriter(out);
+            writer.write(s);
+            writer.close();
+            assertBytes("write(String) " + i, expected, out.toByteArray());
+
+            out = new ByteArrayOutputStream();
+            writer = new Utf8ByteWriter(out);
+            writer.write(s.toCharArray(), 0, s.length());
+            writer.close();
+            assertBytes("write(char[]) " + i, expected, out.toByteArray());
+
+            out = new ByteArrayOutputStream();
+            writer = new Utf8ByteWriter(out);
+            for (int j = 0; j < s.length(); j++) {
+                writer.write(s.charAt(j));
+            }
+            writer.close();
+            assertBytes("write(int) " + i, expected, out.toByteArray());
+
+            // uneven pieces, with a flush after each one
+            out = new ByteArrayOutputStream();
+            writer = new Utf8ByteWriter(Channels.newChannel(out));
+            int start = 0;
+            int piece = 1;
+            while (start < s.length()) {
+                int len = Math.min(piece, s.length() - start);
+                writer.write(s, start, len);
+                writer.flush();
+                start += len;
+                piece = piece * 3 + 1;
+            }
+            writer.close();
+            assertBytes("channel " + i, expected, out.toByteArray());
+        }
+    }
+
+    /**
+     * Every write method throws an exception once the writer is closed,
+     * and does not touch the buffers that a later writer on the same thread
+     * has taken over.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWriteAfterClose() throws IOException {
+        ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+        Utf8ByteWriter writer1 = new Utf8ByteWriter(out1);
+        writer1.write("first");
+        writer1.close();
+        writer1.close();
+        assertEquals("first", out1.toString("UTF-8"));
+
+        // takes over the buffers of writer1
+        ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+        Utf8ByteWriter writer2 = new Utf8ByteWriter(out2);
+        writer2.write("second");
+        try {
+            writer1.write('x');
+            fail("write(int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer1.write(new char[] {'x'}, 0, 1);
+            fail("write(char[], int, int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer1.write("x");
+            fail("write(String) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer1.write("", 0, 0);
+            fail("write(String, int, int) after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        try {
+            writer1.flush();
+            fail("flush() after close.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        writer2.close();
+        assertEquals("first", out1.toString("UTF-8"));
+        assertEquals("second", out2.toString("UTF-8"));
+    }
+
+    /**
+     * The XMLWriter constructors for streams and channels write UTF-8.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testXMLWriter() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLWriter writer = new XMLWriter(out, "  ");
+        writer.writeTag("text", XMLWriterSupport.OPEN);
+        writer.writeNormalizedText("caf\u00e9 & \ud83d\ude00");
+        writer.writeCloseTag("text");
+        writer.close();
+        assertEquals("<text>caf\u00e9 &amp; \ud83d\ude00</text>",
+                out.toString("UTF-8").trim());
+    }
+
+}
@@ -0,0 +1,180 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * XMLWriterSupportTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link XMLWriterSupport} class.
+ */
+public class XMLWriterSupportTest extends TestCase {
+
+    /** Strings with and without characters that need escaping. */
+    private static final String[] SAMPLES = {
+        "",
+        "plain text",
+        "a & b < c > d \" e ' f",
+        "&<>\"'",
+        "line\r\nline",
+        "line\n\nline",
+        "\nleading",
+        "\n",
+        "\r\n\r\n",
+        "\r\n\n\r\n",
+        "trailing\n",
+        "\"quoted\"\n<tag attr='x'>&amp;</tag>\r\n",
+        "caf\u00e9 \ud83d\ude00 \n&",
+    };
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XMLWriterSupportTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XMLWriterSupportTest(String name) {
+        super(name);
+    }
+
+    /**
+     * The normalize() method as it was before writeNormalized() was added.
+     *
+     * @param s  the string.
+     *
+     * @return The normalized string.
+     */
+    private static String oldNormalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        StringBuffer str = new StringBuffer();
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '<':
+                    str.append("&lt;");
+                    break;
+                case '>':
+                    str.append("&gt;");
+                    break;
+                case '&':
+                    str.append("&amp;");
+                    break;
+                case '"':
+                    str.append("&quot;");
+                    break;
+                case '\n':
+                    if (i > 0) {
+                        char lastChar = str.charAt(str.length() - 1);
+                        if (lastChar != '\r') {
+                            str.append(XMLWriterSupport.getLineSeparator());
+                        }
+                        else {
+                            str.append('\n');
+                        }
+                    }
+                    else {
+                        str.append(XMLWriterSupport.getLineSeparator());
+                    }
+                    break;
+                default:
+                    str.append(ch);
+            }
+        }
+        return str.toString();
+    }
+
+    /**
+     * Checks that normalize() gives the same result as before.
+     */
+    public void testNormalize() {
+        for (int i = 0; i < SAMPLES.length; i++) {
+            assertEquals(SAMPLES[i], oldNormalize(SAMPLES[i]),
+                    XMLWriterSupport.normalize(SAMPLES[i]));
+        }
+        assertEquals("", XMLWriterSupport.normalize(null));
+        assertEquals("&amp;&lt;&gt;&quot;'",
+                XMLWriterSupport.normalize("&<>\"'"));
+    }
+
+    /**
+     * Checks that writeNormalized() writes the same text as the old
+     * normalize() method returned, including for strings that are split
+     * into several writes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWriteNormalized() throws IOException {
+        for (int i = 0; i < SAMPLES.length; i++) {
+            StringWriter w = new StringWriter();
+            XMLWriterSupport.writeNormalized(w, SAMPLES[i]);
+            assertEquals(SAMPLES[i], oldNormalize(SAMPLES[i]), w.toString());
+        }
+        // every pair of samples, so that each one follows each other one
+        for (int i = 0; i < SAMPLES.length; i++) {
+            for (int j = 0; j < SAMPLES.length; j++) {
+                String s = SAMPLES[i] + SAMPLES[j];
+                StringWriter w = new StringWriter();
+                XMLWriterSupport.writeNormalized(w, s);
+                assertEquals(s, oldNormalize(s), w.toString());
+            }
+        }
+        StringWriter w = new StringWriter();
+        XMLWriterSupport.writeNormalized(w, null);
+        assertEquals("", w.toString());
+    }
+
+}
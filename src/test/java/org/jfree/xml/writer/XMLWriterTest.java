@@ -0,0 +1,152 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * XMLWriterTest.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Properties;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link XMLWriter} class.
+ */
+public class XMLWriterTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XMLWriterTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XMLWriterTest(String name) {
+        super(name);
+    }
+
+    /**
+     * Writes a document with every kind of tag and text, long enough to
+     * fill the buffer of a buffered writer several times.
+     *
+     * @param writer  the writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeDocument(XMLWriter writer) throws IOException {
+        writer.writeXmlDeclaration();
+        writer.writeTag("root", XMLWriterSupport.OPEN);
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longText.append("text & <more> \"text\"\n");
+        }
+        for (int i = 0; i < 500; i++) {
+            AttributeList attributes = writer.getAttributeBuffer();
+            attributes.setAttribute("x", String.valueOf(i));
+            attributes.setAttribute("label", "a < b & \"c\"");
+            writer.writeTag("point", attributes, XMLWriterSupport.CLOSE);
+            writer.writeTag("item", "name", "n" + i, XMLWriterSupport.OPEN);
+            writer.writeNormalizedText("value\r\n" + i + " > 0");
+            writer.writeCloseTag("item");
+            writer.writeTag("empty", XMLWriterSupport.CLOSE);
+        }
+        Properties properties = new Properties();
+        properties.setProperty("key", "value");
+        writer.writeTag("properties", properties, XMLWriterSupport.OPEN);
+        writer.writeNormalizedText(longText.toString());
+        writer.writeText("<![CDATA[raw]]>");
+        writer.writeCloseTag("properties");
+        writer.writeCloseTag("root");
+    }
+
+    /**
+     * A buffered writer produces the same output as an unbuffered one, once
+     * it has been flushed.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testBufferedOutput() throws IOException {
+        StringWriter unbuffered = new StringWriter();
+        XMLWriter writer = new XMLWriter(unbuffered, "  ");
+        writeDocument(writer);
+
+        StringWriter buffered = new StringWriter();
+        writer = new XMLWriter(buffered, "  ", true);
+        writeDocument(writer);
+        assertTrue(buffered.getBuffer().length()
+                < unbuffered.getBuffer().length());
+        writer.flush();
+        assertEquals(unbuffered.toString(), buffered.toString());
+    }
+
+    /**
+     * Closing a buffered writer writes the rest of the output, and later
+     * writes fail.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testBufferedClose() throws IOException {
+        StringWriter out = new StringWriter();
+        XMLWriter writer = new XMLWriter(out, "  ", true);
+        writer.writeTag("root", XMLWriterSupport.CLOSE);
+        assertEquals(0, out.getBuffer().length());
+        writer.close();
+        assertEquals("<root/>", out.toString().trim());
+        try {
+            writer.writeText("more");
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+        assertEquals("<root/>", out.toString().trim());
+    }
+
+}